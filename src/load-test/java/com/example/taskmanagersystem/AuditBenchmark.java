@@ -0,0 +1,114 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.audit.AuditAction;
+import com.example.taskmanagersystem.audit.AuditLog;
+import com.example.taskmanagersystem.audit.AuditLogReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of publishing mutations to the {@link AuditLog}.
+ * <p>
+ * For each number of publisher threads, every publisher publishes status changes as fast as it can while
+ * the writer thread appends them to the segment files. The publish latency is the time a request thread spends
+ * in {@code publishNow}; the report also gives the throughput, the records dropped because the writer fell
+ * behind, and the records replayed from the segments once the log is shut down.
+ * </p>
+ * Run with {@code mvn -Pload-test test -Dtest=AuditBenchmark};
+ * {@code auditbench.records} and {@code auditbench.publishers} size the run,
+ * and the report is written to {@code auditbench.report}.
+ */
+public class AuditBenchmark {
+
+    private static final int RECORDS = Integer.getInteger("auditbench.records", 2_000_000);
+    private static final String PUBLISHERS = System.getProperty("auditbench.publishers", "1,4");
+    private static final String REPORT = System.getProperty("auditbench.report", "target/load-test/audit.json");
+    private static final Path DIRECTORY = Path.of("target/load-test/audit");
+
+    @Test
+    void auditBenchmark() throws Exception {
+        //given
+        List<Integer> publishers = Arrays.stream(PUBLISHERS.split(",")).map(Integer::valueOf).toList();
+
+        //when
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (int threads : publishers) {
+            run(threads, RECORDS / 10);
+            results.put(threads + " publishers", run(threads, RECORDS));
+        }
+
+        //then
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("records", RECORDS);
+        report.put("runs", results);
+        File file = new File(REPORT);
+        file.getParentFile().mkdirs();
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(file, report);
+        System.out.println(mapper.writeValueAsString(report));
+        for (Object result : results.values()) {
+            Assertions.assertTrue((Double) ((Map<?, ?>) result).get("p50Us") < 1.0, "publish p50 is not sub-microsecond");
+        }
+    }
+
+
+    /**
+     * Publishes the records from the given number of threads into an empty log.
+     */
+    private Map<String, Object> run(int threads, int records) throws Exception {
+        FileSystemUtils.deleteRecursively(DIRECTORY);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuditLog auditLog = new AuditLog(meterRegistry, DIRECTORY.toString(), 64 << 20, 64, 65536, 1000L);
+        Histogram histogram = new ConcurrentHistogram(TimeUnit.SECONDS.toNanos(1), 3);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String actor = "user" + t + "@gmail.com";
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < records / threads; i++) {
+                    long begin = System.nanoTime();
+                    auditLog.publishNow(AuditAction.EDIT_STATUS, actor, "task" + (i & 1023), "PENDING>IN_PROGRESS");
+                    histogram.recordValue(System.nanoTime() - begin);
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        executor.shutdown();
+        auditLog.shutdown();
+
+        long published = (long) (records / threads) * threads;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("published", published);
+        result.put("dropped", (long) meterRegistry.get("audit.records.dropped").counter().count());
+        result.put("replayed", AuditLogReader.replay(DIRECTORY, record -> { }));
+        result.put("throughputPerSecond", Math.round(published / seconds));
+        result.put("p50Us", micros(histogram, 50));
+        result.put("p99Us", micros(histogram, 99));
+        result.put("p999Us", micros(histogram, 99.9));
+        result.put("maxUs", histogram.getMaxValue() / 1000.0);
+        return result;
+    }
+
+    private static double micros(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.sql.Connection;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contention benchmark of claiming pending tasks.
+ * <p>
+ * Boots the application against an embedded Postgres seeded by the {@link DataGenerator}, with half of the
+ * pending tasks unassigned so that all claimers compete for them. A number of claimers, each a thread logged in
+ * as a generated user, then take tasks until none is left, first by reading the top pending task and changing
+ * its status, as executors did before, then with {@code claimNextTask}. Between the two runs the tasks are set
+ * pending again. For each strategy the report gives the throughput, the latency percentiles and the number of
+ * tasks taken by more than one claimer.
+ * </p>
+ * Run with {@code mvn -Pload-test test -Dtest=ClaimBenchmark}; {@code claimbench.claimers},
+ * {@code claimbench.tasks} and {@code claimbench.pool-size} size the run, and the report is written
+ * to {@code claimbench.report}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class ClaimBenchmark {
+
+    private static final int CLAIMERS = Integer.getInteger("claimbench.claimers", 200);
+    private static final int TASKS = Integer.getInteger("claimbench.tasks", 20000);
+    private static final int POOL_SIZE = Integer.getInteger("claimbench.pool-size", 50);
+    private static final String REPORT = System.getProperty("claimbench.report", "target/load-test/claim.json");
+    private static final String ADMIN = "User1@gmail.com";
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> POOL_SIZE);
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start embedded Postgres", e);
+        }
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    void claimBenchmark() throws Exception {
+        //given
+        DataGenerator generator = seed();
+        jdbcTemplate.update("update tasks set executor_id = null where status = 'PENDING' and id % 2 = 0");
+        List<Long> pending = jdbcTemplate.queryForList("select id from tasks where status = 'PENDING'", Long.class);
+        List<String> claimers = jdbcTemplate.queryForList("select email from users where id >= ? order by id limit ?",
+                String.class, generator.getFirstUserId(), CLAIMERS);
+
+        //when
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("readThenEditStatus", run(claimers, this::readThenEditStatus));
+        jdbcTemplate.update("update tasks set status = 'PENDING' where id = any(?)", (Object) pending.toArray(new Long[0]));
+        Map<String, Object> claim = run(claimers, email -> taskService.claimNextTask(email).map(TaskResponseDto::getTitle));
+        results.put("claimNextTask", claim);
+
+        //then
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("claimers", claimers.size());
+        report.put("tasks", TASKS);
+        report.put("pendingTasks", pending.size());
+        report.put("poolSize", POOL_SIZE);
+        report.put("strategies", results);
+        File file = new File(REPORT);
+        file.getParentFile().mkdirs();
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(file, report);
+        System.out.println(mapper.writeValueAsString(report));
+        Assertions.assertEquals(0L, claim.get("duplicates"));
+    }
+
+
+    private DataGenerator seed() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            DataGenerator generator = new DataGenerator(connection, 42, passwordEncoder.encode(DataGenerator.PASSWORD));
+            generator.generate(Math.max(CLAIMERS, 1000), TASKS, 0);
+            return generator;
+        }
+    }
+
+    /**
+     * Takes a task the way executors did before claims: reads the top pending task, then sets it in progress.
+     */
+    private Optional<String> readThenEditStatus(String email) {
+        long executorId = jdbcTemplate.queryForObject("select id from users where email = ?", Long.class, email);
+        List<String> top = jdbcTemplate.queryForList("""
+                select title from tasks
+                where status = 'PENDING' and (executor_id is null or executor_id = ?)
+                order by case priority when 'HIGH' then 0 when 'MEDIUM' then 1 else 2 end, id
+                limit 1""", String.class, executorId);
+        if (top.isEmpty()) {
+            return Optional.empty();
+        }
+        taskService.editStatus(top.get(0), Status.IN_PROGRESS, ADMIN);
+        return Optional.of(top.get(0));
+    }
+
+    /**
+     * Runs one thread per claimer taking tasks until none is left for it.
+     */
+    private Map<String, Object> run(List<String> claimers, Claimer claimer) throws Exception {
+        Histogram histogram = new ConcurrentHistogram(3);
+        Map<String, LongAdder> taken = new ConcurrentHashMap<>();
+        LongAdder errors = new LongAdder();
+        ExecutorService executor = Executors.newFixedThreadPool(claimers.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (String email : claimers) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                while (true) {
+                    long begin = System.nanoTime();
+                    Optional<String> title;
+                    try {
+                        title = claimer.claim(email);
+                    } catch (RuntimeException e) {
+                        errors.increment();
+                        continue;
+                    }
+                    histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin));
+                    if (title.isEmpty()) {
+                        return null;
+                    }
+                    taken.computeIfAbsent(title.get(), key -> new LongAdder()).increment();
+                }
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+        executor.shutdown();
+
+        long claims = taken.values().stream().mapToLong(LongAdder::sum).sum();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("claims", claims);
+        result.put("tasksTaken", taken.size());
+        result.put("duplicates", claims - taken.size());
+        result.put("errors", errors.sum());
+        result.put("seconds", round(seconds));
+        result.put("throughputPerSecond", round(taken.size() / seconds));
+        result.put("p50Ms", millis(histogram, 50));
+        result.put("p99Ms", millis(histogram, 99));
+        result.put("maxMs", round(histogram.getMaxValue() / 1000.0));
+        return result;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+
+    /**
+     * One way of taking the next task.
+     */
+    @FunctionalInterface
+    private interface Claimer {
+
+        /**
+         * Takes the next task for the executor.
+         *
+         * @return the title of the taken task, or an empty {@link Optional} if there is none left
+         */
+        Optional<String> claim(String email);
+    }
+}
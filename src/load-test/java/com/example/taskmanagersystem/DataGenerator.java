@@ -0,0 +1,402 @@
+package com.example.taskmanagersystem;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * Generator of large benchmark datasets.
+ * <p>
+ * Rows are streamed into Postgres with {@code COPY}, so tens of millions of rows load in minutes.
+ * The data follows skewed, realistic distributions:
+ * </p>
+ * <ul>
+ *     <li>executors are Zipf-distributed over the users, so a few users execute most tasks;</li>
+ *     <li>authors are a small group of users;</li>
+ *     <li>statuses and priorities follow a fixed mix;</li>
+ *     <li>tasks are created over two years, wait exponentially long before they are started and take exponentially
+ *     long to complete, so completed tasks carry the completion time the archive job selects them by,
+ *     and their status changes are written to the status history the cycle times are measured from;</li>
+ *     <li>descriptions are long, up to the column limit;</li>
+ *     <li>comment counts per task are Zipf-distributed, so a few tasks have thousands of comments and most have few.</li>
+ * </ul>
+ * <p>
+ * Every table is drawn from its own random stream derived from one seed, so the same seed and sizes
+ * always produce the same rows. Ids continue after the existing rows, and names are derived from ids,
+ * so the generator can be run against a database that already holds data.
+ * </p>
+ * Run against a migrated database:
+ * <pre>
+ * mvn -Pload-test test-compile exec:java -Dexec.classpathScope=test
+ *     -Dexec.mainClass=com.example.taskmanagersystem.DataGenerator
+ *     -Dgenerator.url=jdbc:postgresql://localhost:5432/postgres -Dgenerator.tasks=10000000 -Dgenerator.comments=50000000
+ * </pre>
+ */
+public class DataGenerator {
+
+    /** The password of every generated user. */
+    public static final String PASSWORD = "password";
+
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+    private static final double[] STATUS_WEIGHTS = {0.3, 0.2, 0.5};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+    private static final double[] PRIORITY_WEIGHTS = {0.5, 0.35, 0.15};
+    private static final String[] WORDS = {"deploy", "review", "customer", "report", "migrate", "database", "fix",
+            "release", "investigate", "latency", "update", "design", "document", "billing", "integration", "test",
+            "security", "onboarding", "refactor", "dashboard", "invoice", "backlog", "sprint", "incident"};
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final long EPOCH_DAY_FROM = LocalDate.of(2023, 1, 1).toEpochDay();
+    private static final LocalDateTime CREATED_FROM = LocalDate.ofEpochDay(EPOCH_DAY_FROM).atStartOfDay();
+    private static final long MEAN_WAIT_SECONDS = 86400;
+    private static final long MEAN_WORK_SECONDS = 3 * 86400;
+    private static final String NULL = "\\N";
+    private static final int TASK_CHUNK = 100_000;
+
+    private final Connection connection;
+    private final long seed;
+    private final String passwordHash;
+
+    private long firstUserId;
+    private long firstTaskId;
+    private int users;
+    private int tasks;
+
+
+    /**
+     * Constructor for initializing the generator.
+     *
+     * @param connection   the connection to load the rows through
+     * @param seed         the seed of all random choices
+     * @param passwordHash the password hash stored for every generated user
+     */
+    public DataGenerator(Connection connection, long seed, String passwordHash) {
+        this.connection = connection;
+        this.seed = seed;
+        this.passwordHash = passwordHash;
+    }
+
+
+    /**
+     * Generates the dataset with the sizes given as {@code generator.*} system properties.
+     *
+     * @param args not used
+     * @throws SQLException if loading the rows fails
+     */
+    public static void main(String[] args) throws SQLException {
+        String url = System.getProperty("generator.url", "jdbc:postgresql://localhost:5432/postgres");
+        String username = System.getProperty("generator.username", "postgres");
+        String password = System.getProperty("generator.password", "postgres");
+        int users = Integer.getInteger("generator.users", 100000);
+        int tasks = Integer.getInteger("generator.tasks", 10000000);
+        int comments = Integer.getInteger("generator.comments", 50000000);
+        long seed = Long.getLong("generator.seed", 42);
+
+        try (Connection connection = DriverManager.getConnection(url, username, password)) {
+            long start = System.nanoTime();
+            new DataGenerator(connection, seed, new BCryptPasswordEncoder().encode(PASSWORD)).generate(users, tasks, comments);
+            System.out.printf("Generated %d users, %d tasks and %d comments in %d s%n",
+                    users, tasks, comments, (System.nanoTime() - start) / 1_000_000_000);
+        }
+    }
+
+    /**
+     * Generates the users, their roles, the tasks with their status history and the comments.
+     *
+     * @param users    the number of users
+     * @param tasks    the number of tasks
+     * @param comments the number of comments
+     * @throws SQLException if loading the rows fails
+     */
+    public void generate(int users, int tasks, int comments) throws SQLException {
+        this.users = users;
+        this.tasks = tasks;
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("set synchronous_commit = off");
+        }
+        generateUsers();
+        generateTasks();
+        generateComments(comments);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("reset synchronous_commit");
+            statement.execute("analyze users, user_roles, tasks, task_status_history, comments, tasks_comments");
+        }
+    }
+
+    /**
+     * Returns the id of the first generated user.
+     *
+     * @return the user id
+     */
+    public long getFirstUserId() {
+        return firstUserId;
+    }
+
+    /**
+     * Returns the id of the first generated task.
+     *
+     * @return the task id
+     */
+    public long getFirstTaskId() {
+        return firstTaskId;
+    }
+
+
+    private void generateUsers() throws SQLException {
+        firstUserId = nextId("users");
+        long roleId = queryLong("select id from roles where name = 'USER'");
+
+        Copy copy = new Copy("copy users (id, email, password, username) from stdin");
+        for (long id = firstUserId; id < firstUserId + users; id++) {
+            copy.field(id).field("u" + id + "@gen.test").field(passwordHash).lastField("u" + id);
+        }
+        copy.end();
+
+        copy = new Copy("copy user_roles (user_id, role_id) from stdin");
+        for (long id = firstUserId; id < firstUserId + users; id++) {
+            copy.field(id).lastField(roleId);
+        }
+        copy.end();
+        restartIdentity("users", firstUserId + users);
+    }
+
+    private void generateTasks() throws SQLException {
+        firstTaskId = nextId("tasks");
+        SplittableRandom random = new SplittableRandom(seed);
+        SplittableRandom timeRandom = new SplittableRandom(seed + 3);
+        ZipfSampler executors = new ZipfSampler(users, 1.1);
+        int authors = Math.max(1, users / 20);
+
+        StringBuilder history = new StringBuilder();
+        for (long from = firstTaskId; from < firstTaskId + tasks; from += TASK_CHUNK) {
+            Copy copy = new Copy("copy tasks (id, title, description, status, priority, author_id, executor_id, completed_at) from stdin");
+            for (long id = from; id < Math.min(from + TASK_CHUNK, firstTaskId + tasks); id++) {
+                String description = text(random, 80, MAX_TEXT_LENGTH);
+                String status = pick(random, STATUSES, STATUS_WEIGHTS);
+                String priority = pick(random, PRIORITIES, PRIORITY_WEIGHTS);
+                long authorId = firstUserId + random.nextInt(authors);
+                long executorId = firstUserId + scatter(executors.sample(random), users);
+                LocalDateTime createdAt = CREATED_FROM.plusSeconds(timeRandom.nextLong(730 * 86400L));
+                LocalDateTime startedAt = createdAt.plusSeconds(exponential(timeRandom, MEAN_WAIT_SECONDS));
+                LocalDateTime completedAt = startedAt.plusSeconds(exponential(timeRandom, MEAN_WORK_SECONDS));
+                copy.field(id)
+                        .field("t" + id)
+                        .field(description)
+                        .field(status)
+                        .field(priority)
+                        .field(authorId)
+                        .field(executorId)
+                        .lastField(status.equals("COMPLETED") ? completedAt : NULL);
+
+                historyRow(history, id, NULL, "PENDING", priority, executorId, createdAt);
+                if (!status.equals("PENDING")) {
+                    historyRow(history, id, "PENDING", "IN_PROGRESS", priority, executorId, startedAt);
+                }
+                if (status.equals("COMPLETED")) {
+                    historyRow(history, id, "IN_PROGRESS", "COMPLETED", priority, executorId, completedAt);
+                }
+            }
+            copy.end();
+
+            // one COPY at a time per connection, so the history of each chunk follows its tasks
+            copy = new Copy("copy task_status_history (task_id, from_status, to_status, priority, executor_id, changed_at) from stdin");
+            copy.rows(history);
+            copy.end();
+            history.setLength(0);
+        }
+        restartIdentity("tasks", firstTaskId + tasks);
+    }
+
+    private void generateComments(int comments) throws SQLException {
+        long firstCommentId = nextId("comments");
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        ZipfSampler authors = new ZipfSampler(users, 1.1);
+
+        Copy copy = new Copy("copy comments (id, date, text, author_id) from stdin");
+        for (long id = firstCommentId; id < firstCommentId + comments; id++) {
+            copy.field(id)
+                    .field(LocalDate.ofEpochDay(EPOCH_DAY_FROM + random.nextInt(730)).toString())
+                    .field(text(random, 10, 200))
+                    .lastField(firstUserId + scatter(authors.sample(random), users));
+        }
+        copy.end();
+        restartIdentity("comments", firstCommentId + comments);
+
+        random = new SplittableRandom(seed + 2);
+        ZipfSampler tasksByComments = new ZipfSampler(tasks, 0.8);
+        copy = new Copy("copy tasks_comments (task_entity_id, comments_id) from stdin");
+        for (long id = firstCommentId; id < firstCommentId + comments; id++) {
+            copy.field(firstTaskId + scatter(tasksByComments.sample(random), tasks)).lastField(id);
+        }
+        copy.end();
+    }
+
+    private static void historyRow(StringBuilder history, long taskId, String fromStatus, String toStatus,
+                                   String priority, long executorId, LocalDateTime changedAt) {
+        history.append(taskId).append('\t').append(fromStatus).append('\t').append(toStatus).append('\t')
+                .append(priority).append('\t').append(executorId).append('\t').append(changedAt).append('\n');
+    }
+
+    private long nextId(String table) throws SQLException {
+        return queryLong("select coalesce(max(id), 0) + 1 from " + table);
+    }
+
+    private void restartIdentity(String table, long next) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("alter table " + table + " alter column id restart with " + next);
+        }
+    }
+
+    private long queryLong(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * Maps a Zipf rank to a position in {@code [0, size)}, so the most frequent ranks are spread over the table
+     * instead of being its first rows.
+     */
+    private static long scatter(long rank, long size) {
+        return (rank - 1) * 0x9E3779B1L % size;
+    }
+
+    private static long exponential(SplittableRandom random, long mean) {
+        return (long) (-Math.log(1 - random.nextDouble()) * mean);
+    }
+
+    private static String pick(SplittableRandom random, String[] values, double[] weights) {
+        double value = random.nextDouble();
+        for (int i = 0; i < values.length - 1; i++) {
+            value -= weights[i];
+            if (value < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static String text(SplittableRandom random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder text = new StringBuilder(length + 16);
+        while (text.length() < length) {
+            if (!text.isEmpty()) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        text.setLength(length);
+        return text.toString().trim();
+    }
+
+
+    /**
+     * A {@code COPY ... FROM STDIN} in text format, written in large chunks.
+     */
+    private class Copy {
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(BUFFER_SIZE + 1024);
+
+        private Copy(String sql) throws SQLException {
+            CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+            this.copyIn = copyManager.copyIn(sql);
+        }
+
+        private Copy field(Object value) {
+            buffer.append(value).append('\t');
+            return this;
+        }
+
+        private void lastField(Object value) throws SQLException {
+            buffer.append(value).append('\n');
+            if (buffer.length() >= BUFFER_SIZE) {
+                flush();
+            }
+        }
+
+        private void rows(CharSequence rows) throws SQLException {
+            buffer.append(rows);
+            flush();
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+
+        private void end() throws SQLException {
+            flush();
+            copyIn.endCopy();
+        }
+    }
+
+    /**
+     * Sampler of Zipf-distributed ranks in {@code [1, n]} by rejection-inversion (Hörmann and Derflinger),
+     * taking constant time per sample for any {@code n}.
+     */
+    static class ZipfSampler {
+
+        private final long n;
+        private final double exponent;
+        private final double hIntegralX1;
+        private final double hIntegralN;
+        private final double s;
+
+        ZipfSampler(long n, double exponent) {
+            this.n = n;
+            this.exponent = exponent;
+            this.hIntegralX1 = hIntegral(1.5) - 1;
+            this.hIntegralN = hIntegral(n + 0.5);
+            this.s = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+        }
+
+        long sample(SplittableRandom random) {
+            while (true) {
+                double u = hIntegralN + random.nextDouble() * (hIntegralX1 - hIntegralN);
+                double x = hIntegralInverse(u);
+                long k = Math.max(1, Math.min(n, (long) (x + 0.5)));
+                if (k - x <= s || u >= hIntegral(k + 0.5) - h(k)) {
+                    return k;
+                }
+            }
+        }
+
+        private double h(double x) {
+            return Math.exp(-exponent * Math.log(x));
+        }
+
+        private double hIntegral(double x) {
+            double logX = Math.log(x);
+            return helper2((1 - exponent) * logX) * logX;
+        }
+
+        private double hIntegralInverse(double x) {
+            double t = Math.max(-1, x * (1 - exponent));
+            return Math.exp(helper1(t) * x);
+        }
+
+        /** Returns {@code log(1 + x) / x}, accurate near zero. */
+        private static double helper1(double x) {
+            return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1.0 / 3 - 0.25 * x));
+        }
+
+        /** Returns {@code (exp(x) - 1) / x}, accurate near zero. */
+        private static double helper2(double x) {
+            return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x * (1.0 / 3) * (1 + 0.25 * x));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.cache.TaskBitmapIndex;
+import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.repository.TaskIndexEntry;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Limit;
+
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+
+/**
+ * Benchmark of filter evaluation in the {@link TaskBitmapIndex}.
+ * <p>
+ * Warms the index with synthetic tasks, with statuses and priorities skewed like a real backlog and executors
+ * and authors drawn from a fixed set of users, then measures {@code findTitles} for typical filter shapes.
+ * </p>
+ * Run with {@code mvn -Pload-test test -Dtest=FindIndexBenchmark};
+ * {@code findindex.tasks}, {@code findindex.users} and {@code findindex.iterations} size the run,
+ * and the report is written to {@code findindex.report}.
+ */
+public class FindIndexBenchmark {
+
+    private static final int TASKS = Integer.getInteger("findindex.tasks", 1_000_000);
+    private static final int USERS = Integer.getInteger("findindex.users", 1000);
+    private static final int ITERATIONS = Integer.getInteger("findindex.iterations", 20000);
+    private static final String REPORT = System.getProperty("findindex.report", "target/load-test/find-index.json");
+
+    @Test
+    void findIndexBenchmark() throws Exception {
+        //given
+        TaskBitmapIndex index = warmIndex();
+        Random random = new Random(1);
+        Map<String, Consumer<FindTasksDto>> shapes = new LinkedHashMap<>();
+        shapes.put("all", params -> { });
+        shapes.put("status", params -> params.setStatus("PENDING"));
+        shapes.put("status+priority", params -> {
+            params.setStatus("IN_PROGRESS");
+            params.setPriority("HIGH");
+        });
+        shapes.put("executor+nonStatus", params -> {
+            params.setExecutor("user" + random.nextInt(USERS));
+            params.setNonStatus("COMPLETED");
+        });
+        shapes.put("author+priority+nonStatus", params -> {
+            params.setAuthor("user" + random.nextInt(USERS));
+            params.setPriority("LOW");
+            params.setNonStatus("PENDING");
+        });
+
+        //when
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (Map.Entry<String, Consumer<FindTasksDto>> shape : shapes.entrySet()) {
+            Histogram histogram = new Histogram(TimeUnit.SECONDS.toNanos(1), 3);
+            for (int i = 0; i < ITERATIONS * 2; i++) {
+                FindTasksDto params = new FindTasksDto();
+                shape.getValue().accept(params);
+                long start = System.nanoTime();
+                Optional<List<String>> page = index.findTitles(params, 20, random.nextInt(10));
+                long elapsed = System.nanoTime() - start;
+                Assertions.assertTrue(page.isPresent());
+                if (i >= ITERATIONS) {
+                    histogram.recordValue(elapsed);
+                }
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("p50Us", histogram.getValueAtPercentile(50) / 1000.0);
+            result.put("p99Us", histogram.getValueAtPercentile(99) / 1000.0);
+            result.put("maxUs", histogram.getMaxValue() / 1000.0);
+            results.put(shape.getKey(), result);
+        }
+
+        //then
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("tasks", TASKS);
+        report.put("users", USERS);
+        report.put("iterations", ITERATIONS);
+        report.put("findTitles", results);
+        File file = new File(REPORT);
+        file.getParentFile().mkdirs();
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(file, report);
+        System.out.println(mapper.writeValueAsString(report));
+    }
+
+
+    /**
+     * Warms an index from a repository stub serving synthetic tasks in batches.
+     */
+    private TaskBitmapIndex warmIndex() {
+        TaskRepository taskRepository = Mockito.mock(TaskRepository.class);
+        Mockito.when(taskRepository.findIndexEntriesAfter(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            int limit = invocation.<Limit>getArgument(1).max();
+            List<TaskIndexEntry> batch = new ArrayList<>(limit);
+            for (long id = afterId + 1; id <= Math.min(TASKS, afterId + limit); id++) {
+                batch.add(entry(id));
+            }
+            return batch;
+        });
+        TaskBitmapIndex index = new TaskBitmapIndex(taskRepository, true);
+        long start = System.nanoTime();
+        index.warmUp();
+        System.out.printf("Warmed %d tasks in %d ms%n", TASKS, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return index;
+    }
+
+    private TaskIndexEntry entry(long id) {
+        Random random = new Random(id);
+        int status = random.nextInt(10);
+        int priority = random.nextInt(10);
+        int executor = random.nextInt(USERS);
+        return new TaskIndexEntry() {
+            public Long getId() { return id; }
+            public String getTitle() { return "task " + id; }
+            public Status getStatus() { return status < 6 ? Status.COMPLETED : status < 8 ? Status.IN_PROGRESS : Status.PENDING; }
+            public Priority getPriority() { return priority < 5 ? Priority.LOW : priority < 8 ? Priority.MEDIUM : Priority.HIGH; }
+            public String getExecutor() { return "user" + executor; }
+            public String getAuthor() { return "user" + (id % USERS); }
+        };
+    }
+}
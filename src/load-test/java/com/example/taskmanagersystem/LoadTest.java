@@ -0,0 +1,331 @@
+package com.example.taskmanagersystem;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load test of the REST API.
+ * <p>
+ * Boots the application against an embedded Postgres, seeds it with the {@link DataGenerator},
+ * and drives a weighted mix of requests from a number of virtual users, each a thread running
+ * requests back to back. After a warm-up the latency of every request is recorded per endpoint,
+ * and the percentiles are written as a JSON report.
+ * </p>
+ * Run with {@code mvn -Pload-test test}; the settings are system properties:
+ * <ul>
+ *     <li>{@code loadtest.users}, {@code loadtest.tasks}, {@code loadtest.comments} - the seeded data</li>
+ *     <li>{@code loadtest.virtual-users} - the number of concurrent virtual users</li>
+ *     <li>{@code loadtest.warmup}, {@code loadtest.duration} - the warm-up and measured time in seconds</li>
+ *     <li>{@code loadtest.mix} - the weights of the endpoints, e.g. {@code login=1,myTasks=4,find=2,editStatus=2,comment=1}</li>
+ *     <li>{@code loadtest.seed} - the seed of the virtual users' random choices</li>
+ *     <li>{@code loadtest.report} - the path of the JSON report</li>
+ * </ul>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class LoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 1000);
+    private static final int TASKS = Integer.getInteger("loadtest.tasks", 10000);
+    private static final int COMMENTS = Integer.getInteger("loadtest.comments", 50000);
+    private static final int VIRTUAL_USERS = Integer.getInteger("loadtest.virtual-users", 16);
+    private static final int WARMUP = Integer.getInteger("loadtest.warmup", 10);
+    private static final int DURATION = Integer.getInteger("loadtest.duration", 30);
+    private static final long SEED = Long.getLong("loadtest.seed", 42);
+    private static final String MIX = System.getProperty("loadtest.mix", "login=1,myTasks=4,find=2,editStatus=2,comment=1");
+    private static final String REPORT = System.getProperty("loadtest.report", "target/load-test/report.json");
+
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+    private static final EmbeddedPostgres POSTGRES = startPostgres();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> POSTGRES.getJdbcUrl("postgres", "postgres"));
+        registry.add("spring.datasource.username", () -> "postgres");
+        registry.add("spring.datasource.password", () -> "postgres");
+    }
+
+    private static EmbeddedPostgres startPostgres() {
+        try {
+            return EmbeddedPostgres.builder().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start embedded Postgres", e);
+        }
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        POSTGRES.close();
+    }
+
+    @Test
+    void loadTest() throws Exception {
+        //given
+        DataGenerator generator = seed();
+        List<String> mix = parseMix();
+        Random random = new Random(SEED);
+        String adminToken = login("User1@gmail.com", "USER");
+        long measureFrom = System.nanoTime() + TimeUnit.SECONDS.toNanos(WARMUP);
+        long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(DURATION);
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(VIRTUAL_USERS);
+        List<Future<?>> virtualUsers = new ArrayList<>();
+        for (int i = 0; i < VIRTUAL_USERS; i++) {
+            VirtualUser virtualUser = virtualUser(generator, random, adminToken);
+            virtualUsers.add(executor.submit(() -> virtualUser.run(mix, measureFrom, measureUntil)));
+        }
+        for (Future<?> virtualUser : virtualUsers) {
+            virtualUser.get();
+        }
+        executor.shutdown();
+
+        //then
+        Map<String, Object> report = report();
+        File file = new File(REPORT);
+        file.getParentFile().mkdirs();
+        ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        mapper.writeValue(file, report);
+        System.out.println(mapper.writeValueAsString(report));
+        Assertions.assertTrue(endpoints.values().stream().anyMatch(endpoint -> endpoint.histogram.getTotalCount() > 0));
+    }
+
+
+    /**
+     * Seeds the database with the {@link DataGenerator}.
+     */
+    private DataGenerator seed() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            DataGenerator generator = new DataGenerator(connection, SEED, passwordEncoder.encode(DataGenerator.PASSWORD));
+            generator.generate(USERS, TASKS, COMMENTS);
+            return generator;
+        }
+    }
+
+    /**
+     * Creates a virtual user logged in as the executor of a random task, so busy executors are picked more often.
+     */
+    private VirtualUser virtualUser(DataGenerator generator, Random random, String adminToken) {
+        long taskId = generator.getFirstTaskId() + random.nextInt(TASKS);
+        Map<String, Object> executor = jdbcTemplate.queryForMap(
+                "select u.id, u.email from tasks t join users u on u.id = t.executor_id where t.id = ?", taskId);
+        List<String> tasks = jdbcTemplate.queryForList(
+                "select title from tasks where executor_id = ? order by id limit 1000", String.class, executor.get("id"));
+        return new VirtualUser((String) executor.get("email"), tasks, generator.getFirstUserId(), adminToken, new Random(random.nextLong()));
+    }
+
+    private List<String> parseMix() {
+        List<String> mix = new ArrayList<>();
+        for (String entry : MIX.split(",")) {
+            String[] weight = entry.split("=");
+            endpoints.put(weight[0].trim(), new Endpoint());
+            for (int i = 0; i < Integer.parseInt(weight[1].trim()); i++) {
+                mix.add(weight[0].trim());
+            }
+        }
+        return mix;
+    }
+
+    private String login(String email, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request("/api/auth/login", null)
+                .POST(json("{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}")).build(),
+                HttpResponse.BodyHandlers.ofString());
+        Assertions.assertEquals(200, response.statusCode(), response.body());
+        return response.body();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        return token == null ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+
+    private static HttpRequest.BodyPublisher json(String body) {
+        return HttpRequest.BodyPublishers.ofString(body);
+    }
+
+    private Map<String, Object> report() {
+        Map<String, Object> config = new LinkedHashMap<>();
+        config.put("users", USERS);
+        config.put("tasks", TASKS);
+        config.put("comments", COMMENTS);
+        config.put("virtualUsers", VIRTUAL_USERS);
+        config.put("warmupSeconds", WARMUP);
+        config.put("durationSeconds", DURATION);
+        config.put("mix", MIX);
+        config.put("seed", SEED);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        endpoints.forEach((name, endpoint) -> {
+            Histogram histogram = endpoint.histogram;
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("requests", histogram.getTotalCount());
+            result.put("errors", endpoint.errors.sum());
+            result.put("throughputPerSecond", round((double) histogram.getTotalCount() / DURATION));
+            result.put("meanMs", round(histogram.getMean() / 1000));
+            result.put("p50Ms", millis(histogram, 50));
+            result.put("p90Ms", millis(histogram, 90));
+            result.put("p99Ms", millis(histogram, 99));
+            result.put("p999Ms", millis(histogram, 99.9));
+            result.put("maxMs", round(histogram.getMaxValue() / 1000.0));
+            results.put(name, result);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("config", config);
+        report.put("endpoints", results);
+        return report;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+
+
+    /**
+     * Latencies in microseconds and error count of one endpoint.
+     */
+    private static class Endpoint {
+        private final Histogram histogram = new ConcurrentHistogram(3);
+        private final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * One simulated user logged in as a seeded user, sending requests back to back.
+     */
+    private class VirtualUser {
+
+        private final String email;
+        private final List<String> tasks;
+        private final long firstUserId;
+        private final String adminToken;
+        private final Random random;
+        private String token;
+
+        private VirtualUser(String email, List<String> tasks, long firstUserId, String adminToken, Random random) {
+            this.email = email;
+            this.tasks = tasks;
+            this.firstUserId = firstUserId;
+            this.adminToken = adminToken;
+            this.random = random;
+        }
+
+        private void run(List<String> mix, long measureFrom, long measureUntil) {
+            try {
+                token = login(email, DataGenerator.PASSWORD);
+                long now;
+                while ((now = System.nanoTime()) < measureUntil) {
+                    String name = mix.get(random.nextInt(mix.size()));
+                    HttpRequest request = next(name);
+                    int status;
+                    try {
+                        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                        status = response.statusCode();
+                        if (name.equals("login") && status == 200) {
+                            token = response.body();
+                        }
+                    } catch (IOException e) {
+                        status = -1;
+                    }
+                    long end = System.nanoTime();
+                    if (now >= measureFrom) {
+                        Endpoint endpoint = endpoints.get(name);
+                        endpoint.histogram.recordValue(TimeUnit.NANOSECONDS.toMicros(end - now));
+                        if (status < 200 || status >= 300) {
+                            endpoint.errors.increment();
+                        }
+                    }
+                }
+            } catch (IOException | InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private HttpRequest next(String name) {
+            switch (name) {
+                case "login":
+                    return request("/api/auth/login", null)
+                            .POST(json("{\"email\":\"" + email + "\",\"password\":\"" + DataGenerator.PASSWORD + "\"}")).build();
+                case "myTasks":
+                    return request("/api/task/show/myTasks?limit=20&offset=" + random.nextInt(3), token).GET().build();
+                case "find":
+                    return request("/api/task/admin/find?limit=20&offset=" + random.nextInt(5), adminToken)
+                            .POST(json(findBody())).build();
+                case "editStatus":
+                    return request("/api/task/edit/" + ownTask() + "/status?newStatus=" + STATUSES[random.nextInt(3)], token)
+                            .method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+                case "comment":
+                    return request("/api/task/comment", token)
+                            .POST(json("{\"taskTitle\":\"" + ownTask() + "\",\"text\":\"load test comment\"}")).build();
+                default:
+                    throw new IllegalArgumentException("Unknown endpoint '" + name + "' in loadtest.mix");
+            }
+        }
+
+        private String findBody() {
+            switch (random.nextInt(4)) {
+                case 0:
+                    return "{\"status\":\"" + STATUSES[random.nextInt(3)] + "\"}";
+                case 1:
+                    return "{\"priority\":\"" + PRIORITIES[random.nextInt(3)] + "\",\"nonStatus\":\"COMPLETED\"}";
+                case 2:
+                    return "{\"executor\":\"u" + (firstUserId + random.nextInt(USERS)) + "\"}";
+                default:
+                    return "{\"countCommentsGreater\":" + random.nextInt(10) + "}";
+            }
+        }
+
+        /** Returns a random task executed by this user. */
+        private String ownTask() {
+            return tasks.get(random.nextInt(tasks.size()));
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.taskmanagersystem;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup benchmark of the packaged application.
+ * <p>
+ * Starts the jar several times in each mode against an embedded Postgres and measures the time from
+ * launching the JVM to the first successful login. The modes are the default configuration,
+ * the {@code fast-startup} profile, and the {@code fast-startup} profile with a CDS archive
+ * trained the same way as in the {@code Dockerfile}.
+ * </p>
+ * Run with {@code mvn -Pload-test package -DskipTests && mvn -Pload-test test -Dtest=StartupBenchmark};
+ * {@code startup.runs} sets the number of runs per mode, and the report is written to {@code startup.report}.
+ */
+public class StartupBenchmark {
+
+    private static final String JAR = System.getProperty("startup.jar", "target/TaskManagerSystem-0.0.1-SNAPSHOT.jar");
+    private static final int RUNS = Integer.getInteger("startup.runs", 3);
+    private static final String REPORT = System.getProperty("startup.report", "target/load-test/startup.json");
+    private static final long TIMEOUT = TimeUnit.MINUTES.toNanos(3);
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+
+    @Test
+    void startupBenchmark() throws Exception {
+        Assumptions.assumeTrue(Files.exists(Path.of(JAR)), "Package the application first");
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            //given
+            String url = postgres.getJdbcUrl("postgres", "postgres");
+            Path extracted = extractAndTrain();
+
+            //when
+            Map<String, Object> modes = new LinkedHashMap<>();
+            modes.put("default", measure(url, List.of("-jar", JAR), "default"));
+            modes.put("fast-startup", measure(url, List.of("-jar", JAR), "fast-startup"));
+            modes.put("fast-startup+cds", measure(url, List.of("-XX:SharedArchiveFile=" + extracted.resolve("app.jsa"),
+                    "-Xlog:cds=off", "-jar", extracted.resolve(Path.of(JAR).getFileName()).toString()), "fast-startup"));
+
+            //then
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("runs", RUNS);
+            report.put("timeToFirstRequestMs", modes);
+            File file = new File(REPORT);
+            file.getParentFile().mkdirs();
+            ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            mapper.writeValue(file, report);
+            System.out.println(mapper.writeValueAsString(report));
+        }
+    }
+
+
+    /**
+     * Extracts the jar and creates its CDS archive with a training run that needs no database.
+     */
+    private Path extractAndTrain() throws IOException, InterruptedException {
+        Path extracted = Path.of("target", "startup-benchmark");
+        run(List.of(java, "-Djarmode=tools", "-jar", JAR, "extract", "--force", "--destination", extracted.toString()));
+        run(List.of(java, "-XX:ArchiveClassesAtExit=app.jsa", "-Xlog:cds=off", "-Dspring.context.exit=onRefresh",
+                "-jar", Path.of(JAR).getFileName().toString(),
+                "--spring.profiles.active=fast-startup",
+                "--spring.flyway.enabled=false",
+                "--spring.jpa.properties.hibernate.boot.allow_jdbc_metadata_access=false"), extracted.toFile());
+        return extracted;
+    }
+
+    private Map<String, Object> measure(String url, List<String> launch, String profile) throws Exception {
+        List<Long> times = new ArrayList<>();
+        for (int i = 0; i < RUNS; i++) {
+            times.add(timeToFirstRequest(url, launch, profile));
+        }
+        List<Long> sorted = times.stream().sorted().toList();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("runs", times);
+        result.put("min", sorted.get(0));
+        result.put("median", sorted.get(sorted.size() / 2));
+        result.put("max", sorted.get(sorted.size() - 1));
+        return result;
+    }
+
+    private long timeToFirstRequest(String url, List<String> launch, String profile) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(launch);
+        command.add("--server.port=" + port);
+        command.add("--spring.profiles.active=" + profile);
+        command.add("--spring.datasource.url=" + url);
+        HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"User1@gmail.com\",\"password\":\"USER\"}"))
+                .build();
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File("target/load-test/startup-" + profile + ".log"))
+                .start();
+        try {
+            while (System.nanoTime() - start < TIMEOUT) {
+                Assertions.assertTrue(process.isAlive(), "Application exited, see target/load-test/startup-" + profile + ".log");
+                try {
+                    if (client.send(login, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (ConnectException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("Application did not serve a request within the timeout");
+        } finally {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void run(List<String> command) throws IOException, InterruptedException {
+        run(command, null);
+    }
+
+    private static void run(List<String> command, File directory) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(command).directory(directory).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        Assertions.assertEquals(0, process.waitFor(), String.join(" ", command));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.taskmanagersystem.audit;
+
+/**
+ * The kinds of task mutations recorded in the audit log.
+ * <p>
+ * A record stores the ordinal of its action, so new actions must be added at the end.
+ * </p>
+ */
+public enum AuditAction {
+    CREATE,
+    DELETE,
+    EDIT_STATUS,
+    EDIT_PRIORITY,
+    EDIT_EXECUTOR,
+    COMMENT,
+    CLAIM
+}
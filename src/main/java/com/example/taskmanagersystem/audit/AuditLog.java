@@ -0,0 +1,185 @@
+package com.example.taskmanagersystem.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Append-only audit log of the task mutations.
+ * <p>
+ * Publishing a mutation only puts a record in an {@link AuditRingBuffer}, so the request thread never waits for
+ * the disk. A single writer thread drains the buffer in batches into memory-mapped segment files, and flushes them
+ * to the disk at most every {@code audit.force-interval} milliseconds, when a segment is full and on shutdown.
+ * A restart appends to the last segment, and only the last {@code audit.max-segments} full segments are kept.
+ * When the writer falls behind and the buffer is full, records are dropped and counted rather than slowing down
+ * requests. The log is replayed with the {@link AuditLogReader}.
+ * </p>
+ * The bean is never initialized lazily, so the writer thread and the segment are ready before the first request.
+ */
+@Slf4j
+@Component
+@Lazy(false)
+public class AuditLog {
+
+    private static final int BATCH_SIZE = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    private final AuditRingBuffer buffer;
+    private final AuditSegmentWriter writer;
+    private final long forceIntervalNanos;
+    private final Counter droppedCounter;
+    private final Counter writtenCounter;
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+
+    /**
+     * Constructor for initializing the log and starting the writer thread.
+     *
+     * @param meterRegistry  the registry for the audit metrics
+     * @param directory      the directory of the segment files
+     * @param segmentSize    the size of a segment file, in bytes
+     * @param maxSegments    the number of segment files retained, the oldest being deleted
+     * @param bufferCapacity the maximum number of records waiting for the writer
+     * @param forceInterval  the maximum number of milliseconds the written records wait to be flushed to the disk
+     */
+    public AuditLog(MeterRegistry meterRegistry,
+                    @Value("${audit.directory:${user.home}/.task-manager/audit}") String directory,
+                    @Value("${audit.segment-size:67108864}") Integer segmentSize,
+                    @Value("${audit.max-segments:64}") Integer maxSegments,
+                    @Value("${audit.buffer-capacity:65536}") Integer bufferCapacity,
+                    @Value("${audit.force-interval:1000}") Long forceInterval) {
+        Path path = Path.of(directory);
+        try {
+            this.buffer = new AuditRingBuffer(bufferCapacity, AuditLogReader.lastSequence(path) + 1);
+            this.writer = new AuditSegmentWriter(path, segmentSize, maxSegments);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open the audit log in '" + directory + "'", e);
+        }
+        this.forceIntervalNanos = TimeUnit.MILLISECONDS.toNanos(forceInterval);
+        this.droppedCounter = Counter.builder("audit.records.dropped")
+                .description("Audit records dropped because the buffer was full")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("audit.records.written")
+                .description("Audit records taken from the buffer by the writer")
+                .register(meterRegistry);
+        Gauge.builder("audit.buffer.size", buffer, AuditRingBuffer::size)
+                .description("Audit records waiting for the writer")
+                .register(meterRegistry);
+        this.writerThread = new CustomizableThreadFactory("audit-writer-").newThread(this::write);
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        log.info("Audit log is written to '{}'", writer.currentSegment());
+    }
+
+
+    /**
+     * Publishes a mutation after the current transaction commits, or immediately if there is no transaction.
+     * The mutation is not published if the transaction rolls back.
+     *
+     * @param action the kind of mutation
+     * @param actor  the email of the user performing the mutation, or {@code null} for the authenticated user
+     * @param title  the title of the mutated task
+     * @param detail what changed, may be {@code null}
+     */
+    public void publish(AuditAction action, String actor, String title, String detail) {
+        String resolvedActor = actor != null ? actor : currentUser();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publishNow(action, resolvedActor, title, detail);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publishNow(action, resolvedActor, title, detail);
+            }
+        });
+    }
+
+    /**
+     * Puts a mutation in the buffer without waiting, dropping it if the buffer is full.
+     *
+     * @param action the kind of mutation
+     * @param actor  the email of the user performing the mutation
+     * @param title  the title of the mutated task
+     * @param detail what changed, may be {@code null}
+     * @return {@code true} if the mutation was published, {@code false} if it was dropped
+     */
+    public boolean publishNow(AuditAction action, String actor, String title, String detail) {
+        if (buffer.offer(System.currentTimeMillis(), action, actor, title, detail)) {
+            return true;
+        }
+        droppedCounter.increment();
+        return false;
+    }
+
+    /**
+     * Stops the writer thread once the buffered records are written, and flushes them to the disk.
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+
+    private void write() {
+        long lastForce = System.nanoTime();
+        while (running) {
+            int written = buffer.drain(this::append, BATCH_SIZE);
+            writtenCounter.increment(written);
+            if (System.nanoTime() - lastForce >= forceIntervalNanos) {
+                writer.force();
+                lastForce = System.nanoTime();
+            }
+            if (written == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+        int written;
+        do {
+            written = buffer.drain(this::append, BATCH_SIZE);
+            writtenCounter.increment(written);
+        } while (written > 0);
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.error("Failed to close the audit log", e);
+        }
+    }
+
+    private void append(AuditRecord record) {
+        try {
+            writer.append(record);
+        } catch (IOException | RuntimeException e) {
+            droppedCounter.increment();
+            log.error("Failed to write audit record {}", record.sequence(), e);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : "system";
+    }
+}
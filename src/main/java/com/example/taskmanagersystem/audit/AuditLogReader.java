@@ -0,0 +1,145 @@
+package com.example.taskmanagersystem.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Replays the audit log written by the {@link AuditLog}.
+ * <p>
+ * The segments are read in the order they were written. A segment ends at the first zero length, or at the first
+ * record whose checksum does not match, as left by a crash in the middle of a write; reading then continues with
+ * the next segment.
+ * </p>
+ * The log can be printed from the packaged application with
+ * {@code java -cp TaskManagerSystem-0.0.1-SNAPSHOT.jar -Dloader.main=com.example.taskmanagersystem.audit.AuditLogReader
+ * org.springframework.boot.loader.launch.PropertiesLauncher <directory> [<title>]}, optionally only the records
+ * of one task.
+ */
+public final class AuditLogReader {
+
+    private static final Pattern SEGMENT = Pattern.compile("audit-(\\d{20})\\.seg");
+
+    private AuditLogReader() {
+    }
+
+
+    /**
+     * Prints the records of the audit log, one per line.
+     *
+     * @param args the directory of the log, optionally followed by the title of the task to print the records of
+     * @throws IOException if a segment cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: AuditLogReader <directory> [<title>]");
+            System.exit(2);
+        }
+        String title = args.length > 1 ? args[1] : null;
+        replay(Path.of(args[0]), record -> {
+            if (title == null || title.equals(record.title())) {
+                System.out.println(record.sequence() + "\t" + Instant.ofEpochMilli(record.timestamp()) + "\t"
+                        + record.action() + "\t" + record.actor() + "\t" + record.title() + "\t" + record.detail());
+            }
+        });
+    }
+
+    /**
+     * Passes the valid records of all segments to the consumer, in the order they were written.
+     *
+     * @param directory the directory of the segment files
+     * @param consumer  the consumer of the records
+     * @return the number of records replayed
+     * @throws IOException if a segment cannot be read
+     */
+    public static long replay(Path directory, Consumer<AuditRecord> consumer) throws IOException {
+        long count = 0;
+        for (Path segment : segments(directory)) {
+            count += replaySegment(segment, consumer);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the sequence of the last valid record of the log.
+     *
+     * @param directory the directory of the segment files
+     * @return the sequence of the last record, or {@code -1} if the log is empty
+     * @throws IOException if a segment cannot be read
+     */
+    public static long lastSequence(Path directory) throws IOException {
+        List<Path> segments = segments(directory);
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            long[] last = {-1};
+            replaySegment(segments.get(i), record -> last[0] = record.sequence());
+            if (last[0] >= 0) {
+                return last[0];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the segment files of the log, in the order they were written.
+     *
+     * @param directory the directory of the segment files
+     * @return the paths of the segments, empty if the directory does not exist
+     * @throws IOException if the directory cannot be listed
+     */
+    public static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> SEGMENT.matcher(file.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        }
+    }
+
+
+    static long segmentIndex(Path segment) {
+        Matcher matcher = SEGMENT.matcher(segment.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not an audit segment: " + segment);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    static Path segmentPath(Path directory, long index) {
+        return directory.resolve(String.format("audit-%020d.seg", index));
+    }
+
+    private static long replaySegment(Path segment, Consumer<AuditRecord> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (!hasHeader(buffer)) {
+                return 0;
+            }
+            buffer.position(AuditSegmentWriter.HEADER);
+            long count = 0;
+            AuditRecord record;
+            while ((record = AuditRecord.decode(buffer)) != null) {
+                consumer.accept(record);
+                count++;
+            }
+            return count;
+        }
+    }
+
+    static boolean hasHeader(ByteBuffer buffer) {
+        return buffer.remaining() >= AuditSegmentWriter.HEADER
+                && buffer.getInt(0) == AuditSegmentWriter.MAGIC
+                && buffer.getInt(Integer.BYTES) == AuditSegmentWriter.VERSION;
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.taskmanagersystem.audit;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32C;
+
+/**
+ * A task mutation recorded in the audit log.
+ * <p>
+ * In a segment file a record is framed by the length and the CRC-32C checksum of its payload. The payload holds
+ * the sequence, the timestamp and the action, followed by the actor, the title and the detail, each encoded
+ * as a length-prefixed UTF-8 string. A zero length marks the end of the written part of a segment.
+ * </p>
+ *
+ * @param sequence  the position of the record in the order of publication, without gaps unless records were dropped
+ * @param timestamp when the mutation was published, in milliseconds since the epoch
+ * @param action    the kind of mutation
+ * @param actor     the email of the user performing the mutation, may be {@code null}
+ * @param title     the title of the mutated task
+ * @param detail    what changed, may be {@code null}
+ */
+public record AuditRecord(long sequence, long timestamp, AuditAction action, String actor, String title, String detail) {
+
+    /** The size of the length and checksum framing each payload. */
+    static final int FRAME_HEADER = 2 * Integer.BYTES;
+
+    /** The longest string kept, in bytes; longer strings are truncated. */
+    static final int MAX_STRING = Short.MAX_VALUE;
+
+    private static final AuditAction[] ACTIONS = AuditAction.values();
+
+    /**
+     * Returns the size of the framed record.
+     *
+     * @return the number of bytes {@link #encode} writes
+     */
+    int encodedSize() {
+        return FRAME_HEADER + 2 * Long.BYTES + 1 + size(actor) + size(title) + size(detail);
+    }
+
+    /**
+     * Writes the framed record at the position of the buffer, which must have {@link #encodedSize} bytes remaining.
+     *
+     * @param buffer the buffer to write to
+     */
+    void encode(ByteBuffer buffer) {
+        int start = buffer.position();
+        buffer.position(start + FRAME_HEADER);
+        buffer.putLong(sequence).putLong(timestamp).put((byte) action.ordinal());
+        putString(buffer, actor);
+        putString(buffer, title);
+        putString(buffer, detail);
+        int end = buffer.position();
+
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(start + FRAME_HEADER, end - start - FRAME_HEADER));
+        buffer.putInt(start, end - start - FRAME_HEADER).putInt(start + Integer.BYTES, (int) crc.getValue());
+    }
+
+    /**
+     * Reads the framed record at the position of the buffer.
+     * <p>
+     * The position is moved past the record only if it is valid.
+     * </p>
+     *
+     * @param buffer the buffer to read from
+     * @return the record, or {@code null} at the end of the written records or at a torn or corrupted record
+     */
+    static AuditRecord decode(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < FRAME_HEADER) {
+            return null;
+        }
+        int length = buffer.getInt(start);
+        if (length <= 0 || length > buffer.remaining() - FRAME_HEADER) {
+            return null;
+        }
+        ByteBuffer payload = buffer.slice(start + FRAME_HEADER, length);
+        CRC32C crc = new CRC32C();
+        crc.update(payload.duplicate());
+        if ((int) crc.getValue() != buffer.getInt(start + Integer.BYTES)) {
+            return null;
+        }
+        try {
+            long sequence = payload.getLong();
+            long timestamp = payload.getLong();
+            int action = payload.get();
+            if (action < 0 || action >= ACTIONS.length) {
+                return null;
+            }
+            AuditRecord record = new AuditRecord(sequence, timestamp, ACTIONS[action],
+                    getString(payload), getString(payload), getString(payload));
+            buffer.position(start + FRAME_HEADER + length);
+            return record;
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+
+    private static int size(String value) {
+        return Short.BYTES + (value == null ? 0 : Math.min(utf8Length(value), MAX_STRING));
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_STRING);
+        buffer.putShort((short) length).put(bytes, 0, length);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int utf8Length(String value) {
+        int length = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length() && Character.isLowSurrogate(value.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
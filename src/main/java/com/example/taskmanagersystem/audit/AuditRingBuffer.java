@@ -0,0 +1,118 @@
+package com.example.taskmanagersystem.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+/**
+ * Bounded lock-free queue of audit records, written by any number of request threads and drained by one writer.
+ * <p>
+ * Each slot carries a sequence telling whether it is free for the publisher claiming position {@code p}
+ * (the sequence is {@code p}) or holds the record published there (the sequence is {@code p + 1}). A publisher claims a position with a single
+ * compare-and-set and never waits: when the buffer is full the record is rejected instead, so a stalled disk
+ * cannot slow down requests. The claimed position becomes the sequence of the record.
+ * </p>
+ */
+public class AuditRingBuffer {
+
+    private final int mask;
+    private final AuditRecord[] records;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+
+    /**
+     * Constructor for initializing the buffer.
+     *
+     * @param capacity the maximum number of records waiting for the writer, rounded up to a power of two
+     * @param start    the sequence of the first record
+     */
+    public AuditRingBuffer(int capacity, long start) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) * 2 - 1);
+        this.mask = size - 1;
+        this.records = new AuditRecord[size];
+        this.sequences = new AtomicLongArray(size);
+        for (long position = start; position < start + size; position++) {
+            sequences.set((int) position & mask, position);
+        }
+        this.tail.set(start);
+        this.head = start;
+    }
+
+
+    /**
+     * Appends a record without blocking.
+     *
+     * @param timestamp when the mutation was published, in milliseconds since the epoch
+     * @param action    the kind of mutation
+     * @param actor     the email of the user performing the mutation
+     * @param title     the title of the mutated task
+     * @param detail    what changed
+     * @return {@code true} if the record was appended, {@code false} if the buffer is full
+     */
+    public boolean offer(long timestamp, AuditAction action, String actor, String title, String detail) {
+        long position = tail.get();
+        while (true) {
+            int slot = (int) position & mask;
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.weakCompareAndSetVolatile(position, position + 1)) {
+                    records[slot] = new AuditRecord(position, timestamp, action, actor, title, detail);
+                    sequences.lazySet(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes up to {@code limit} records in the order of their sequences and passes them to the consumer.
+     * <p>
+     * Must only be called by the single writer thread.
+     * </p>
+     *
+     * @param consumer the consumer of the records
+     * @param limit    the maximum number of records to remove
+     * @return the number of records removed
+     */
+    public int drain(Consumer<AuditRecord> consumer, int limit) {
+        int drained = 0;
+        while (drained < limit) {
+            int slot = (int) head & mask;
+            if (sequences.get(slot) != head + 1) {
+                break;
+            }
+            AuditRecord record = records[slot];
+            records[slot] = null;
+            sequences.lazySet(slot, head + records.length);
+            head = head + 1;
+            drained++;
+            consumer.accept(record);
+        }
+        return drained;
+    }
+
+    /**
+     * Returns the number of records waiting for the writer.
+     *
+     * @return the approximate number of records in the buffer
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Returns the capacity of the buffer.
+     *
+     * @return the maximum number of records waiting for the writer
+     */
+    public int capacity() {
+        return records.length;
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.taskmanagersystem.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends audit records to memory-mapped segment files.
+ * <p>
+ * Each segment is created at its full size and mapped once, so appending a record is a copy into memory and
+ * the operating system writes the pages back in the background. A segment starts with a magic number and
+ * a format version, and the records follow until the first zero length. When a record does not fit, the segment
+ * is flushed and the next one is started. On startup the writer never appends to an existing segment, whose
+ * tail may be torn, but starts a new one. Whenever a segment is started, the oldest segments beyond the retained
+ * number are deleted.
+ * </p>
+ * Not thread-safe: used by the single writer thread of the {@link AuditLog}.
+ */
+class AuditSegmentWriter implements Closeable {
+
+    static final int MAGIC = 0x41554454;
+    static final int VERSION = 1;
+    static final int HEADER = 2 * Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private long index;
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private boolean dirty;
+
+
+    /**
+     * Constructor for initializing the writer, reopening the last segment or starting a new one.
+     *
+     * @param directory   the directory of the segment files, created if missing
+     * @param segmentSize the size of a segment file, in bytes
+     * @param maxSegments the number of segment files retained, including the current one
+     * @throws IOException if the segment cannot be opened or created
+     */
+    AuditSegmentWriter(Path directory, int segmentSize, int maxSegments) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(1, maxSegments);
+        Files.createDirectories(directory);
+        List<Path> segments = AuditLogReader.segments(directory);
+        this.index = segments.isEmpty() ? 0 : AuditLogReader.segmentIndex(segments.get(segments.size() - 1)) + 1;
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Reopened reopened = reopen(segments.get(i));
+            if (reopened == Reopened.YES) {
+                index = AuditLogReader.segmentIndex(segments.get(i));
+                return;
+            }
+            if (reopened == Reopened.NO) {
+                break;
+            }
+        }
+        openNew();
+    }
+
+
+    /**
+     * Appends the record, starting a new segment if it does not fit in the current one.
+     *
+     * @param record the record to append
+     * @throws IOException if a new segment cannot be created
+     * @throws IllegalArgumentException if the record does not fit in an empty segment
+     */
+    void append(AuditRecord record) throws IOException {
+        int size = record.encodedSize();
+        if (HEADER + size + Integer.BYTES > segmentSize) {
+            throw new IllegalArgumentException("Audit record " + record.sequence() + " of " + size + " bytes exceeds the segment size");
+        }
+        if (buffer.remaining() < size + Integer.BYTES) {
+            rotate();
+        }
+        record.encode(buffer);
+        dirty = true;
+    }
+
+    /**
+     * Writes the appended records of the current segment to the disk.
+     */
+    void force() {
+        if (dirty) {
+            buffer.force();
+            dirty = false;
+        }
+    }
+
+    /**
+     * Returns the path of the current segment.
+     *
+     * @return the segment records are appended to
+     */
+    Path currentSegment() {
+        return AuditLogReader.segmentPath(directory, index);
+    }
+
+    /**
+     * Writes the appended records to the disk and closes the current segment.
+     *
+     * @throws IOException if the segment cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        force();
+        channel.close();
+    }
+
+
+    private void rotate() throws IOException {
+        close();
+        index++;
+        openNew();
+    }
+
+    /**
+     * Starts a segment at the current index, or after it if other writers have already started that one.
+     */
+    private void openNew() throws IOException {
+        while (true) {
+            try {
+                open();
+                return;
+            } catch (FileAlreadyExistsException e) {
+                index++;
+            }
+        }
+    }
+
+    private void open() throws IOException {
+        channel = FileChannel.open(currentSegment(),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (!tryLock(channel)) {
+            channel.close();
+            throw new FileAlreadyExistsException(currentSegment().toString());
+        }
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        buffer.putInt(MAGIC).putInt(VERSION);
+        dirty = true;
+        deleteOldSegments();
+    }
+
+    private Reopened reopen(Path segment) throws IOException {
+        FileChannel existing = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (!tryLock(existing)) {
+            existing.close();
+            return Reopened.LOCKED;
+        }
+        MappedByteBuffer mapped = existing.size() == segmentSize
+                ? existing.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize) : null;
+        if (mapped == null || !AuditLogReader.hasHeader(mapped)) {
+            existing.close();
+            return Reopened.NO;
+        }
+        mapped.position(HEADER);
+        while (AuditRecord.decode(mapped) != null) {
+            // skips the valid records
+        }
+        if (clearTail(mapped)) {
+            mapped.force();
+        }
+        channel = existing;
+        buffer = mapped;
+        return Reopened.YES;
+    }
+
+    /**
+     * Zeroes what follows the last valid record, so records appended over a torn one are not followed by its
+     * remains. Only the non-zero bytes are written, so the unwritten part of the file stays sparse.
+     */
+    private static boolean clearTail(MappedByteBuffer buffer) {
+        boolean cleared = false;
+        int i = buffer.position();
+        for (; i < buffer.limit() && i % Long.BYTES != 0; i++) {
+            cleared |= clearByte(buffer, i);
+        }
+        for (; i + Long.BYTES <= buffer.limit(); i += Long.BYTES) {
+            if (buffer.getLong(i) != 0) {
+                buffer.putLong(i, 0);
+                cleared = true;
+            }
+        }
+        for (; i < buffer.limit(); i++) {
+            cleared |= clearByte(buffer, i);
+        }
+        return cleared;
+    }
+
+    private static boolean clearByte(MappedByteBuffer buffer, int i) {
+        if (buffer.get(i) == 0) {
+            return false;
+        }
+        buffer.put(i, (byte) 0);
+        return true;
+    }
+
+    private static boolean tryLock(FileChannel channel) throws IOException {
+        try {
+            return channel.tryLock() != null;
+        } catch (OverlappingFileLockException e) {
+            return false;
+        }
+    }
+
+    private void deleteOldSegments() throws IOException {
+        List<Path> segments = AuditLogReader.segments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+
+    /// Whether an existing segment was reopened, or is written by another writer, or cannot be appended to.
+    private enum Reopened {
+        YES, LOCKED, NO
+    }
+}
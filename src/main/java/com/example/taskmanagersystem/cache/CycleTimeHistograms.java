@@ -0,0 +1,159 @@
+package com.example.taskmanagersystem.cache;
+
+import com.example.taskmanagersystem.dto.CycleTimeDto;
+import com.example.taskmanagersystem.dto.DurationPercentilesDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.repository.TaskCompletion;
+import com.example.taskmanagersystem.repository.TaskStatusHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory histograms of the cycle and lead times of the completed tasks, by executor and priority.
+ * <p>
+ * Every combination of executor and priority has its own HdrHistogram {@link Recorder}s, which record
+ * without locking. A completion is recorded once its transaction commits, and reading the percentiles
+ * only merges what was recorded since the previous read, so the cost does not depend on the length of the
+ * history. The histograms are seeded from the status history at startup; a completion committed while
+ * the history is read may be counted twice.
+ * </p>
+ */
+@Slf4j
+@Component
+public class CycleTimeHistograms {
+
+    /** The number of completions read per query while seeding the histograms. */
+    private static final int WARM_UP_BATCH = 1000;
+
+    /** The precision of the recorded durations, in significant decimal digits. */
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final TaskStatusHistoryRepository taskStatusHistoryRepository;
+    private final Map<Cell, Durations> cells = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor to inject dependencies.
+     *
+     * @param taskStatusHistoryRepository the repository the histograms are seeded from
+     */
+    public CycleTimeHistograms(TaskStatusHistoryRepository taskStatusHistoryRepository) {
+        this.taskStatusHistoryRepository = taskStatusHistoryRepository;
+    }
+
+
+    /**
+     * Records all completions of the status history.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long afterId = 0;
+        int count = 0;
+        List<TaskCompletion> batch;
+        do {
+            batch = taskStatusHistoryRepository.findCompletionsAfter(afterId, WARM_UP_BATCH);
+            for (TaskCompletion completion : batch) {
+                record(completion.getExecutor(), completion.getPriority(),
+                        completion.getCreatedAt(), completion.getStartedAt(), completion.getCompletedAt());
+                afterId = completion.getId();
+            }
+            count += batch.size();
+        } while (batch.size() == WARM_UP_BATCH);
+        log.info("Cycle time histograms seeded with {} completions", count);
+    }
+
+    /**
+     * Records the completion of a task once the current transaction commits.
+     * <p>
+     * The cycle time is not recorded for a task never set in progress, nor the lead time for a task
+     * created before its history was kept.
+     * </p>
+     *
+     * @param executor    the username of the executor who completed the task
+     * @param priority    the priority of the task
+     * @param createdAt   when the task was created, may be {@code null}
+     * @param startedAt   when the task was first set in progress, may be {@code null}
+     * @param completedAt when the task was completed
+     */
+    public void recordAfterCommit(String executor, Priority priority, LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime completedAt) {
+        if (executor != null) {
+            TransactionHooks.afterCommit(() -> record(executor, priority, createdAt, startedAt, completedAt));
+        }
+    }
+
+    /**
+     * Returns the percentiles of the cycle and lead times of each executor and priority.
+     *
+     * @return a {@link CycleTimeDto} for each executor and priority with completed tasks,
+     * ordered by executor then priority
+     */
+    public List<CycleTimeDto> get() {
+        return cells.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator.comparing(Cell::executor).thenComparing(Cell::priority)))
+                .map(entry -> {
+                    Histogram[] totals = entry.getValue().totals();
+                    return new CycleTimeDto(entry.getKey().executor(), entry.getKey().priority(),
+                            percentiles(totals[0]), percentiles(totals[1]));
+                })
+                .toList();
+    }
+
+
+    private void record(String executor, Priority priority, LocalDateTime createdAt, LocalDateTime startedAt, LocalDateTime completedAt) {
+        if (executor == null || createdAt == null && startedAt == null) {
+            return;
+        }
+        Durations durations = cells.computeIfAbsent(new Cell(executor, priority), cell -> new Durations());
+        if (startedAt != null) {
+            durations.cycle().recordValue(millis(startedAt, completedAt));
+        }
+        if (createdAt != null) {
+            durations.lead().recordValue(millis(createdAt, completedAt));
+        }
+    }
+
+    private static long millis(LocalDateTime from, LocalDateTime to) {
+        return Math.max(0, Duration.between(from, to).toMillis());
+    }
+
+    private static DurationPercentilesDto percentiles(Histogram histogram) {
+        return new DurationPercentilesDto(histogram.getTotalCount(),
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(90),
+                histogram.getValueAtPercentile(99), histogram.getMaxValue());
+    }
+
+
+    private record Cell(String executor, Priority priority) {
+    }
+
+    /**
+     * The recorders of the cycle and lead times of one cell and the totals merged from them.
+     */
+    private record Durations(Recorder cycle, Recorder lead, Histogram cycleTotal, Histogram leadTotal) {
+
+        Durations() {
+            this(new Recorder(SIGNIFICANT_DIGITS), new Recorder(SIGNIFICANT_DIGITS),
+                    new Histogram(SIGNIFICANT_DIGITS), new Histogram(SIGNIFICANT_DIGITS));
+        }
+
+        /**
+         * Merges the values recorded since the previous call into the totals and copies them.
+         */
+        synchronized Histogram[] totals() {
+            cycleTotal.add(cycle.getIntervalHistogram());
+            leadTotal.add(lead.getIntervalHistogram());
+            return new Histogram[]{cycleTotal.copy(), leadTotal.copy()};
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.taskmanagersystem.cache;
+
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.model.UserEntity;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the task pages shown to an executor.
+ * <p>
+ * Entries of the {@code executorTasks} cache are keyed by the executor's email and hold every cached
+ * page of that executor, so a single eviction drops all pages of one executor and nobody else's.
+ * </p>
+ */
+@Component
+public class ExecutorTasksCache {
+
+    /** The maximum number of pages cached for one executor. */
+    private static final int MAX_PAGES_PER_EXECUTOR = 32;
+
+    private final Cache cache;
+
+    /**
+     * Constructor to inject dependencies.
+     *
+     * @param cacheManager the cache manager providing the {@code executorTasks} cache
+     */
+    public ExecutorTasksCache(CacheManager cacheManager) {
+        this.cache = cacheManager.getCache("executorTasks");
+    }
+
+    /**
+     * Returns a cached page of the executor's tasks, loading it on a miss.
+     *
+     * @param email  the email of the executor
+     * @param limit  the number of tasks on the page
+     * @param offset the page number
+     * @param loader the function loading the page from the database
+     * @return a list of {@link TaskResponseDto} representing the tasks
+     */
+    @SuppressWarnings("unchecked")
+    public List<TaskResponseDto> get(String email, Integer limit, Integer offset, Supplier<List<TaskResponseDto>> loader) {
+        Map<String, List<TaskResponseDto>> pages = cache.get(email, ConcurrentHashMap::new);
+        String page = offset + ":" + limit;
+
+        List<TaskResponseDto> tasks = pages.get(page);
+        if (tasks != null) {
+            return tasks;
+        }
+        if (pages.size() >= MAX_PAGES_PER_EXECUTOR) {
+            return loader.get();
+        }
+        return pages.computeIfAbsent(page, key -> loader.get());
+    }
+
+    /**
+     * Evicts all cached pages of the executor.
+     *
+     * @param executor the executor whose pages changed, may be {@code null}
+     */
+    public void evict(UserEntity executor) {
+        if (executor != null) {
+            evict(executor.getEmail());
+        }
+    }
+
+    /**
+     * Evicts all cached pages of the executor with the given email.
+     *
+     * @param email the email of the executor whose pages changed
+     */
+    public void evict(String email) {
+        cache.evict(email);
+    }
+}
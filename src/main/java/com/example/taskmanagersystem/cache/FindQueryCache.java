@@ -0,0 +1,213 @@
+package com.example.taskmanagersystem.cache;
+
+import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.TaskEntity;
+import com.example.taskmanagersystem.model.UserEntity;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Cache of the results of repeated {@link FindTasksDto} queries.
+ * <p>
+ * Entries of the {@code findQueries} cache are keyed by the normalized filter and the page, and hold only
+ * the titles of the found tasks, which are read back through the {@link TaskCache}. The number of matching
+ * tasks and whether there are any are cached by filter in the same way. A mutation evicts
+ * only the entries whose filter the task matched before or after it, but not both: changing the status
+ * of a task keeps every entry without a status filter, and every entry the task is in or out of either way.
+ * Evictions are applied after the transaction commits.
+ * </p>
+ */
+@Component
+public class FindQueryCache {
+
+    private final Cache<Object, Object> cache;
+    private final TaskCache taskCache;
+
+    /** Incremented by every eviction, so that results read before it are not cached after it. */
+    private final AtomicLong evictions = new AtomicLong();
+
+
+    /**
+     * Constructor to inject dependencies.
+     *
+     * @param cacheManager the cache manager providing the {@code findQueries} cache
+     * @param taskCache    the cache the found tasks are read from
+     */
+    @SuppressWarnings("unchecked")
+    public FindQueryCache(CacheManager cacheManager, TaskCache taskCache) {
+        this.cache = (Cache<Object, Object>) cacheManager.getCache("findQueries").getNativeCache();
+        this.taskCache = taskCache;
+    }
+
+
+    /**
+     * Returns a cached page of the tasks matching the filter, loading it on a miss.
+     *
+     * @param params the filter parameters
+     * @param limit  the number of tasks on the page
+     * @param offset the page number
+     * @param loader the function finding the page
+     * @return a list of {@link TaskResponseDto} representing the tasks
+     */
+    @SuppressWarnings("unchecked")
+    public List<TaskResponseDto> get(FindTasksDto params, Integer limit, Integer offset, Supplier<List<TaskResponseDto>> loader) {
+        Query query = Query.of(Mode.PAGE, params, limit, offset);
+        List<String> titles = (List<String>) cache.getIfPresent(query);
+        if (titles != null) {
+            return taskCache.getAll(titles);
+        }
+        return load(query, loader, tasks -> tasks.stream().map(TaskResponseDto::getTitle).toList());
+    }
+
+    /**
+     * Returns the cached number of tasks matching the filter, counting them on a miss.
+     *
+     * @param params the filter parameters
+     * @param loader the function counting the tasks
+     * @return the number of matching tasks
+     */
+    public Long count(FindTasksDto params, Supplier<Long> loader) {
+        Query query = Query.of(Mode.COUNT, params, null, null);
+        Long count = (Long) cache.getIfPresent(query);
+        return count != null ? count : load(query, loader, result -> result);
+    }
+
+    /**
+     * Returns whether any task matches the filter, answered by a cached count or checked on a miss.
+     *
+     * @param params the filter parameters
+     * @param loader the function checking for a matching task
+     * @return {@code true} if a task matches
+     */
+    public Boolean exists(FindTasksDto params, Supplier<Boolean> loader) {
+        Long count = (Long) cache.getIfPresent(Query.of(Mode.COUNT, params, null, null));
+        if (count != null) {
+            return count > 0;
+        }
+        Query query = Query.of(Mode.EXISTS, params, null, null);
+        Boolean exists = (Boolean) cache.getIfPresent(query);
+        return exists != null ? exists : load(query, loader, result -> result);
+    }
+
+    /**
+     * Evicts the results a task enters or leaves once the current transaction commits.
+     *
+     * @param before the state of the task before the change, or {@code null} if it is created
+     * @param after  the state of the task after the change, or {@code null} if it is deleted
+     */
+    public void evict(TaskState before, TaskState after) {
+        evictAfterCommit(query -> query.matches(before) != query.matches(after));
+    }
+
+    /**
+     * Evicts the results filtered by the number of comments that may contain a task
+     * once the current transaction commits.
+     *
+     * @param task the state of the commented task
+     */
+    public void evictCommentCounts(TaskState task) {
+        evictAfterCommit(query -> query.countsComments() && query.matches(task));
+    }
+
+
+    /**
+     * Loads a result and caches it unless an eviction ran meanwhile, since the result may predate it.
+     */
+    private <T> T load(Query query, Supplier<T> loader, Function<? super T, ?> value) {
+        long generation = evictions.get();
+        T result = loader.get();
+        if (evictions.get() == generation) {
+            Object cached = value.apply(result);
+            cache.put(query, cached);
+            if (evictions.get() != generation) {
+                cache.asMap().remove(query, cached);
+            }
+        }
+        return result;
+    }
+
+    private void evictAfterCommit(Predicate<Query> affected) {
+        TransactionHooks.afterCommit(() -> {
+            evictions.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> affected.test((Query) key));
+        });
+    }
+
+
+    /**
+     * The indexed fields of a task, to find the results it belongs to.
+     *
+     * @param status   the status of the task
+     * @param priority the priority of the task
+     * @param executor the username of the executor of the task
+     * @param author   the username of the author of the task
+     */
+    public record TaskState(Status status, Priority priority, String executor, String author) {
+
+        /**
+         * Captures the current state of a task.
+         *
+         * @param task the task
+         * @return the state of the task
+         */
+        public static TaskState of(TaskEntity task) {
+            return new TaskState(task.getStatus(), task.getPriority(), username(task.getExecutor()), username(task.getAuthor()));
+        }
+
+        private static String username(UserEntity user) {
+            return user == null ? null : user.getUsername();
+        }
+    }
+
+    /// The kind of result cached for a filter.
+    private enum Mode {
+        PAGE, COUNT, EXISTS
+    }
+
+    /**
+     * A normalized filter, with the page of a {@link Mode#PAGE} result.
+     * <p>
+     * An excluded status or priority is dropped when the filter requires another one, since it excludes nothing.
+     * The number of comments of a task is not known here, so comment filters are assumed to match.
+     * </p>
+     */
+    private record Query(Mode mode, String status, String nonStatus, String priority, String nonPriority, String author,
+                         String executor, Integer countCommentsLess, Integer countCommentsGreater,
+                         Integer countCommentsEqual, Integer limit, Integer offset) {
+
+        private static Query of(Mode mode, FindTasksDto params, Integer limit, Integer offset) {
+            return new Query(mode, params.getStatus(), exclusion(params.getStatus(), params.getNonStatus()),
+                    params.getPriority(), exclusion(params.getPriority(), params.getNonPriority()),
+                    params.getAuthor(), params.getExecutor(), params.getCountCommentsLess(),
+                    params.getCountCommentsGreater(), params.getCountCommentsEqual(), limit, offset);
+        }
+
+        private static String exclusion(String required, String excluded) {
+            return required != null && !required.equals(excluded) ? null : excluded;
+        }
+
+        private boolean matches(TaskState task) {
+            return task != null
+                    && (status == null || status.equals(task.status().name()))
+                    && (nonStatus == null || !nonStatus.equals(task.status().name()))
+                    && (priority == null || priority.equals(task.priority().name()))
+                    && (nonPriority == null || !nonPriority.equals(task.priority().name()))
+                    && (author == null || author.equals(task.author()))
+                    && (executor == null || executor.equals(task.executor()));
+        }
+
+        private boolean countsComments() {
+            return countCommentsLess != null || countCommentsGreater != null || countCommentsEqual != null;
+        }
+    }
+}
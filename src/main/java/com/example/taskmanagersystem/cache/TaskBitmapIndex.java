@@ -0,0 +1,526 @@
+package com.example.taskmanagersystem.cache;
+
+import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.TaskEntity;
+import com.example.taskmanagersystem.model.UserEntity;
+import com.example.taskmanagersystem.repository.TaskIndexEntry;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory bitmap index answering the {@link FindTasksDto} filters on status, priority, author and executor.
+ * <p>
+ * Every task is a bit at the position of its identifier, and every value of an indexed field has a compressed
+ * {@link RoaringBitmap} of the tasks holding it. A filter is evaluated with AND and AND-NOT operations
+ * on these bitmaps, and a page is read by rank from the result, in identifier order.
+ * </p>
+ * <p>
+ * The index is warmed from the {@link TaskRepository} at startup and kept current by the mutations of
+ * {@code TasksServiceImpl} after their transactions commit. Nothing orders the after-commit changes of two
+ * transactions updating the same task, so the earlier state may be indexed last; reconciliation periodically
+ * corrects such drift from the database. Filters on the number of comments are not indexed, and such queries,
+ * like every query before the index is warm, are left to SQL.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TaskBitmapIndex {
+
+    /** The number of tasks read per query while warming the index. */
+    private static final int WARM_UP_BATCH = 10000;
+
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final TaskRepository taskRepository;
+    private final Boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final RoaringBitmap[] byStatus = bitmaps(STATUSES.length);
+    private final RoaringBitmap[] byPriority = bitmaps(PRIORITIES.length);
+    private final Map<String, Integer> users = new HashMap<>();
+    private final List<RoaringBitmap> byExecutor = new ArrayList<>();
+    private final List<RoaringBitmap> byAuthor = new ArrayList<>();
+
+    /** The indexed fields of each task, by identifier, to clear its old bits when it changes. */
+    private String[] titles = new String[0];
+    private byte[] statuses = new byte[0];
+    private byte[] priorities = new byte[0];
+    private int[] executors = new int[0];
+    private int[] authors = new int[0];
+
+    /** The changes applied while warming, replayed over the possibly older warm-up reads. */
+    private List<Change> pending;
+    /** The tasks changed while reconciling, left as they are since the reconciliation reads may be older. */
+    private RoaringBitmap changed;
+    private volatile boolean ready;
+    private volatile boolean overflowed;
+
+
+    /**
+     * Constructor for initializing the index.
+     *
+     * @param taskRepository the repository the index is warmed from
+     * @param enabled        whether the index is built and used
+     */
+    public TaskBitmapIndex(TaskRepository taskRepository,
+                           @Value("${find.bitmap-index.enabled:false}") Boolean enabled) {
+        this.taskRepository = taskRepository;
+        this.enabled = enabled;
+    }
+
+
+    /**
+     * Loads all existing tasks into the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long afterId = 0;
+        long count = 0;
+        List<TaskIndexEntry> batch;
+        do {
+            batch = taskRepository.findIndexEntriesAfter(afterId, Limit.of(WARM_UP_BATCH));
+            lock.writeLock().lock();
+            try {
+                for (TaskIndexEntry entry : batch) {
+                    index(entry.getId(), entry.getTitle(), entry.getStatus(), entry.getPriority(), entry.getExecutor(), entry.getAuthor());
+                    afterId = entry.getId();
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            count += batch.size();
+        } while (batch.size() == WARM_UP_BATCH);
+
+        lock.writeLock().lock();
+        try {
+            for (Change change : pending) {
+                apply(change);
+            }
+            pending = null;
+            all.runOptimize();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Task bitmap index warmed with {} tasks", count);
+    }
+
+    /**
+     * Re-indexes the tasks whose indexed state differs from the database, and removes those no longer in it.
+     * <p>
+     * The tasks are read in batches like during warm-up. Tasks changed while the reconciliation runs are skipped
+     * and checked by the next run.
+     * </p>
+     */
+    @Scheduled(initialDelayString = "${find.bitmap-index.reconcile-interval:600000}",
+            fixedDelayString = "${find.bitmap-index.reconcile-interval:600000}")
+    public void reconcile() {
+        if (!ready || overflowed) {
+            return;
+        }
+        RoaringBitmap changedWhileReading = new RoaringBitmap();
+        lock.writeLock().lock();
+        try {
+            changed = changedWhileReading;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long afterId = 0;
+        int corrected = 0;
+        try {
+            List<TaskIndexEntry> batch;
+            do {
+                batch = taskRepository.findIndexEntriesAfter(afterId, Limit.of(WARM_UP_BATCH));
+                long untilId = batch.size() == WARM_UP_BATCH ? batch.get(batch.size() - 1).getId() + 1 : Integer.MAX_VALUE;
+                lock.writeLock().lock();
+                try {
+                    RoaringBitmap removed = all.selectRange(afterId + 1, untilId);
+                    for (TaskIndexEntry entry : batch) {
+                        int ordinal = ordinal(entry.getId());
+                        if (ordinal < 0) {
+                            return;
+                        }
+                        removed.remove(ordinal);
+                        if (!changedWhileReading.contains(ordinal) && !isCurrent(ordinal, entry)) {
+                            index(ordinal, entry.getTitle(), entry.getStatus(), entry.getPriority(), entry.getExecutor(), entry.getAuthor());
+                            corrected++;
+                        }
+                    }
+                    removed.andNot(changedWhileReading);
+                    removed.forEach((int ordinal) -> clear(ordinal));
+                    corrected += removed.getCardinality();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                afterId = untilId - 1;
+            } while (batch.size() == WARM_UP_BATCH);
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changed = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        if (corrected > 0) {
+            log.warn("Task bitmap index reconciled, {} tasks corrected", corrected);
+        } else {
+            log.debug("Task bitmap index reconciled, no drift");
+        }
+    }
+
+    /**
+     * Finds the titles of a page of the tasks matching the filter.
+     *
+     * @param params the filter parameters
+     * @param limit  the number of tasks on the page
+     * @param offset the page number
+     * @return the titles of the tasks on the page in identifier order, or empty if the filter must be run in SQL
+     */
+    public Optional<List<String>> findTitles(FindTasksDto params, int limit, int offset) {
+        if (!ready || overflowed || !isIndexed(params)) {
+            return Optional.empty();
+        }
+        lock.readLock().lock();
+        try {
+            Filter filter = filter(params);
+            if (filter == null) {
+                return Optional.empty();
+            }
+            RoaringBitmap matching = filter.matching();
+            List<String> page = new ArrayList<>(limit);
+            long skip = (long) offset * limit;
+            if (skip < matching.getLongCardinality()) {
+                PeekableIntIterator ids = matching.getIntIterator();
+                ids.advanceIfNeeded(matching.select((int) skip));
+                while (ids.hasNext() && page.size() < limit) {
+                    page.add(titles[ids.next()]);
+                }
+            }
+            return Optional.of(page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts the tasks matching the filter.
+     * <p>
+     * The last AND or AND-NOT of the filter only counts the common bits, without building the result.
+     * </p>
+     *
+     * @param params the filter parameters
+     * @return the number of matching tasks, or empty if the filter must be run in SQL
+     */
+    public OptionalLong count(FindTasksDto params) {
+        if (!ready || overflowed || !isIndexed(params)) {
+            return OptionalLong.empty();
+        }
+        lock.readLock().lock();
+        try {
+            Filter filter = filter(params);
+            return filter == null ? OptionalLong.empty() : OptionalLong.of(filter.cardinality());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Indexes the state of a task once the current transaction commits.
+     *
+     * @param id       the identifier of the task
+     * @param title    the title of the task
+     * @param status   the status of the task
+     * @param priority the priority of the task
+     * @param executor the username of the executor of the task
+     * @param author   the username of the author of the task
+     */
+    public void put(Long id, String title, Status status, Priority priority, String executor, String author) {
+        change(new Change(id, title, status, priority, executor, author));
+    }
+
+    /**
+     * Indexes the current state of a task once the current transaction commits.
+     *
+     * @param task the task
+     */
+    public void put(TaskEntity task) {
+        put(task.getId(), task.getTitle(), task.getStatus(), task.getPriority(), username(task.getExecutor()), username(task.getAuthor()));
+    }
+
+    /**
+     * Removes a task from the index once the current transaction commits.
+     *
+     * @param id the identifier of the task
+     */
+    public void remove(Long id) {
+        change(new Change(id, null, null, null, null, null));
+    }
+
+
+    private void change(Change change) {
+        if (!enabled) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                apply(change);
+                if (pending != null) {
+                    pending.add(change);
+                }
+                if (changed != null && change.id >= 0 && change.id < Integer.MAX_VALUE) {
+                    changed.add((int) change.id);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void apply(Change change) {
+        if (change.title == null) {
+            clear(ordinal(change.id));
+        } else {
+            index(change.id, change.title, change.status, change.priority, change.executor, change.author);
+        }
+    }
+
+    private boolean isIndexed(FindTasksDto params) {
+        return params.getCountCommentsLess() == null
+                && params.getCountCommentsGreater() == null
+                && params.getCountCommentsEqual() == null;
+    }
+
+    /**
+     * Collects the bitmaps of the filter.
+     *
+     * @return the filter, or {@code null} if a status or priority is not a known value
+     */
+    private Filter filter(FindTasksDto params) {
+        List<RoaringBitmap> required = new ArrayList<>();
+        List<RoaringBitmap> excluded = new ArrayList<>();
+        if (params.getExecutor() != null) {
+            required.add(userBitmap(byExecutor, params.getExecutor()));
+        }
+        if (params.getAuthor() != null) {
+            required.add(userBitmap(byAuthor, params.getAuthor()));
+        }
+        if (!filter(Status.class, params.getStatus(), byStatus, required)
+                || !filter(Status.class, params.getNonStatus(), byStatus, excluded)
+                || !filter(Priority.class, params.getPriority(), byPriority, required)
+                || !filter(Priority.class, params.getNonPriority(), byPriority, excluded)) {
+            return null;
+        }
+        if (required.isEmpty()) {
+            required.add(all);
+        }
+        required.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+        return new Filter(required, excluded);
+    }
+
+    /**
+     * Adds the bitmap of an enum value to the filter, if the value is given.
+     *
+     * @return {@code false} if the value is not a constant of the enum
+     */
+    private static <E extends Enum<E>> boolean filter(Class<E> type, String value, RoaringBitmap[] bitmaps, List<RoaringBitmap> filter) {
+        if (value == null) {
+            return true;
+        }
+        try {
+            filter.add(bitmaps[Enum.valueOf(type, value).ordinal()]);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private RoaringBitmap userBitmap(List<RoaringBitmap> bitmaps, String username) {
+        Integer user = users.get(username);
+        return user == null || user >= bitmaps.size() ? new RoaringBitmap() : bitmaps.get(user);
+    }
+
+    /**
+     * Sets the bits of a task, clearing the bits of its previous state. Called with the write lock held.
+     */
+    private void index(long id, String title, Status status, Priority priority, String executor, String author) {
+        int ordinal = ordinal(id);
+        if (ordinal < 0) {
+            return;
+        }
+        clear(ordinal);
+        grow(ordinal);
+
+        titles[ordinal] = title;
+        statuses[ordinal] = (byte) status.ordinal();
+        priorities[ordinal] = (byte) priority.ordinal();
+        executors[ordinal] = user(executor, byExecutor);
+        authors[ordinal] = user(author, byAuthor);
+
+        all.add(ordinal);
+        byStatus[statuses[ordinal]].add(ordinal);
+        byPriority[priorities[ordinal]].add(ordinal);
+        if (executors[ordinal] >= 0) {
+            byExecutor.get(executors[ordinal]).add(ordinal);
+        }
+        if (authors[ordinal] >= 0) {
+            byAuthor.get(authors[ordinal]).add(ordinal);
+        }
+    }
+
+    /**
+     * Checks whether the indexed state of a task is the one read. Called with the write lock held.
+     */
+    private boolean isCurrent(int ordinal, TaskIndexEntry entry) {
+        return all.contains(ordinal)
+                && entry.getTitle().equals(titles[ordinal])
+                && statuses[ordinal] == entry.getStatus().ordinal()
+                && priorities[ordinal] == entry.getPriority().ordinal()
+                && executors[ordinal] == code(entry.getExecutor())
+                && authors[ordinal] == code(entry.getAuthor());
+    }
+
+    /**
+     * Clears the bits of a task. Called with the write lock held.
+     */
+    private void clear(int ordinal) {
+        if (ordinal < 0 || !all.contains(ordinal)) {
+            return;
+        }
+        all.remove(ordinal);
+        byStatus[statuses[ordinal]].remove(ordinal);
+        byPriority[priorities[ordinal]].remove(ordinal);
+        if (executors[ordinal] >= 0) {
+            byExecutor.get(executors[ordinal]).remove(ordinal);
+        }
+        if (authors[ordinal] >= 0) {
+            byAuthor.get(authors[ordinal]).remove(ordinal);
+        }
+        titles[ordinal] = null;
+    }
+
+    /**
+     * Returns the code of the username, adding a bitmap for it if needed, or -1 for no user.
+     */
+    private int user(String username, List<RoaringBitmap> bitmaps) {
+        if (username == null) {
+            return -1;
+        }
+        int user = users.computeIfAbsent(username, name -> users.size());
+        while (bitmaps.size() <= user) {
+            bitmaps.add(new RoaringBitmap());
+        }
+        return user;
+    }
+
+    /**
+     * Returns the code of the username without adding it, -1 for no user and -2 for an unknown one.
+     */
+    private int code(String username) {
+        return username == null ? -1 : users.getOrDefault(username, -2);
+    }
+
+    private void grow(int ordinal) {
+        if (ordinal < titles.length) {
+            return;
+        }
+        int length = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(ordinal + 1L, titles.length * 3L / 2 + 16));
+        titles = Arrays.copyOf(titles, length);
+        statuses = Arrays.copyOf(statuses, length);
+        priorities = Arrays.copyOf(priorities, length);
+        executors = Arrays.copyOf(executors, length);
+        authors = Arrays.copyOf(authors, length);
+    }
+
+    /**
+     * Returns the bit position of a task, or -1 if its identifier does not fit and the index cannot be used.
+     */
+    private int ordinal(long id) {
+        if (id < 0 || id >= Integer.MAX_VALUE - 8) {
+            if (!overflowed) {
+                log.warn("Task id {} exceeds the bitmap index range, falling back to SQL", id);
+            }
+            overflowed = true;
+            return -1;
+        }
+        return (int) id;
+    }
+
+    private static String username(UserEntity user) {
+        return user == null ? null : user.getUsername();
+    }
+
+    private static RoaringBitmap[] bitmaps(int count) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[count];
+        for (int i = 0; i < count; i++) {
+            bitmaps[i] = new RoaringBitmap();
+        }
+        return bitmaps;
+    }
+
+
+    /// The bitmaps a task must all be in and those it must not be in, the smallest required one first.
+    private record Filter(List<RoaringBitmap> required, List<RoaringBitmap> excluded) {
+
+        private RoaringBitmap matching() {
+            return matching(required.size(), excluded.size());
+        }
+
+        private long cardinality() {
+            if (!excluded.isEmpty()) {
+                return RoaringBitmap.andNotCardinality(matching(required.size(), excluded.size() - 1), excluded.get(excluded.size() - 1));
+            }
+            if (required.size() > 1) {
+                return RoaringBitmap.andCardinality(matching(required.size() - 1, 0), required.get(required.size() - 1));
+            }
+            return required.get(0).getLongCardinality();
+        }
+
+        /**
+         * Evaluates the first required and excluded bitmaps.
+         */
+        private RoaringBitmap matching(int requiredCount, int excludedCount) {
+            RoaringBitmap matching = required.get(0);
+            for (int i = 1; i < requiredCount; i++) {
+                matching = RoaringBitmap.and(matching, required.get(i));
+            }
+            for (int i = 0; i < excludedCount; i++) {
+                matching = RoaringBitmap.andNot(matching, excluded.get(i));
+            }
+            return matching;
+        }
+    }
+
+    /// The new state of a task, or its removal when the title is {@code null}.
+    private record Change(long id, String title, Status status, Priority priority, String executor, String author) {
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.taskmanagersystem.cache;
+
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Bulk access to the {@code tasks} cache.
+ * <p>
+ * Lookups go to the underlying Caffeine cache so that all missing titles of a page are loaded
+ * by {@link TaskCacheLoader#loadAll} in one query instead of one query per title.
+ * </p>
+ */
+@Component
+public class TaskCache {
+
+    private final LoadingCache<Object, Object> cache;
+
+    /**
+     * Constructor to inject dependencies.
+     *
+     * @param cacheManager the cache manager providing the {@code tasks} cache
+     */
+    @SuppressWarnings("unchecked")
+    public TaskCache(CacheManager cacheManager) {
+        this.cache = (LoadingCache<Object, Object>) cacheManager.getCache("tasks").getNativeCache();
+    }
+
+    /**
+     * Returns the tasks with the given titles, loading the missing ones.
+     *
+     * @param titles the titles of the tasks
+     * @return the {@link TaskResponseDto} of each task that still exists, in the order of the titles
+     */
+    public List<TaskResponseDto> getAll(List<String> titles) {
+        Map<String, TaskResponseDto> tasks = getAllByTitle(titles);
+        return titles.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * Returns the tasks with the given titles, loading the missing ones.
+     *
+     * @param titles the titles of the tasks, possibly repeated
+     * @return the {@link TaskResponseDto} of each task that still exists, by title
+     */
+    @SuppressWarnings("unchecked")
+    public Map<String, TaskResponseDto> getAllByTitle(Collection<String> titles) {
+        return (Map<String, TaskResponseDto>) (Map<?, ?>) cache.getAll(titles);
+    }
+
+    /**
+     * Evicts a task once the current transaction commits, for changes whose title is not known upfront.
+     *
+     * @param title the title of the changed task
+     */
+    public void evict(String title) {
+        TransactionHooks.afterCommit(() -> cache.invalidate(title));
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.taskmanagersystem.cache;
+
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.mapper.TaskMapper;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Loader behind the {@code tasks} cache.
+ * <p>
+ * Caffeine calls it to refresh entries that are older than the refresh interval, so readers keep
+ * getting the cached {@link TaskResponseDto} while a single background reload replaces it.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TaskCacheLoader implements CacheLoader<Object, Object> {
+
+    /** The maximum number of titles bound to one query by {@link #loadAll}. */
+    private static final int LOAD_ALL_CHUNK = 1000;
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Constructor to inject dependencies.
+     *
+     * @param taskRepository     repository used to load the task by title
+     * @param taskMapper         mapper for converting the task to a {@link TaskResponseDto}
+     * @param transactionManager transaction manager used to keep lazy comments loadable off the request thread
+     */
+    public TaskCacheLoader(TaskRepository taskRepository, TaskMapper taskMapper, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Loads the task with the given title.
+     *
+     * @param title the title of the task
+     * @return the {@link TaskResponseDto}, or {@code null} if the task no longer exists
+     */
+    @Override
+    public Object load(Object title) {
+        log.debug("Loading task '{}' into cache", title);
+        return transactionTemplate.execute(status -> taskRepository.findByTitle((String) title)
+                .map(taskMapper::toTaskResponseDto)
+                .orElse(null));
+    }
+
+    /**
+     * Loads the tasks with the given titles, with one query per chunk of titles.
+     *
+     * @param titles the titles of the tasks
+     * @return the {@link TaskResponseDto} of each task that still exists, by title
+     */
+    @Override
+    public Map<Object, Object> loadAll(Set<?> titles) {
+        log.debug("Loading {} tasks into cache", titles.size());
+        List<String> remaining = titles.stream().map(String.class::cast).toList();
+        Map<Object, Object> tasks = new HashMap<>();
+        for (int from = 0; from < remaining.size(); from += LOAD_ALL_CHUNK) {
+            List<String> chunk = remaining.subList(from, Math.min(remaining.size(), from + LOAD_ALL_CHUNK));
+            transactionTemplate.executeWithoutResult(status -> taskRepository.findByTitleIn(chunk)
+                    .forEach(task -> tasks.put(task.getTitle(), taskMapper.toTaskResponseDto(task))));
+        }
+        return tasks;
+    }
+}
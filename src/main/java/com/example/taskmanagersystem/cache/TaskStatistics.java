@@ -0,0 +1,245 @@
+package com.example.taskmanagersystem.cache;
+
+import com.example.taskmanagersystem.dto.TaskStatisticsDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.TaskEntity;
+import com.example.taskmanagersystem.model.UserEntity;
+import com.example.taskmanagersystem.repository.TaskCount;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory counters of the tasks by status, priority and executor.
+ * <p>
+ * Every combination of status, priority and executor has its own {@link LongAdder}, so concurrent mutations
+ * of different tasks do not contend. The counters are seeded with one aggregate query at startup and changed
+ * after each mutating transaction commits. Reconciliation periodically replaces them with a fresh count,
+ * replaying the changes committed while it ran, to correct any drift.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TaskStatistics {
+
+    private final TaskRepository taskRepository;
+
+    /** Held shared while changing a counter and exclusively while swapping in reconciled counters. */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile Map<Cell, LongAdder> counters = new ConcurrentHashMap<>();
+    private Queue<Change> pending;
+    private volatile boolean seeded;
+
+
+    /**
+     * Constructor to inject dependencies.
+     *
+     * @param taskRepository the repository the counters are reconciled with
+     */
+    public TaskStatistics(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+
+    /**
+     * Counts a task once the current transaction commits.
+     *
+     * @param status   the status of the task
+     * @param priority the priority of the task
+     * @param executor the username of the executor of the task
+     */
+    public void increment(Status status, Priority priority, String executor) {
+        changeAfterCommit(status, priority, executor, 1);
+    }
+
+    /**
+     * Counts a task in its current state once the current transaction commits.
+     *
+     * @param task the task
+     */
+    public void increment(TaskEntity task) {
+        changeAfterCommit(task.getStatus(), task.getPriority(), username(task.getExecutor()), 1);
+    }
+
+    /**
+     * Stops counting a task once the current transaction commits.
+     *
+     * @param status   the status of the task
+     * @param priority the priority of the task
+     * @param executor the username of the executor of the task
+     */
+    public void decrement(Status status, Priority priority, String executor) {
+        changeAfterCommit(status, priority, executor, -1);
+    }
+
+    /**
+     * Stops counting a task in its current state once the current transaction commits.
+     * <p>
+     * Called before a mutation, together with {@link #increment(TaskEntity)} after it, to move the task
+     * to its new counter.
+     * </p>
+     *
+     * @param task the task
+     */
+    public void decrement(TaskEntity task) {
+        changeAfterCommit(task.getStatus(), task.getPriority(), username(task.getExecutor()), -1);
+    }
+
+    /**
+     * Returns the current task statistics.
+     * <p>
+     * The cost depends on the number of executors, not on the number of tasks.
+     * </p>
+     *
+     * @return a {@link TaskStatisticsDto} with the task counts
+     */
+    public TaskStatisticsDto get() {
+        long total = 0;
+        Map<Status, Long> byStatus = zeros(Status.class);
+        Map<Priority, Long> byPriority = zeros(Priority.class);
+        Map<String, Map<Status, Long>> byExecutor = new TreeMap<>();
+        for (Map.Entry<Cell, LongAdder> counter : counters.entrySet()) {
+            long count = counter.getValue().sum();
+            if (count == 0) {
+                continue;
+            }
+            Cell cell = counter.getKey();
+            total += count;
+            byStatus.merge(cell.status(), count, Long::sum);
+            byPriority.merge(cell.priority(), count, Long::sum);
+            byExecutor.computeIfAbsent(cell.executor(), executor -> zeros(Status.class))
+                    .merge(cell.status(), count, Long::sum);
+        }
+        return new TaskStatisticsDto(total, byStatus, byPriority, byExecutor);
+    }
+
+    /**
+     * Replaces the counters with the counts in the database.
+     * <p>
+     * Changes committed while the counts are read are recorded and replayed on the new counters.
+     * A change committed just as the reconciliation starts may be counted twice until the next run.
+     * </p>
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${statistics.reconcile-interval:600000}",
+            fixedDelayString = "${statistics.reconcile-interval:600000}")
+    public void reconcile() {
+        Queue<Change> changes = new ConcurrentLinkedQueue<>();
+        lock.writeLock().lock();
+        try {
+            pending = changes;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Map<Cell, LongAdder> reconciled = new ConcurrentHashMap<>();
+        List<TaskCount> counts;
+        try {
+            counts = taskRepository.countByStatusPriorityAndExecutor();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pending = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        for (TaskCount count : counts) {
+            reconciled.computeIfAbsent(new Cell(count.getStatus(), count.getPriority(), count.getExecutor()),
+                    cell -> new LongAdder()).add(count.getCount());
+        }
+
+        lock.writeLock().lock();
+        int drifted;
+        try {
+            pending = null;
+            for (Change change : changes) {
+                reconciled.computeIfAbsent(change.cell(), cell -> new LongAdder()).add(change.delta());
+            }
+            drifted = drifted(counters, reconciled);
+            counters = reconciled;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (!seeded) {
+            seeded = true;
+            log.info("Task statistics seeded with {} counters", reconciled.size());
+        } else if (drifted > 0) {
+            log.warn("Task statistics reconciled, {} counters corrected", drifted);
+        } else {
+            log.debug("Task statistics reconciled, no drift");
+        }
+    }
+
+
+    /**
+     * Tasks without an executor are not counted, like in the aggregate query.
+     */
+    private void changeAfterCommit(Status status, Priority priority, String executor, long delta) {
+        if (executor != null) {
+            Cell cell = new Cell(status, priority, executor);
+            TransactionHooks.afterCommit(() -> change(cell, delta));
+        }
+    }
+
+    private void change(Cell cell, long delta) {
+        lock.readLock().lock();
+        try {
+            counters.computeIfAbsent(cell, key -> new LongAdder()).add(delta);
+            Queue<Change> changes = pending;
+            if (changes != null) {
+                changes.add(new Change(cell, delta));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int drifted(Map<Cell, LongAdder> current, Map<Cell, LongAdder> reconciled) {
+        Set<Cell> cells = new HashSet<>(current.keySet());
+        cells.addAll(reconciled.keySet());
+        int drifted = 0;
+        for (Cell cell : cells) {
+            LongAdder was = current.get(cell);
+            LongAdder is = reconciled.get(cell);
+            if ((was == null ? 0 : was.sum()) != (is == null ? 0 : is.sum())) {
+                drifted++;
+            }
+        }
+        return drifted;
+    }
+
+    private static String username(UserEntity user) {
+        return user == null ? null : user.getUsername();
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeros(Class<E> type) {
+        Map<E, Long> zeros = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            zeros.put(value, 0L);
+        }
+        return zeros;
+    }
+
+
+    /// One combination of status, priority and executor.
+    private record Cell(Status status, Priority priority, String executor) {
+    }
+
+    /// A change of one counter committed during reconciliation.
+    private record Change(Cell cell, long delta) {
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.taskmanagersystem.cache;
+
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.repository.TaskTitle;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory index of the task titles answering prefix lookups.
+ * <p>
+ * Titles are kept in an array sorted case-insensitively, so the titles starting with a prefix are adjacent
+ * and are found with a binary search. Titles created or deleted since the array was built are kept in small
+ * sorted deltas, which are merged into a new array once they grow past the compaction threshold.
+ * Lookups never lock and never touch the database; changes made in a transaction are applied after it commits.
+ * Until the index has been warmed from the {@link TaskRepository} no titles are suggested.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TaskTitleIndex {
+
+    /** The number of titles read per query while warming the index. */
+    private static final int WARM_UP_BATCH = 1000;
+
+    private final TaskRepository taskRepository;
+    private final Integer compactionThreshold;
+    private volatile Snapshot snapshot = new Snapshot(new String[0]);
+    private volatile boolean ready;
+
+
+    /**
+     * Constructor for initializing the index.
+     *
+     * @param taskRepository      the repository the index is warmed from
+     * @param compactionThreshold the number of changes after which they are merged into the sorted array
+     */
+    public TaskTitleIndex(TaskRepository taskRepository,
+                          @Value("${suggest.compaction-threshold:4096}") Integer compactionThreshold) {
+        this.taskRepository = taskRepository;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+
+    /**
+     * Loads the titles of all existing tasks into the index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long afterId = 0;
+        List<String> titles = new ArrayList<>();
+        List<TaskTitle> batch;
+        do {
+            batch = taskRepository.findTitlesAfter(afterId, Limit.of(WARM_UP_BATCH));
+            for (TaskTitle title : batch) {
+                titles.add(title.getTitle());
+                afterId = title.getId();
+            }
+        } while (batch.size() == WARM_UP_BATCH);
+
+        String[] sorted = titles.stream().sorted(Comparator.comparing(TaskTitleIndex::key)).toArray(String[]::new);
+        synchronized (this) {
+            snapshot = snapshot.rebuild(sorted);
+        }
+        ready = true;
+        log.info("Task title index warmed with {} titles", sorted.length);
+    }
+
+    /**
+     * Returns the titles starting with the prefix, ignoring case, in alphabetical order.
+     *
+     * @param prefix the prefix of the titles
+     * @param limit  the maximum number of titles to return
+     * @return the first matching titles, empty until the index has been warmed
+     */
+    public List<String> suggest(String prefix, int limit) {
+        if (!ready) {
+            return List.of();
+        }
+        return snapshot.suggest(fold(prefix), limit);
+    }
+
+    /**
+     * Adds the title of a created task once the current transaction commits.
+     *
+     * @param title the title of the task
+     */
+    public void add(String title) {
+        TransactionHooks.afterCommit(() -> put(title));
+    }
+
+    /**
+     * Removes the title of a deleted task once the current transaction commits.
+     *
+     * @param title the title of the task
+     */
+    public void remove(String title) {
+        TransactionHooks.afterCommit(() -> delete(title));
+    }
+
+
+    private synchronized void put(String title) {
+        Snapshot current = snapshot;
+        current.removed.remove(title);
+        if (!current.contains(title)) {
+            current.added.put(key(title), title);
+        }
+        compactIfNeeded(current);
+    }
+
+    private synchronized void delete(String title) {
+        Snapshot current = snapshot;
+        if (current.added.remove(key(title)) == null) {
+            current.removed.add(title);
+        }
+        compactIfNeeded(current);
+    }
+
+    private void compactIfNeeded(Snapshot current) {
+        if (current.added.size() + current.removed.size() > compactionThreshold) {
+            snapshot = current.rebuild(current.titles);
+        }
+    }
+
+    private static String fold(String title) {
+        return title.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the sort key of a title: the folded title, then the title itself to order titles differing only in case.
+     * Titles never contain {@code \0}, so the separator sorts before every character.
+     */
+    private static String key(String title) {
+        return fold(title) + '\0' + title;
+    }
+
+
+    /**
+     * Sorted array of titles with the changes made since it was built.
+     * <p>
+     * The array is never modified; the deltas are only modified while holding the index lock.
+     * </p>
+     */
+    private static final class Snapshot {
+
+        private final String[] titles;
+        private final NavigableMap<String, String> added = new ConcurrentSkipListMap<>();
+        private final Set<String> removed = ConcurrentHashMap.newKeySet();
+
+        private Snapshot(String[] titles) {
+            this.titles = titles;
+        }
+
+        /**
+         * Merges the deltas into the given sorted titles.
+         */
+        private Snapshot rebuild(String[] sorted) {
+            List<String> merged = new ArrayList<>(sorted.length + added.size());
+            Iterator<Map.Entry<String, String>> delta = added.entrySet().iterator();
+            Map.Entry<String, String> next = delta.hasNext() ? delta.next() : null;
+            for (String title : sorted) {
+                String key = key(title);
+                while (next != null && next.getKey().compareTo(key) <= 0) {
+                    if (!next.getKey().equals(key)) {
+                        merged.add(next.getValue());
+                    }
+                    next = delta.hasNext() ? delta.next() : null;
+                }
+                if (!removed.contains(title)) {
+                    merged.add(title);
+                }
+            }
+            while (next != null) {
+                merged.add(next.getValue());
+                next = delta.hasNext() ? delta.next() : null;
+            }
+            return new Snapshot(merged.toArray(String[]::new));
+        }
+
+        private List<String> suggest(String prefix, int limit) {
+            List<String> found = new ArrayList<>(limit);
+            int index = lowerBound(prefix);
+            Iterator<Map.Entry<String, String>> delta = added.tailMap(prefix).entrySet().iterator();
+            Map.Entry<String, String> next = delta.hasNext() ? delta.next() : null;
+
+            while (found.size() < limit) {
+                String title = index < titles.length && fold(titles[index]).startsWith(prefix) ? titles[index] : null;
+                boolean deltaMatches = next != null && next.getKey().startsWith(prefix);
+                if (title == null && !deltaMatches) {
+                    break;
+                }
+                int order = title == null ? 1 : !deltaMatches ? -1 : key(title).compareTo(next.getKey());
+                if (order <= 0) {
+                    if (order < 0 && !removed.contains(title)) {
+                        found.add(title);
+                    }
+                    index++;
+                }
+                if (order >= 0) {
+                    found.add(next.getValue());
+                    next = delta.hasNext() ? delta.next() : null;
+                }
+            }
+            return found;
+        }
+
+        private boolean contains(String title) {
+            String folded = fold(title);
+            for (int i = lowerBound(folded); i < titles.length && fold(titles[i]).equals(folded); i++) {
+                if (titles[i].equals(title)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Returns the index of the first title whose folded form is not less than the given one.
+         */
+        private int lowerBound(String folded) {
+            int low = 0;
+            int high = titles.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (fold(titles[middle]).compareTo(folded) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
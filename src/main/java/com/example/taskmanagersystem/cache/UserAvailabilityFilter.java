@@ -0,0 +1,143 @@
+package com.example.taskmanagersystem.cache;
+
+import com.example.taskmanagersystem.repository.UserIdentity;
+import com.example.taskmanagersystem.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter of the emails and usernames already taken.
+ * <p>
+ * A negative answer is definite, so the common "not taken" case needs no database read.
+ * A positive answer may be false and has to be confirmed against the database.
+ * Until the filter has been warmed from the {@link UserRepository} every value is reported as possibly taken.
+ * </p>
+ */
+@Slf4j
+@Component
+public class UserAvailabilityFilter {
+
+    /** The number of identities read per query while warming the filter. */
+    private static final int WARM_UP_BATCH = 1000;
+
+    private final UserRepository userRepository;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private volatile boolean ready;
+
+
+    /**
+     * Constructor for initializing the filter.
+     *
+     * @param userRepository    the repository the filter is warmed from
+     * @param expectedUsers     the number of users the filter is sized for
+     * @param falsePositiveRate the accepted rate of false "possibly taken" answers at the expected size
+     */
+    public UserAvailabilityFilter(UserRepository userRepository,
+                                  @Value("${availability.expected-users:1000000}") Long expectedUsers,
+                                  @Value("${availability.false-positive-rate:0.01}") Double falsePositiveRate) {
+        this.userRepository = userRepository;
+        long entries = Math.max(1, expectedUsers * 2);
+        long words = Math.max(1, (long) Math.ceil(-entries * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)) / 64));
+        this.bits = new AtomicLongArray(Math.toIntExact(words));
+        this.bitCount = words * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / entries * Math.log(2)));
+    }
+
+
+    /**
+     * Loads the emails and usernames of all existing users into the filter.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        long afterId = 0;
+        long count = 0;
+        List<UserIdentity> identities;
+        do {
+            identities = userRepository.findIdentitiesAfter(afterId, Limit.of(WARM_UP_BATCH));
+            for (UserIdentity identity : identities) {
+                put(identity.getEmail(), identity.getUsername());
+                afterId = identity.getId();
+            }
+            count += identities.size();
+        } while (identities.size() == WARM_UP_BATCH);
+
+        ready = true;
+        log.info("User availability filter warmed with {} users", count);
+    }
+
+    /**
+     * Records the email and username of a registered user.
+     *
+     * @param email    the email of the user
+     * @param username the username of the user
+     */
+    public void put(String email, String username) {
+        set("email:" + email);
+        set("username:" + username);
+    }
+
+    /**
+     * Checks whether the email may already be taken.
+     *
+     * @param email the email to check
+     * @return {@code false} if the email is definitely not taken
+     */
+    public boolean mightContainEmail(String email) {
+        return !ready || test("email:" + email);
+    }
+
+    /**
+     * Checks whether the username may already be taken.
+     *
+     * @param username the username to check
+     * @return {@code false} if the username is definitely not taken
+     */
+    public boolean mightContainUsername(String username) {
+        return !ready || test("username:" + username);
+    }
+
+
+    private void set(String value) {
+        long hash = hash(value);
+        long step = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            bits.getAndAccumulate((int) (bit >>> 6), 1L << bit, (word, mask) -> word | mask);
+        }
+    }
+
+    private boolean test(String value) {
+        long hash = hash(value);
+        long step = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash + i * step, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
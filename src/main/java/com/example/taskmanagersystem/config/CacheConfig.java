@@ -0,0 +1,84 @@
+package com.example.taskmanagersystem.config;
+
+import com.example.taskmanagersystem.cache.TaskCacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration class for the application caches.
+ */
+@Configuration
+public class CacheConfig {
+
+    /** The maximum number of entries in the {@code tasks} cache. */
+    @Value("${cache.tasks.maximum-size:10000}")
+    private Long tasksMaximumSize;
+
+    /** The time after which a {@code tasks} entry expires, in milliseconds. */
+    @Value("${cache.tasks.expire-after-write:600000}")
+    private Long tasksExpireAfterWrite;
+
+    /** The time after which a {@code tasks} entry is refreshed in the background, in milliseconds. */
+    @Value("${cache.tasks.refresh-after-write:60000}")
+    private Long tasksRefreshAfterWrite;
+
+    /** The maximum number of executors in the {@code executorTasks} cache. */
+    @Value("${cache.executor-tasks.maximum-size:10000}")
+    private Long executorTasksMaximumSize;
+
+    /** The time after which an {@code executorTasks} entry expires, in milliseconds. */
+    @Value("${cache.executor-tasks.expire-after-write:600000}")
+    private Long executorTasksExpireAfterWrite;
+
+    /** The maximum number of pages in the {@code findQueries} cache. */
+    @Value("${cache.find-queries.maximum-size:1000}")
+    private Long findQueriesMaximumSize;
+
+    /** The time after which a {@code findQueries} entry expires, in milliseconds. */
+    @Value("${cache.find-queries.expire-after-write:600000}")
+    private Long findQueriesExpireAfterWrite;
+
+
+    /**
+     * Creates the cache manager.
+     * <p>
+     * The {@code tasks} cache is a loading cache: concurrent misses for the same title share one load,
+     * and entries older than the refresh interval are served stale while they are reloaded.
+     * The {@code executorTasks} cache holds the task pages of each executor,
+     * and the {@code findQueries} cache the titles found by each filter and page.
+     * All caches record statistics, which are published as {@code cache.gets} hit and miss meters.
+     * Evictions are deferred until the surrounding transaction commits.
+     * </p>
+     *
+     * @param taskCacheLoader the loader used to refresh {@code tasks} entries
+     * @return the cache manager
+     */
+    @Bean
+    public CacheManager cacheManager(TaskCacheLoader taskCacheLoader) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache("tasks", Caffeine.newBuilder()
+                .maximumSize(tasksMaximumSize)
+                .expireAfterWrite(tasksExpireAfterWrite, TimeUnit.MILLISECONDS)
+                .refreshAfterWrite(tasksRefreshAfterWrite, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build(taskCacheLoader));
+        cacheManager.registerCustomCache("executorTasks", Caffeine.newBuilder()
+                .maximumSize(executorTasksMaximumSize)
+                .expireAfterWrite(executorTasksExpireAfterWrite, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build());
+        cacheManager.registerCustomCache("findQueries", Caffeine.newBuilder()
+                .maximumSize(findQueriesMaximumSize)
+                .expireAfterWrite(findQueriesExpireAfterWrite, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build());
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
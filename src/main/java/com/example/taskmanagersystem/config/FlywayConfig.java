@@ -0,0 +1,89 @@
+package com.example.taskmanagersystem.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.Location;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Configuration class for the Flyway migrations.
+ */
+@Slf4j
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * Creates the migration strategy skipping Flyway when the migrations have not changed since the last start.
+     * <p>
+     * A checksum of the migration scripts is stored in {@code flyway_checksum_cache} after every successful migration.
+     * When it matches the scripts on the classpath, the schema history is neither validated nor migrated,
+     * which saves Flyway's scanning, locking and validation queries on startup.
+     * </p>
+     *
+     * @return the migration strategy
+     */
+    @Bean
+    @ConditionalOnProperty(value = "startup.flyway.checksum-cache", havingValue = "true")
+    public FlywayMigrationStrategy checksumCacheMigrationStrategy() {
+        return flyway -> {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(flyway.getConfiguration().getDataSource());
+            String checksum = checksum(flyway);
+            if (checksum.equals(cachedChecksum(jdbcTemplate))) {
+                log.info("Migrations unchanged since the last start, skipping Flyway validation");
+                return;
+            }
+
+            flyway.migrate();
+            jdbcTemplate.update("delete from flyway_checksum_cache");
+            jdbcTemplate.update("insert into flyway_checksum_cache (checksum) values (?)", checksum);
+            log.info("Migrations applied, checksum cached");
+        };
+    }
+
+
+    private String checksum(Flyway flyway) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver();
+            for (Location location : flyway.getConfiguration().getLocations()) {
+                List<Resource> resources = Arrays.stream(resolver.getResources(location.getDescriptor() + "/**/*.sql"))
+                        .sorted(Comparator.comparing(Resource::getFilename))
+                        .toList();
+                for (Resource resource : resources) {
+                    digest.update(resource.getFilename().getBytes(StandardCharsets.UTF_8));
+                    digest.update(resource.getContentAsByteArray());
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String cachedChecksum(JdbcTemplate jdbcTemplate) {
+        try {
+            return jdbcTemplate.query("select checksum from flyway_checksum_cache", rs -> rs.next() ? rs.getString(1) : null);
+        } catch (DataAccessException e) {
+            return null;
+        }
+    }
+}
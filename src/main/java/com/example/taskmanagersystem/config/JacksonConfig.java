@@ -0,0 +1,26 @@
+package com.example.taskmanagersystem.config;
+
+import com.example.taskmanagersystem.dto.TaskField;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the JSON serialization.
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Serializes all fields of a task unless a response selects some of them.
+     *
+     * @return the customizer registering the default task field filter
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer taskFieldsFilterCustomizer() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(TaskField.FILTER, SimpleBeanPropertyFilter.serializeAll()));
+    }
+}
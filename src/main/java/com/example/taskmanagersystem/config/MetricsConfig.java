@@ -0,0 +1,39 @@
+package com.example.taskmanagersystem.config;
+
+import com.example.taskmanagersystem.metrics.ServiceMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Service;
+
+/**
+ * Configuration class for the application metrics.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * Creates the advisor timing every public method of the {@link Service} beans.
+     * <p>
+     * It wraps the transaction and cache interceptors, so the recorded time includes commits and cache hits.
+     * </p>
+     *
+     * @param meterRegistry the registry for the service metrics
+     * @return the advisor
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(Service.class, true), new ServiceMetricsInterceptor(meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+}
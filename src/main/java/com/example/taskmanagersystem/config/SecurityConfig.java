@@ -2,6 +2,9 @@ package com.example.taskmanagersystem.config;
 
 import com.example.taskmanagersystem.jwt.JwtAuthEntryPoint;
 import com.example.taskmanagersystem.jwt.JwtAuthenticationFilter;
+import com.example.taskmanagersystem.security.BoundedPasswordEncoder;
+import com.example.taskmanagersystem.security.PasswordHashingExecutor;
+import com.example.taskmanagersystem.security.TunableBCryptPasswordEncoder;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -12,7 +15,6 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -33,6 +35,10 @@ public class SecurityConfig {
     private final JwtAuthEntryPoint jwtAuthEntryPoint;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    /** The BCrypt cost used for new and re-hashed passwords. */
+    @Value("${security.bcrypt.strength:10}")
+    private Integer bcryptStrength;
+
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -49,9 +55,10 @@ public class SecurityConfig {
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
                                 "/webjars/**",
-                                "/swagger-ui.html"
+                                "/swagger-ui.html",
+                                "/actuator/health"
                         ).permitAll()
-                        .requestMatchers("/api/task/admin/**")
+                        .requestMatchers("/api/task/admin/**", "/actuator/**")
                         .hasAuthority("ADMIN")
                         .anyRequest().authenticated())
                 .httpBasic(Customizer.withDefaults());
@@ -66,9 +73,19 @@ public class SecurityConfig {
     }
 
 
+    /**
+     * Creates the password encoder.
+     * <p>
+     * BCrypt runs on the bounded {@link PasswordHashingExecutor} instead of the request threads.
+     * Stored hashes with a cost other than {@code security.bcrypt.strength} are re-hashed on successful login.
+     * </p>
+     *
+     * @param passwordHashingExecutor the executor the hashing runs on
+     * @return the password encoder
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor) {
+        return new BoundedPasswordEncoder(new TunableBCryptPasswordEncoder(bcryptStrength), passwordHashingExecutor);
     }
 
 }
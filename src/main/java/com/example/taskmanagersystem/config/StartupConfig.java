@@ -0,0 +1,37 @@
+package com.example.taskmanagersystem.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+
+/**
+ * Configuration class for the application startup.
+ */
+@Configuration
+public class StartupConfig {
+
+    /**
+     * Creates the filter keeping eager the beans that must run without being requested.
+     * <p>
+     * With lazy initialization, as in the {@code fast-startup} profile, a bean is only created when it is first
+     * needed, and its {@link Scheduled} methods are only registered then. Beans declaring scheduled jobs or event
+     * listeners, such as the archive job and the in-memory index warm-ups, are therefore still created on startup.
+     * </p>
+     *
+     * @return the filter
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledAndListenerBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> beanType != null
+                && Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(ClassUtils.getUserClass(beanType)))
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class)
+                        || AnnotatedElementUtils.hasAnnotation(method, EventListener.class));
+    }
+}
@@ -2,10 +2,18 @@ package com.example.taskmanagersystem.controller;
 
 import com.example.taskmanagersystem.dto.CommentCreateDto;
 import com.example.taskmanagersystem.dto.CreateTaskDto;
+import com.example.taskmanagersystem.dto.CycleTimeDto;
+import com.example.taskmanagersystem.dto.FindTasksCountDto;
 import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.dto.FindTasksResponseDto;
+import com.example.taskmanagersystem.dto.TaskField;
+import com.example.taskmanagersystem.dto.TaskLookupDto;
 import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.dto.TaskSearchResponseDto;
+import com.example.taskmanagersystem.dto.TaskStatisticsDto;
 import com.example.taskmanagersystem.model.Priority;
 import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.service.impl.TaskArchiveServiceImpl;
 import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
 import com.example.taskmanagersystem.validator.CheckEnum;
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,18 +46,21 @@ import java.util.List;
 public class AdminTaskController {
 
     private final TasksServiceImpl taskService;
+    private final TaskArchiveServiceImpl taskArchiveService;
 
     SecurityContextHolderStrategy strategy =
             SecurityContextHolder.getContextHolderStrategy();
 
 
     /**
-     * Constructs an {@code AdminTaskController} with the given task service.
+     * Constructs an {@code AdminTaskController} with the given task services.
      *
-     * @param taskService the service for managing tasks
+     * @param taskService        the service for managing tasks
+     * @param taskArchiveService the service for reading the archived tasks
      */
-    public AdminTaskController(TasksServiceImpl taskService) {
+    public AdminTaskController(TasksServiceImpl taskService, TaskArchiveServiceImpl taskArchiveService) {
         this.taskService = taskService;
+        this.taskArchiveService = taskArchiveService;
     }
 
 
@@ -93,6 +104,7 @@ public class AdminTaskController {
      *
      * @param offset the starting index for pagination, default is 0
      * @param limit  the maximum number of tasks to return, default is 20
+     * @param fields the comma-separated fields of the tasks to return, all by default
      * @return a list of {@link TaskResponseDto} representing all tasks
      */
     @Operation(
@@ -116,8 +128,10 @@ public class AdminTaskController {
     @SecurityRequirement(name = "Bearer Auth")
     @GetMapping("/showAll")
     public List<TaskResponseDto> showAllTasks(@RequestParam(value = "offset", defaultValue = "0") @Min(0) Integer offset,
-                                              @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(100) Integer limit){
-        return taskService.showAllTasks(limit, offset);
+                                              @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(100) Integer limit,
+                                              @RequestParam(value = "fields", required = false)
+                                              @Parameter(description = "Comma-separated fields of the tasks to return, all by default") String fields){
+        return taskService.showAllTasks(limit, offset, TaskField.parse(fields));
     }
 
 
@@ -230,7 +244,9 @@ public class AdminTaskController {
      * Retrieves a task by its title.
      * Allows you to find a task by title for a user with the administrator role
      *
-     * @param title the title of the task
+     * @param title           the title of the task
+     * @param fields          the comma-separated fields of the task to return, all by default
+     * @param includeArchived whether to look for the task in the archive if no task has the title
      * @return the {@link TaskResponseDto} representing the task
      */
     @Operation(
@@ -254,10 +270,52 @@ public class AdminTaskController {
     @SecurityRequirement(name = "Bearer Auth")
     @GetMapping("/show/byTitle")
     public TaskResponseDto showTaskByTitle(@RequestParam @Parameter(description = "Title of the task you are looking for", required = true)
-                                                    @NotBlank @Size(max = 255) String title){
+                                                    @NotBlank @Size(max = 255) String title,
+                                           @RequestParam(value = "fields", required = false)
+                                           @Parameter(description = "Comma-separated fields of the task to return, all by default") String fields,
+                                           @RequestParam(value = "includeArchived", defaultValue = "false")
+                                           @Parameter(description = "Whether to look for the task among the archived completed tasks") Boolean includeArchived){
+        if (includeArchived) {
+            return taskArchiveService.showTaskByTitleIncludingArchived(title);
+        }
         return taskService.showTaskByTitle(title);
     }
 
+    /**
+     * Retrieves many tasks by their titles.
+     * Allows you to find up to 2000 tasks by title in one request for a user with the administrator role
+     *
+     * @param titles the titles of the tasks
+     * @param fields the comma-separated fields of the tasks to return, all by default
+     * @return a {@link TaskLookupDto} for each title, in the order of the titles
+     */
+    @Operation(
+            summary = "Find by titles",
+            description = "Allows you to find up to 2000 tasks by title in one request for a user with the administrator role. " +
+                    "The tasks are returned in the order of the titles, each marked as found or not",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Incorrect input data",
+                            responseCode = "400"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized",
+                            responseCode = "401"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "Bearer Auth")
+    @PostMapping("/show/byTitles")
+    public List<TaskLookupDto> showTasksByTitles(@RequestBody @Size(min = 1, max = 2000) List<@NotBlank @Size(max = 255) String> titles,
+                                                 @RequestParam(value = "fields", required = false)
+                                                 @Parameter(description = "Comma-separated fields of the tasks to return, all by default") String fields){
+        return taskService.showTasksByTitles(titles);
+    }
+
     /**
      * Retrieves tasks by executor username with pagination.
      * Shows a paginated list of tasks for a given executor for a user with the administrator role
@@ -265,6 +323,7 @@ public class AdminTaskController {
      * @param offset   the starting index for pagination, default is 0
      * @param limit    the maximum number of tasks to return, default is 20
      * @param executor the username of the executor
+     * @param fields   the comma-separated fields of the tasks to return, all by default
      * @return a list of {@link TaskResponseDto} representing the tasks
      */
     @Operation(
@@ -290,8 +349,10 @@ public class AdminTaskController {
     public List<TaskResponseDto> showTasksByExecutor(@RequestParam(value = "offset", defaultValue = "0") @Min(0) Integer offset,
                                                      @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(100) Integer limit,
                                                      @RequestParam  @Parameter(description = "Username of the executor", required = true)
-                                                            @NotBlank @Size(max = 30) String executor){
-        return taskService.showTaskByExecutorUsername(executor, limit, offset);
+                                                            @NotBlank @Size(max = 30) String executor,
+                                                     @RequestParam(value = "fields", required = false)
+                                                     @Parameter(description = "Comma-separated fields of the tasks to return, all by default") String fields){
+        return taskService.showTaskByExecutorUsername(executor, limit, offset, TaskField.parse(fields));
     }
 
 
@@ -301,7 +362,9 @@ public class AdminTaskController {
      *
      * @param offset the starting index for pagination, default is 0
      * @param limit  the maximum number of tasks to return, default is 20
-     * @param findTasksDto the DTO containing information about the desired parameters
+     * @param findTasksDto    the DTO containing information about the desired parameters
+     * @param fields          the comma-separated fields of the tasks to return, all by default
+     * @param includeArchived whether to append the matching archived tasks
      * @return a list of {@link TaskResponseDto} representing all tasks
      */
     @Operation(
@@ -326,12 +389,212 @@ public class AdminTaskController {
     @PostMapping("/find")
     public List<TaskResponseDto> findTasks(@RequestParam(value = "offset", defaultValue = "0") @Min(0) Integer offset,
                                             @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(100) Integer limit,
-                                            @Valid @RequestBody FindTasksDto findTasksDto){
+                                            @Valid @RequestBody FindTasksDto findTasksDto,
+                                            @RequestParam(value = "fields", required = false)
+                                            @Parameter(description = "Comma-separated fields of the tasks to return, all by default") String fields,
+                                            @RequestParam(value = "includeArchived", defaultValue = "false")
+                                            @Parameter(description = "Whether to append the matching archived completed tasks") Boolean includeArchived){
+        if (includeArchived) {
+            return taskArchiveService.showAllTasksBySpecificationIncludingArchived(findTasksDto, limit, offset, TaskField.parse(fields));
+        }
+        return taskService.showAllTasksBySpecification(findTasksDto, limit, offset, TaskField.parse(fields));
+    }
+
+    /**
+     * Count by parameters
+     * Allows to count the tasks matching a flexible list of parameters without returning them
+     *
+     * @param findTasksDto the DTO containing information about the desired parameters
+     * @return a {@link FindTasksCountDto} with the number of matching tasks
+     */
+    @Operation(
+            summary = "Count by parameters",
+            description = "Allows to count the tasks matching a flexible list of parameters without returning them",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Incorrect input data",
+                            responseCode = "400"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized",
+                            responseCode = "401"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "Bearer Auth")
+    @PostMapping("/find/count")
+    public FindTasksCountDto countTasks(@Valid @RequestBody FindTasksDto findTasksDto){
 
-        taskService.showAllTasksBySpecification(findTasksDto, limit, offset);
-        return taskService.showAllTasksBySpecification(findTasksDto, limit, offset);
+        return taskService.countTasksBySpecification(findTasksDto);
     }
 
+    /**
+     * Check by parameters
+     * Allows to check whether any task matches a flexible list of parameters without returning it
+     *
+     * @param findTasksDto the DTO containing information about the desired parameters
+     * @return a {@link FindTasksCountDto} telling whether a task matches
+     */
+    @Operation(
+            summary = "Check by parameters",
+            description = "Allows to check whether any task matches a flexible list of parameters without returning it",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Incorrect input data",
+                            responseCode = "400"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized",
+                            responseCode = "401"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "Bearer Auth")
+    @PostMapping("/find/exists")
+    public FindTasksCountDto existsTasks(@Valid @RequestBody FindTasksDto findTasksDto){
 
+        return taskService.existsTasksBySpecification(findTasksDto);
+    }
 
+    /**
+     * Search by parameters with facet counts
+     * Allows to find tasks using a flexible list of parameters and to count all matching tasks
+     * by status, priority, executor and author in the same request
+     *
+     * @param offset       the starting index for pagination, default is 0
+     * @param limit        the maximum number of tasks to return, default is 20
+     * @param facetLimit   the maximum number of executors and of authors to count, default is 10
+     * @param findTasksDto the DTO containing information about the desired parameters
+     * @param fields       the comma-separated fields of the tasks to return, all by default
+     * @return a {@link FindTasksResponseDto} with the found tasks and the facet counts
+     */
+    @Operation(
+            summary = "Search by parameters with facet counts",
+            description = "Allows to find tasks using a flexible list of parameters and returns the number of all matching tasks by status, priority, executor and author",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Incorrect input data",
+                            responseCode = "400"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized",
+                            responseCode = "401"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "Bearer Auth")
+    @PostMapping("/find/faceted")
+    public FindTasksResponseDto findTasksWithFacets(@RequestParam(value = "offset", defaultValue = "0") @Min(0) Integer offset,
+                                                    @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(100) Integer limit,
+                                                    @RequestParam(value = "facetLimit", defaultValue = "10") @Min(1) @Max(100) Integer facetLimit,
+                                                    @Valid @RequestBody FindTasksDto findTasksDto,
+                                                    @RequestParam(value = "fields", required = false)
+                                                    @Parameter(description = "Comma-separated fields of the tasks to return, all by default") String fields){
+
+        return taskService.showAllTasksBySpecificationWithFacets(findTasksDto, limit, offset, facetLimit, TaskField.parse(fields));
+    }
+
+    /**
+     * Full-text search.
+     * Finds tasks by the words of their title, description and comments, from the most relevant
+     *
+     * @param query  the words to search for, a word ending with {@code *} matches as a prefix
+     * @param limit  the maximum number of tasks to return, default is 20
+     * @param after  the cursor of the next page returned with the previous page
+     * @param fields the comma-separated fields of the tasks to return, all by default
+     * @return a {@link TaskSearchResponseDto} with the found tasks and the cursor of the next page
+     */
+    @Operation(
+            summary = "Full-text search",
+            description = "Finds tasks by the words of their title, description and comments, from the most relevant. " +
+                    "A word ending with * matches every word it prefixes. Pass the returned cursor as 'after' to get the next page",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Incorrect input data",
+                            responseCode = "400"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized",
+                            responseCode = "401"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "Bearer Auth")
+    @GetMapping("/search")
+    public TaskSearchResponseDto searchTasks(@RequestParam @Parameter(description = "Words to search for", required = true)
+                                             @NotBlank @Size(max = 255) String query,
+                                             @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(100) Integer limit,
+                                             @RequestParam(value = "after", required = false)
+                                             @Parameter(description = "Cursor of the next page") String after,
+                                             @RequestParam(value = "fields", required = false)
+                                             @Parameter(description = "Comma-separated fields of the tasks to return, all by default") String fields) {
+        return taskService.searchTasks(query, limit, after);
+    }
+
+    /**
+     * Retrieves the number of tasks by status, priority and executor.
+     *
+     * @return a {@link TaskStatisticsDto} with the task counts
+     */
+    @Operation(
+            summary = "Show task statistics",
+            description = "Shows the number of tasks by status, priority and executor",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized",
+                            responseCode = "401"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "Bearer Auth")
+    @GetMapping("/statistics")
+    public TaskStatisticsDto showStatistics() {
+        return taskService.showStatistics();
+    }
+
+    /**
+     * Retrieves the percentiles of the cycle and lead times of the completed tasks by executor and priority.
+     *
+     * @return a list of {@link CycleTimeDto}, ordered by executor then priority
+     */
+    @Operation(
+            summary = "Show cycle times",
+            description = "Shows the percentiles of the time from the first start and from the creation of the tasks " +
+                    "to their completion, in milliseconds, by executor and priority",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized",
+                            responseCode = "401"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "Bearer Auth")
+    @GetMapping("/statistics/cycleTime")
+    public List<CycleTimeDto> showCycleTimes() {
+        return taskService.showCycleTimes();
+    }
 }
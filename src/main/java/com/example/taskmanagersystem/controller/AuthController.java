@@ -1,19 +1,18 @@
 package com.example.taskmanagersystem.controller;
 
+import com.example.taskmanagersystem.dto.AvailabilityResponseDto;
 import com.example.taskmanagersystem.dto.LoginDto;
 import com.example.taskmanagersystem.dto.RegisterDto;
 import com.example.taskmanagersystem.exceptions.ErrorInputDataException;
 import com.example.taskmanagersystem.service.impl.AuthServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 
 /**
@@ -97,5 +96,33 @@ public class AuthController {
         return new ResponseEntity<>("User registered success!", HttpStatus.OK);
     }
 
+    /**
+     * Checks whether an email and a username are available for registration.
+     * The common "not taken" case is answered from memory without a database read.
+     *
+     * @param email    the email to check
+     * @param username the username to check
+     * @return a {@link AvailabilityResponseDto} with the availability of each given value
+     */
+    @Operation(
+            summary = "Availability",
+            description = "Allows to check whether an email and a username are available for registration",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Incorrect input data",
+                            responseCode = "400"
+                    )
+            }
+    )
+    @GetMapping("available")
+    public AvailabilityResponseDto available(@RequestParam(required = false) @Parameter(description = "Email to check") String email,
+                                             @RequestParam(required = false) @Parameter(description = "Username to check") String username) {
+        return authService.checkAvailability(email, username);
+    }
+
 
 }
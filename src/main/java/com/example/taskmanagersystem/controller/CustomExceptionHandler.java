@@ -4,7 +4,9 @@ package com.example.taskmanagersystem.controller;
 import com.example.taskmanagersystem.exceptions.*;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -52,6 +54,16 @@ public class CustomExceptionHandler {
         return new ResponseStatusException(HttpStatus.FORBIDDEN, e.getMessage());
     }
 
+    /**
+     * Handles rejected requests while the service is saturated.
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<String> serviceOverloadedException(ServiceOverloadedException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfter()))
+                .body(e.getMessage());
+    }
+
     /**
      * Handles authentication credential errors.
      */
@@ -0,0 +1,47 @@
+package com.example.taskmanagersystem.controller;
+
+import com.example.taskmanagersystem.dto.TaskField;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Serializes only the task fields selected by the {@code fields} parameter of the task endpoints.
+ * <p>
+ * Applies to the handler methods declaring a {@code fields} request parameter. An unknown field name
+ * is rejected as incorrect input data.
+ * </p>
+ */
+@ControllerAdvice(assignableTypes = {AdminTaskController.class, UserTaskController.class})
+public class TaskFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class converterType) {
+        return super.supports(returnType, converterType)
+                && Arrays.stream(returnType.getMethod().getParameters())
+                .map(parameter -> parameter.getAnnotation(RequestParam.class))
+                .anyMatch(param -> param != null && "fields".equals(param.value()));
+    }
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType, MethodParameter returnType,
+                                           ServerHttpRequest request, ServerHttpResponse response) {
+        Set<TaskField> fields = TaskField.parse(((ServletServerHttpRequest) request).getServletRequest().getParameter("fields"));
+        if (fields != null) {
+            bodyContainer.setFilters(new SimpleFilterProvider().addFilter(TaskField.FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(
+                    fields.stream().map(TaskField::getProperty).collect(Collectors.toSet()))));
+        }
+    }
+}
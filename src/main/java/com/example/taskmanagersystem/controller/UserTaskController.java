@@ -1,8 +1,12 @@
 package com.example.taskmanagersystem.controller;
 
+import com.example.taskmanagersystem.dto.BatchRequestDto;
+import com.example.taskmanagersystem.dto.BatchResponseDto;
 import com.example.taskmanagersystem.dto.CommentCreateDto;
 import com.example.taskmanagersystem.dto.TaskResponseDto;
 import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.service.impl.TaskArchiveServiceImpl;
+import com.example.taskmanagersystem.service.impl.TaskBatchServiceImpl;
 import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
 import com.example.taskmanagersystem.validator.CheckEnum;
 import io.swagger.v3.oas.annotations.Operation;
@@ -32,18 +36,24 @@ import java.util.List;
 public class UserTaskController {
 
     private final TasksServiceImpl taskService;
+    private final TaskBatchServiceImpl taskBatchService;
+    private final TaskArchiveServiceImpl taskArchiveService;
 
     SecurityContextHolderStrategy strategy =
             SecurityContextHolder.getContextHolderStrategy();
 
 
     /**
-     * Constructs a {@code UserTaskController} with the given task service.
+     * Constructs a {@code UserTaskController} with the given task services.
      *
-     * @param taskService the service for managing tasks
+     * @param taskService        the service for managing tasks
+     * @param taskBatchService   the service for running batches of task operations
+     * @param taskArchiveService the service for reading the archived tasks
      */
-    public UserTaskController(TasksServiceImpl taskService) {
+    public UserTaskController(TasksServiceImpl taskService, TaskBatchServiceImpl taskBatchService, TaskArchiveServiceImpl taskArchiveService) {
         this.taskService = taskService;
+        this.taskBatchService = taskBatchService;
+        this.taskArchiveService = taskArchiveService;
     }
 
 
@@ -118,11 +128,49 @@ public class UserTaskController {
     }
 
 
+    /**
+     * Claims the next task to work on.
+     * Sets the pending task with the highest priority, unassigned or assigned to the user, in progress
+     * and assigns it to the user, so that concurrent claims never get the same task
+     *
+     * @param fields the comma-separated fields of the task to return, all by default
+     * @return the claimed {@link TaskResponseDto} with HTTP status 200, or HTTP status 204 if there is no task to claim
+     */
+    @Operation(
+            summary = "Claim next task",
+            description = "Sets the pending task with the highest priority, unassigned or assigned to the user, in progress and assigns it to the user",
+            responses = {
+                    @ApiResponse(
+                            description = "Task claimed",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "No task to claim",
+                            responseCode = "204"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized",
+                            responseCode = "401"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "Bearer Auth")
+    @PostMapping("/claim")
+    public ResponseEntity<TaskResponseDto> claimNextTask(@RequestParam(value = "fields", required = false)
+                                                         @Parameter(description = "Comma-separated fields of the task to return, all by default") String fields) {
+        String email = strategy.getContext().getAuthentication().getName();
+        return taskService.claimNextTask(email)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
     /**
      * Retrieves a paginated list of tasks assigned to the user.
      *
-     * @param offset the starting index for pagination, default is 0
-     * @param limit  the maximum number of tasks to return, default is 20
+     * @param offset          the starting index for pagination, default is 0
+     * @param limit           the maximum number of tasks to return, default is 20
+     * @param fields          the comma-separated fields of the tasks to return, all by default
+     * @param includeArchived whether to append the user's archived tasks
      * @return a list of {@link TaskResponseDto} objects representing the user's tasks
      */
     @Operation(
@@ -146,8 +194,82 @@ public class UserTaskController {
     @SecurityRequirement(name = "Bearer Auth")
     @GetMapping("/show/myTasks")
     public List<TaskResponseDto> showMyTasks(@RequestParam(value = "offset", defaultValue = "0") @Min(0) Integer offset,
-                                             @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(100) Integer limit) {
+                                             @RequestParam(value = "limit", defaultValue = "20") @Min(1) @Max(100) Integer limit,
+                                             @RequestParam(value = "fields", required = false)
+                                             @Parameter(description = "Comma-separated fields of the tasks to return, all by default") String fields,
+                                             @RequestParam(value = "includeArchived", defaultValue = "false")
+                                             @Parameter(description = "Whether to append your archived completed tasks") Boolean includeArchived) {
         String email = strategy.getContext().getAuthentication().getName();
+        if (includeArchived) {
+            return taskArchiveService.showTaskByExecutorEmailIncludingArchived(email, limit, offset);
+        }
         return taskService.showTaskByExecutorEmail(email, limit, offset);
     }
+
+    /**
+     * Suggests task titles starting with the given prefix.
+     *
+     * @param prefix the beginning of the title, matched ignoring case
+     * @param limit  the maximum number of titles to return, default is 10
+     * @return a list of matching titles in alphabetical order
+     */
+    @Operation(
+            summary = "Suggest task titles",
+            description = "Shows the titles of tasks starting with the prefix, ignoring case",
+            responses = {
+                    @ApiResponse(
+                            description = "Success",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Incorrect input data",
+                            responseCode = "400"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized",
+                            responseCode = "401"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "Bearer Auth")
+    @GetMapping("/suggest")
+    public List<String> suggestTitles(@RequestParam @Parameter(description = "Beginning of the task title", required = true)
+                                      @NotBlank @Size(max = 255) String prefix,
+                                      @RequestParam(value = "limit", defaultValue = "10") @Min(1) @Max(50) Integer limit) {
+        return taskService.suggestTitles(prefix, limit);
+    }
+
+    /**
+     * Runs an ordered list of task operations in one transaction.
+     * Creating, deleting and changing the priority or the executor of a task require the admin role,
+     * changing the status and commenting a task are allowed to the admin role or tasks executor
+     *
+     * @param batchRequestDto the operations and whether a failed one rolls back all of them
+     * @return a {@link BatchResponseDto} with the result of each operation
+     */
+    @Operation(
+            summary = "Run a batch of operations",
+            description = "Runs the operations in order in one transaction and reports the result of each. " +
+                    "An atomic batch is rolled back entirely if an operation fails, otherwise only the failed operations are",
+            responses = {
+                    @ApiResponse(
+                            description = "Batch has been run",
+                            responseCode = "200"
+                    ),
+                    @ApiResponse(
+                            description = "Incorrect input data",
+                            responseCode = "400"
+                    ),
+                    @ApiResponse(
+                            description = "Unauthorized",
+                            responseCode = "401"
+                    )
+            }
+    )
+    @SecurityRequirement(name = "Bearer Auth")
+    @PostMapping("/batch")
+    public BatchResponseDto executeBatch(@Valid @RequestBody BatchRequestDto batchRequestDto) {
+        String email = strategy.getContext().getAuthentication().getName();
+        return taskBatchService.executeBatch(batchRequestDto, email);
+    }
 }
@@ -0,0 +1,26 @@
+package com.example.taskmanagersystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * DTO for response availability of registration data.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "DTO for response availability of registration data")
+public class AvailabilityResponseDto {
+
+    /**
+     * Whether the email is available, {@code null} if it was not checked.
+     */
+    @Schema(description = "Whether the email is available")
+    private Boolean emailAvailable;
+
+    /**
+     * Whether the username is available, {@code null} if it was not checked.
+     */
+    @Schema(description = "Whether the username is available")
+    private Boolean usernameAvailable;
+}
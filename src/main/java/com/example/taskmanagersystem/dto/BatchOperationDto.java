@@ -0,0 +1,66 @@
+package com.example.taskmanagersystem.dto;
+
+import com.example.taskmanagersystem.validator.CheckEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * DTO for one operation of a batch.
+ * <p>
+ * Only the fields the operation takes are read: {@code task} to create a task, {@code comment} to comment one,
+ * and {@code title} with {@code status}, {@code priority} or {@code executor} to delete or edit one.
+ * </p>
+ */
+@Data
+@Schema(description = "DTO for one operation of a batch")
+public class BatchOperationDto {
+
+    /**
+     * Type of the operation {CREATE, DELETE, EDIT_STATUS, EDIT_PRIORITY, EDIT_EXECUTOR, COMMENT}.
+     */
+    @CheckEnum(enumClass = BatchOperationType.class)
+    @Schema(description = "Type of the operation {CREATE, DELETE, EDIT_STATUS, EDIT_PRIORITY, EDIT_EXECUTOR, COMMENT}", example = "EDIT_STATUS")
+    private String type;
+
+    /**
+     * Title of the task to delete or edit.
+     */
+    @Size(max = 255)
+    @Schema(description = "Title of the task to delete or edit", example = "task1")
+    private String title;
+
+    /**
+     * Task to create.
+     */
+    @Valid
+    @Schema(description = "Task to create")
+    private CreateTaskDto task;
+
+    /**
+     * Comment to create.
+     */
+    @Valid
+    @Schema(description = "Comment to create")
+    private CommentCreateDto comment;
+
+    /**
+     * New status of the task {PENDING, IN_PROGRESS, COMPLETED}.
+     */
+    @Schema(description = "New status of the task {PENDING, IN_PROGRESS, COMPLETED}", example = "IN_PROGRESS")
+    private String status;
+
+    /**
+     * New priority of the task {LOW, MEDIUM, HIGH}.
+     */
+    @Schema(description = "New priority of the task {LOW, MEDIUM, HIGH}", example = "HIGH")
+    private String priority;
+
+    /**
+     * Username of the new executor.
+     */
+    @Size(max = 30)
+    @Schema(description = "Username of the new executor", example = "User2")
+    private String executor;
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanagersystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * DTO for response the result of one operation of a batch.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "DTO for response the result of one operation of a batch")
+public class BatchOperationResultDto {
+
+    /**
+     * Position of the operation in the batch.
+     */
+    @Schema(description = "Position of the operation in the batch", example = "0")
+    private Integer index;
+
+    /**
+     * Type of the operation.
+     */
+    @Schema(description = "Type of the operation", example = "EDIT_STATUS")
+    private String type;
+
+    /**
+     * HTTP status the operation would have had as a single request, {@code null} if it was skipped.
+     */
+    @Schema(description = "HTTP status the operation would have had as a single request, absent if it was skipped", example = "200")
+    private Integer status;
+
+    /**
+     * Outcome of the operation.
+     */
+    @Schema(description = "Outcome of the operation", example = "Status has been changed!")
+    private String message;
+}
@@ -0,0 +1,29 @@
+package com.example.taskmanagersystem.dto;
+
+/**
+ * The kinds of operations of a {@link BatchRequestDto}.
+ */
+public enum BatchOperationType {
+
+    CREATE(true),
+    DELETE(true),
+    EDIT_STATUS(false),
+    EDIT_PRIORITY(true),
+    EDIT_EXECUTOR(true),
+    COMMENT(false);
+
+    private final boolean adminOnly;
+
+    BatchOperationType(boolean adminOnly) {
+        this.adminOnly = adminOnly;
+    }
+
+    /**
+     * Returns whether the operation is reserved to administrators, like its endpoint.
+     *
+     * @return {@code true} if only an administrator can run the operation
+     */
+    public boolean isAdminOnly() {
+        return adminOnly;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.taskmanagersystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for a batch of operations run in one transaction.
+ */
+@Data
+@Schema(description = "DTO for a batch of operations run in one transaction")
+public class BatchRequestDto {
+
+    /**
+     * Whether a failed operation rolls back the whole batch, otherwise only the failed operation is rolled back.
+     */
+    @Schema(description = "Whether a failed operation rolls back the whole batch", example = "true")
+    private Boolean atomic;
+
+    /**
+     * The operations, run in order.
+     */
+    @NotEmpty
+    @Size(max = 100)
+    @Schema(description = "The operations, run in order")
+    private List<@Valid BatchOperationDto> operations;
+}
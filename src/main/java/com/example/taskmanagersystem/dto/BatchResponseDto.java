@@ -0,0 +1,28 @@
+package com.example.taskmanagersystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for response the results of a batch.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "DTO for response the results of a batch")
+public class BatchResponseDto {
+
+    /**
+     * Whether the changes of the batch were committed, only those of the successful operations if it is not atomic.
+     */
+    @Schema(description = "Whether the changes of the batch were committed, only those of the successful operations if it is not atomic")
+    private Boolean committed;
+
+    /**
+     * The results of the operations, in order.
+     */
+    @Schema(description = "The results of the operations, in order")
+    private List<BatchOperationResultDto> results;
+}
@@ -0,0 +1,31 @@
+package com.example.taskmanagersystem.dto;
+
+import com.example.taskmanagersystem.model.Priority;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * DTO for response of the cycle and lead times of the tasks completed by an executor with a priority.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "DTO for response of the cycle and lead times of the tasks completed by an executor with a priority")
+public class CycleTimeDto {
+
+    /// Username of the executor who completed the tasks.
+    @Schema(description = "Username of the executor who completed the tasks", example = "User2")
+    private String executor;
+
+    /// Priority of the tasks when they were completed.
+    @Schema(description = "Priority of the tasks when they were completed", example = "HIGH")
+    private Priority priority;
+
+    /// Time from the first start of a task to its completion.
+    @Schema(description = "Time from the first start of a task to its completion")
+    private DurationPercentilesDto cycleTime;
+
+    /// Time from the creation of a task to its completion.
+    @Schema(description = "Time from the creation of a task to its completion")
+    private DurationPercentilesDto leadTime;
+}
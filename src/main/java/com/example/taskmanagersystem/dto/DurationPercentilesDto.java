@@ -0,0 +1,34 @@
+package com.example.taskmanagersystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * DTO for response of the distribution of a duration.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "DTO for response of the distribution of a duration, in milliseconds")
+public class DurationPercentilesDto {
+
+    /// Number of measured durations.
+    @Schema(description = "Number of measured durations", example = "42")
+    private Long count;
+
+    /// Median duration.
+    @Schema(description = "Median duration, in milliseconds", example = "86400000")
+    private Long p50;
+
+    /// 90th percentile of the durations.
+    @Schema(description = "90th percentile of the durations, in milliseconds", example = "259200000")
+    private Long p90;
+
+    /// 99th percentile of the durations.
+    @Schema(description = "99th percentile of the durations, in milliseconds", example = "604800000")
+    private Long p99;
+
+    /// Longest duration.
+    @Schema(description = "Longest duration, in milliseconds", example = "864000000")
+    private Long max;
+}
@@ -0,0 +1,26 @@
+package com.example.taskmanagersystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * DTO for response the number of tasks matching search parameters.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "DTO for response the number of tasks matching search parameters")
+public class FindTasksCountDto {
+
+    /**
+     * The number of matching tasks, {@code null} if only their existence was checked.
+     */
+    @Schema(description = "The number of matching tasks")
+    private Long count;
+
+    /**
+     * Whether any task matches.
+     */
+    @Schema(description = "Whether any task matches")
+    private Boolean exists;
+}
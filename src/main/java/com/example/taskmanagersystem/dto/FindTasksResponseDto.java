@@ -0,0 +1,24 @@
+package com.example.taskmanagersystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for response of a search by parameters with facet counts.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "DTO for response of a search by parameters with facet counts")
+public class FindTasksResponseDto {
+
+    /// Found tasks of the requested page.
+    @Schema(description = "Found tasks of the requested page")
+    private List<TaskResponseDto> tasks;
+
+    /// Number of all matching tasks by each facet.
+    @Schema(description = "Number of all matching tasks by each facet")
+    private TaskFacetsDto facets;
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanagersystem.dto;
+
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * DTO for the number of matching tasks by each facet.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "DTO for the number of matching tasks by each facet")
+public class TaskFacetsDto {
+
+    /// Number of all matching tasks.
+    @Schema(description = "Number of all matching tasks", example = "42")
+    private Long total;
+
+    /// Number of matching tasks with each status.
+    @Schema(description = "Number of matching tasks with each status")
+    private Map<Status, Long> status;
+
+    /// Number of matching tasks with each priority.
+    @Schema(description = "Number of matching tasks with each priority")
+    private Map<Priority, Long> priority;
+
+    /// Number of matching tasks of the executors with the most of them.
+    @Schema(description = "Number of matching tasks of the executors with the most of them")
+    private Map<String, Long> executor;
+
+    /// Number of matching tasks of the authors with the most of them.
+    @Schema(description = "Number of matching tasks of the authors with the most of them")
+    private Map<String, Long> author;
+}
@@ -0,0 +1,61 @@
+package com.example.taskmanagersystem.dto;
+
+import com.example.taskmanagersystem.exceptions.ErrorInputDataException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The fields of {@link TaskResponseDto} that can be requested with the {@code fields} parameter.
+ */
+public enum TaskField {
+
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    PRIORITY("priority"),
+    AUTHOR_NAME("authorName"),
+    EXECUTOR_NAME("executorName"),
+    COMMENTS("comments");
+
+    /** The id of the Jackson filter selecting the serialized fields of {@link TaskResponseDto}. */
+    public static final String FILTER = "taskFields";
+
+    private final String property;
+
+    TaskField(String property) {
+        this.property = property;
+    }
+
+    /**
+     * Returns the name of the field in {@link TaskResponseDto}.
+     *
+     * @return the property name
+     */
+    public String getProperty() {
+        return property;
+    }
+
+    /**
+     * Parses a comma-separated list of property names.
+     *
+     * @param fields the property names, or {@code null} for all fields
+     * @return the requested fields, or {@code null} if all fields are requested
+     * @throws ErrorInputDataException if a name is not a field of {@link TaskResponseDto}
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<TaskField> parsed = EnumSet.noneOf(TaskField.class);
+        for (String name : fields.split(",")) {
+            String property = name.trim();
+            parsed.add(Arrays.stream(values())
+                    .filter(field -> field.property.equals(property))
+                    .findFirst()
+                    .orElseThrow(() -> new ErrorInputDataException("Unknown task field '" + property + "'")));
+        }
+        return parsed.size() == values().length ? null : parsed;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.taskmanagersystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * DTO for response one task of a lookup by titles.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "DTO for response one task of a lookup by titles")
+public class TaskLookupDto {
+
+    /**
+     * The requested title.
+     */
+    @Schema(description = "The requested title")
+    private String title;
+
+    /**
+     * Whether a task with the title exists.
+     */
+    @Schema(description = "Whether a task with the title exists")
+    private Boolean found;
+
+    /**
+     * The task, {@code null} if it was not found.
+     */
+    @Schema(description = "The task, absent if it was not found")
+    private TaskResponseDto task;
+}
@@ -2,6 +2,7 @@ package com.example.taskmanagersystem.dto;
 
 import com.example.taskmanagersystem.model.Priority;
 import com.example.taskmanagersystem.model.Status;
+import com.fasterxml.jackson.annotation.JsonFilter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -13,6 +14,7 @@ import java.util.List;
  */
 @Data
 @AllArgsConstructor
+@JsonFilter(TaskField.FILTER)
 @Schema(description = "DTO for response task")
 public class TaskResponseDto {
 
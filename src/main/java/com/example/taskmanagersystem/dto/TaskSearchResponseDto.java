@@ -0,0 +1,24 @@
+package com.example.taskmanagersystem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * DTO for response of a task search.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "DTO for response of a task search")
+public class TaskSearchResponseDto {
+
+    /// Found tasks, from the most relevant.
+    @Schema(description = "Found tasks, from the most relevant")
+    private List<TaskResponseDto> tasks;
+
+    /// Cursor of the next page, absent on the last page.
+    @Schema(description = "Cursor of the next page, absent on the last page")
+    private String next;
+}
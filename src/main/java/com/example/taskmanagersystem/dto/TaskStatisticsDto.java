@@ -0,0 +1,34 @@
+package com.example.taskmanagersystem.dto;
+
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+/**
+ * DTO for response of the task statistics.
+ */
+@Data
+@AllArgsConstructor
+@Schema(description = "DTO for response of the task statistics")
+public class TaskStatisticsDto {
+
+    /// Number of all tasks.
+    @Schema(description = "Number of all tasks", example = "120")
+    private Long total;
+
+    /// Number of tasks with each status.
+    @Schema(description = "Number of tasks with each status")
+    private Map<Status, Long> byStatus;
+
+    /// Number of tasks with each priority.
+    @Schema(description = "Number of tasks with each priority")
+    private Map<Priority, Long> byPriority;
+
+    /// Number of tasks with each status, by the username of their executor.
+    @Schema(description = "Number of tasks with each status, by the username of their executor")
+    private Map<String, Map<Status, Long>> byExecutor;
+}
@@ -0,0 +1,15 @@
+package com.example.taskmanagersystem.exceptions;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+
+    /// Number of seconds after which the client may retry.
+    private final Long retryAfter;
+
+    public ServiceOverloadedException(String msg, Long retryAfter) {
+        super(msg);
+        this.retryAfter = retryAfter;
+    }
+}
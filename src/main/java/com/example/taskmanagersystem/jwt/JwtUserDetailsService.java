@@ -6,11 +6,14 @@ import com.example.taskmanagersystem.model.UserEntity;
 import com.example.taskmanagersystem.repository.UserRepository;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -20,10 +23,12 @@ import java.util.stream.Collectors;
 /**
  * Service for loading user-specific data during authentication.
  * This service implements {@link UserDetailsService}
- * and is used to retrieve user details from the repository
+ * and is used to retrieve user details from the repository.
+ * As a {@link UserDetailsPasswordService} it stores passwords re-hashed after a successful login
  */
+@Slf4j
 @Service
-public class JwtUserDetailsService implements UserDetailsService {
+public class JwtUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository repository;
 
@@ -45,6 +50,25 @@ public class JwtUserDetailsService implements UserDetailsService {
         return new User(user.getEmail(), user.getPassword(), mapRolesToAuthorities(user.getRoles()));
     }
 
+    /**
+     * This method stores the password of the user re-hashed with the configured cost.
+     *
+     * @param user        The user whose password was re-hashed.
+     * @param newPassword The new password hash.
+     * @return The {@link UserDetails} with the new password hash.
+     * @throws UsernameNotFoundException If no user is found with the email of the given user.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UserEntity userEntity = repository.findByEmail(user.getUsername()).orElseThrow(() -> new UsernameNotFoundException("User not found"));
+        userEntity.setPassword(newPassword);
+        repository.save(userEntity);
+        log.info("Password of user '{}' re-hashed with the configured cost", user.getUsername());
+
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+
     /**
      * This method converts a list of {@link RoleEntity} objects into a collection of {@link GrantedAuthority}
      *
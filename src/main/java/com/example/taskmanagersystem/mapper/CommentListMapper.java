@@ -1,6 +1,7 @@
 package com.example.taskmanagersystem.mapper;
 
 import com.example.taskmanagersystem.dto.CommentResponseDto;
+import com.example.taskmanagersystem.model.ArchivedCommentEntity;
 import com.example.taskmanagersystem.model.CommentEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.MappingConstants;
@@ -23,4 +24,12 @@ public interface CommentListMapper {
      * @return a list of {@link CommentResponseDto} objects.
      */
     List<CommentResponseDto> toCommentResponseDtoList(List<CommentEntity> commentsEntityList);
+
+    /**
+     * Converts a list of {@link ArchivedCommentEntity} objects to a list of {@link CommentResponseDto} objects.
+     *
+     * @param commentsEntityList the list of archived comment entities to be mapped.
+     * @return a list of {@link CommentResponseDto} objects.
+     */
+    List<CommentResponseDto> toArchivedCommentResponseDtoList(List<ArchivedCommentEntity> commentsEntityList);
 }
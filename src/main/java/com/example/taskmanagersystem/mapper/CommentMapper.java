@@ -2,6 +2,7 @@ package com.example.taskmanagersystem.mapper;
 
 import com.example.taskmanagersystem.dto.CommentCreateDto;
 import com.example.taskmanagersystem.dto.CommentResponseDto;
+import com.example.taskmanagersystem.model.ArchivedCommentEntity;
 import com.example.taskmanagersystem.model.CommentEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -32,4 +33,14 @@ public interface CommentMapper {
     @Mapping(target = "author", expression = "java(commentEntity.getAuthor().getUsername())")
     CommentResponseDto toCommentResponseDto(CommentEntity commentEntity);
 
+
+    /**
+     * Converts an {@link ArchivedCommentEntity} to a {@link CommentResponseDto}.
+     *
+     * @param commentEntity the archived comment entity to be mapped.
+     * @return a {@link CommentResponseDto} with the mapped and computed fields.
+     */
+    @Mapping(target = "author", expression = "java(commentEntity.getAuthor().getUsername())")
+    CommentResponseDto toArchivedCommentResponseDto(ArchivedCommentEntity commentEntity);
+
 }
@@ -3,6 +3,7 @@ package com.example.taskmanagersystem.mapper;
 import com.example.taskmanagersystem.dto.CreateTaskDto;
 import com.example.taskmanagersystem.dto.RegisterDto;
 import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.model.ArchivedTaskEntity;
 import com.example.taskmanagersystem.model.CommentEntity;
 import com.example.taskmanagersystem.model.TaskEntity;
 import com.example.taskmanagersystem.model.UserEntity;
@@ -48,4 +49,15 @@ public interface TaskMapper {
      * @return a list of {@link TaskResponseDto} objects.
      */
     List<TaskResponseDto> toTaskResponseDtoList(List<TaskEntity> taskEntities);
+
+
+    /**
+     * Converts an {@link ArchivedTaskEntity} to a {@link TaskResponseDto}.
+     *
+     * @param taskEntity the archived task entity to be mapped.
+     * @return a {@link TaskResponseDto} with the mapped and computed fields.
+     */
+    @Mapping(target = "authorName", expression = "java(taskEntity.getAuthor().getUsername())")
+    @Mapping(target = "executorName", expression = "java(taskEntity.getExecutor().getUsername())")
+    TaskResponseDto toArchivedTaskResponseDto(ArchivedTaskEntity taskEntity);
 }
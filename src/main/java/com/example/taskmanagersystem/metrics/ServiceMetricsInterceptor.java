@@ -0,0 +1,102 @@
+package com.example.taskmanagersystem.metrics;
+
+import com.example.taskmanagersystem.exceptions.ErrorInputDataException;
+import com.example.taskmanagersystem.exceptions.ErrorPermissionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Interceptor recording the duration and outcome of every service method call.
+ * <p>
+ * The meters of a method are registered on its first call and reused afterwards,
+ * so a call only reads the clock twice and allocates nothing.
+ * </p>
+ */
+public class ServiceMetricsInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
+
+
+    /**
+     * Constructor to inject dependencies.
+     *
+     * @param meterRegistry the registry for the service metrics, resolved on the first call
+     */
+    public ServiceMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+
+    /**
+     * Times the service method call and counts its error outcomes.
+     *
+     * @param invocation the service method call
+     * @return the result of the call
+     * @throws Throwable the exception thrown by the call
+     */
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MethodMeters methodMeters = meters.computeIfAbsent(invocation.getMethod(),
+                method -> new MethodMeters(AopUtils.getTargetClass(invocation.getThis()), method, meterRegistry.getObject()));
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            methodMeters.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodMeters.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (e instanceof ErrorInputDataException) {
+                methodMeters.invalidInput.increment();
+            } else if (e instanceof ErrorPermissionException) {
+                methodMeters.permissionDenied.increment();
+            }
+            throw e;
+        }
+    }
+
+
+    /**
+     * The meters of one service method.
+     */
+    private static class MethodMeters {
+
+        private final Timer success;
+        private final Timer failure;
+        private final Counter invalidInput;
+        private final Counter permissionDenied;
+
+        private MethodMeters(Class<?> service, Method method, MeterRegistry meterRegistry) {
+            String serviceName = service.getSimpleName();
+            String methodName = method.getName();
+            this.success = timer(meterRegistry, serviceName, methodName, "success");
+            this.failure = timer(meterRegistry, serviceName, methodName, "error");
+            this.invalidInput = counter(meterRegistry, serviceName, methodName, ErrorInputDataException.class);
+            this.permissionDenied = counter(meterRegistry, serviceName, methodName, ErrorPermissionException.class);
+        }
+
+        private static Timer timer(MeterRegistry meterRegistry, String service, String method, String outcome) {
+            return Timer.builder("service.method")
+                    .description("Time spent in a service method")
+                    .tags("service", service, "method", method, "outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        private static Counter counter(MeterRegistry meterRegistry, String service, String method, Class<?> exception) {
+            return Counter.builder("service.method.errors")
+                    .description("Service method calls rejected with an error")
+                    .tags("service", service, "method", method, "exception", exception.getSimpleName())
+                    .register(meterRegistry);
+        }
+    }
+}
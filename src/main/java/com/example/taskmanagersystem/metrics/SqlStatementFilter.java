@@ -0,0 +1,90 @@
+package com.example.taskmanagersystem.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Filter recording the SQL statements run while handling each HTTP request.
+ * <p>
+ * Requests exceeding the statement count or JDBC time budget are logged.
+ * When headers are enabled, as in the {@code debug} profile, the counts are also returned
+ * in the {@code X-Sql-Count} and {@code X-Sql-Time} response headers.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private final Boolean headers;
+    private final Long maxStatements;
+    private final Long maxJdbcTime;
+
+
+    /**
+     * Constructor for initializing the filter.
+     *
+     * @param headers       whether the counts are returned in response headers
+     * @param maxStatements the number of statements above which a request is logged
+     * @param maxJdbcTime   the JDBC time in milliseconds above which a request is logged
+     */
+    public SqlStatementFilter(@Value("${sql.stats.headers:false}") Boolean headers,
+                              @Value("${sql.stats.max-statements:20}") Long maxStatements,
+                              @Value("${sql.stats.max-jdbc-time:500}") Long maxJdbcTime) {
+        this.headers = headers;
+        this.maxStatements = maxStatements;
+        this.maxJdbcTime = maxJdbcTime;
+    }
+
+
+    /**
+     * Records the statements of the request and reports them once it is handled.
+     *
+     * @param request     the {@link HttpServletRequest} object that contains the request from the client
+     * @param response    the {@link HttpServletResponse} object used to send the response to the client
+     * @param filterChain the {@link FilterChain} to pass the request and response to the next filter
+     * @throws ServletException if an error occurs during the filter process
+     * @throws IOException      if an input or output error occurs during filtering
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats.start();
+        if (!headers) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                report(request, SqlStatementStats.stop());
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } finally {
+            SqlStatementStats stats = SqlStatementStats.stop();
+            wrapper.setHeader("X-Sql-Count", String.valueOf(stats.getStatements()));
+            wrapper.setHeader("X-Sql-Time", String.valueOf(stats.getJdbcTime()));
+            report(request, stats);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void report(HttpServletRequest request, SqlStatementStats stats) {
+        if (stats.getStatements() > maxStatements || stats.getJdbcTime() > maxJdbcTime) {
+            log.warn("Request {} {} ran {} SQL statements in {} ms", request.getMethod(), request.getRequestURI(),
+                    stats.getStatements(), stats.getJdbcTime());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.taskmanagersystem.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate session listener adding every JDBC statement of the session to the {@link SqlStatementStats}
+ * of the current thread.
+ * <p>
+ * Hibernate creates one instance per session, registered with the {@code hibernate.session.events.auto} property.
+ * </p>
+ */
+public class SqlStatementListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.statementPrepared();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private void record(long start) {
+        SqlStatementStats stats = SqlStatementStats.current();
+        if (stats != null) {
+            stats.statementExecuted(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.taskmanagersystem.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Number of SQL statements and JDBC time spent by the current thread.
+ * <p>
+ * Recording is started with {@link #start()} and ended with {@link #stop()}, usually around one HTTP request.
+ * Statements executed on a thread with no recording in progress are not counted.
+ * </p>
+ */
+public final class SqlStatementStats {
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long jdbcNanos;
+
+
+    private SqlStatementStats() {
+    }
+
+
+    /**
+     * Starts recording the statements of the current thread, discarding any recording in progress.
+     *
+     * @return the stats being recorded
+     */
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * Stops recording the statements of the current thread.
+     *
+     * @return the recorded stats, or {@code null} if no recording was in progress
+     */
+    public static SqlStatementStats stop() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    /**
+     * Returns the stats being recorded on the current thread.
+     *
+     * @return the stats, or {@code null} if no recording is in progress
+     */
+    static SqlStatementStats current() {
+        return CURRENT.get();
+    }
+
+    void statementPrepared() {
+        statements++;
+    }
+
+    void statementExecuted(long nanos) {
+        jdbcNanos += nanos;
+    }
+
+    /**
+     * Returns the number of statements prepared.
+     *
+     * @return the number of statements
+     */
+    public long getStatements() {
+        return statements;
+    }
+
+    /**
+     * Returns the time spent executing statements.
+     *
+     * @return the JDBC time in milliseconds
+     */
+    public long getJdbcTime() {
+        return TimeUnit.NANOSECONDS.toMillis(jdbcNanos);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanagersystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.sql.Date;
+
+/**
+ * Entity class representing a comment of an archived task.
+ * This class maps to the `comments_archive` table in the database
+ */
+@Table(name = "comments_archive")
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Immutable
+@Data
+public class ArchivedCommentEntity {
+
+    /// The identifier the comment had in the `comments` table.
+    @Id
+    private Long id;
+
+    /// The user who authored the comment
+    @ManyToOne
+    private UserEntity author;
+
+    /// The date when the comment was created.
+    @Column(nullable = false)
+    private Date date;
+
+    /// The textual content of the comment.
+    @Column(nullable = false)
+    private String text;
+}
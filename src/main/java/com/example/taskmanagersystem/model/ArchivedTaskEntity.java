@@ -0,0 +1,68 @@
+package com.example.taskmanagersystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Entity class representing a completed task moved out of the `tasks` table.
+ * This class maps to the `tasks_archive` table in the database, and keeps the identifier of the task.
+ * Its attributes are named as those of {@link TaskEntity}, so that the same filters apply to both.
+ */
+@Table(name = "tasks_archive")
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Immutable
+@Data
+public class ArchivedTaskEntity {
+
+    /// The identifier the task had in the `tasks` table.
+    @Id
+    private Long id;
+
+    /// The title of the task, which a newer task may reuse.
+    @Column(nullable = false)
+    private String title;
+
+    /// The detailed description of the task.
+    @Column(nullable = false)
+    private String description;
+
+    /// The status of the task, {@link Status#COMPLETED}.
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    /// The priority level of the task.
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Priority priority;
+
+    /// The user who created the task.
+    @ManyToOne
+    private UserEntity author;
+
+    /// The user who executed the task.
+    @ManyToOne
+    private UserEntity executor;
+
+    /// When the task was completed.
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    /// When the task was archived.
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    /// The comments of the task, archived with it.
+    @OneToMany
+    @JoinColumn(name = "task_id")
+    @OrderBy("id")
+    private List<ArchivedCommentEntity> comments;
+}
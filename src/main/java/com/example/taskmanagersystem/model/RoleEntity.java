@@ -4,14 +4,21 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 
 /**
  * Entity class representing a user role in the system.
  * This class maps to the `roles` table in the database
+ * Roles are kept in the second-level cache and can be resolved by name through the natural-id cache.
  */
 @Table(name = "roles")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache(region = "roles.naturalId")
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -24,6 +31,7 @@ public class RoleEntity {
 
 
     /// The name of the role.
+    @NaturalId
     @Column(unique = true, nullable = false, length = 30)
     private String name;
 
@@ -4,7 +4,9 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.NaturalId;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -24,6 +26,7 @@ public class TaskEntity {
     private Long id;
 
     /// The title of the task.
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String title;
 
@@ -43,6 +46,9 @@ public class TaskEntity {
     @Column(nullable = false)
     private Status status;
 
+    /// When the task was completed, {@code null} unless its status is {@link Status#COMPLETED}.
+    private LocalDateTime completedAt;
+
     /**
      * The priority level of the task.
      * <p>
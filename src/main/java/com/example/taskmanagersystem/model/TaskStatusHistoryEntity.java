@@ -0,0 +1,53 @@
+package com.example.taskmanagersystem.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a change of the status of a task.
+ * This class maps to the append-only `task_status_history` table in the database, which keeps
+ * the changes of archived and deleted tasks too.
+ */
+@Table(name = "task_status_history")
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Immutable
+@Data
+public class TaskStatusHistoryEntity {
+
+    /// The unique identifier for the change.
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /// The identifier of the changed task.
+    @Column(nullable = false)
+    private Long taskId;
+
+    /// The status of the task before the change, {@code null} when the task was created.
+    @Enumerated(EnumType.STRING)
+    private Status fromStatus;
+
+    /// The status of the task after the change.
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status toStatus;
+
+    /// The priority of the task at the time of the change.
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Priority priority;
+
+    /// The identifier of the executor of the task at the time of the change.
+    private Long executorId;
+
+    /// When the status changed.
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -4,6 +4,10 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,9 +16,12 @@ import java.util.List;
 /**
  * Entity class representing a user in the system.
  * This class maps to the `users` table in the database
+ * Users are kept in the second-level cache and can be resolved by email through the natural-id cache.
  */
 @Table(name = "users")
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NaturalIdCache(region = "users.naturalId")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,6 +33,7 @@ public class UserEntity {
     private Long id;
 
     /// The unique email address of the user.
+    @NaturalId
     @Column(unique = true, nullable = false, length = 30)
     private String email;
 
@@ -45,6 +53,7 @@ public class UserEntity {
      * </p>
      */
     @ManyToMany(fetch = FetchType.EAGER, cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @JoinTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "role_id", referencedColumnName = "id"))
     private List<RoleEntity> roles = new ArrayList<>();
@@ -0,0 +1,25 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.ArchivedTaskEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Repository fragment paging the identifiers of the {@link ArchivedTaskEntity} objects matching a {@link Specification}.
+ */
+public interface ArchivedTaskIdRepository {
+
+    /**
+     * Reads the identifiers of the archived tasks matching the specification, ordered by identifier.
+     * <p>
+     * The offset is a number of tasks, not of pages, so that archived tasks can continue a page of hot tasks.
+     * </p>
+     *
+     * @param specification the specification the tasks must match.
+     * @param offset        the number of matching tasks to skip.
+     * @param limit         the maximum number of identifiers to return.
+     * @return the identifiers of the matching tasks.
+     */
+    List<Long> findIds(Specification<ArchivedTaskEntity> specification, long offset, int limit);
+}
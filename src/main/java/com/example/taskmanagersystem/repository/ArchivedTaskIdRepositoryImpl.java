@@ -0,0 +1,39 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.ArchivedTaskEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link ArchivedTaskIdRepository} based on a JPA Criteria query.
+ */
+public class ArchivedTaskIdRepositoryImpl implements ArchivedTaskIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Long> findIds(Specification<ArchivedTaskEntity> specification, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ArchivedTaskEntity> root = query.from(ArchivedTaskEntity.class);
+        query.select(root.get("id")).orderBy(cb.asc(root.get("id")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
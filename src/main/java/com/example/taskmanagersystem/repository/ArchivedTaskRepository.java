@@ -0,0 +1,79 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.ArchivedTaskEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Repository interface for moving completed tasks to the archive and querying {@link ArchivedTaskEntity} objects.
+ */
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTaskEntity, Long>, JpaSpecificationExecutor<ArchivedTaskEntity>, ArchivedTaskIdRepository {
+
+    /**
+     * Moves a batch of the tasks completed before the given time, with their comments, to the archive in a single statement.
+     * <p>
+     * The tasks completed first are moved first. Tasks locked by concurrent changes are skipped
+     * and left for the next batch. The candidates are found by the {@code tasks_completed_at_idx} index.
+     * </p>
+     *
+     * @param before    the time before which the tasks must have been completed.
+     * @param batchSize the maximum number of tasks to move.
+     * @return the {@link TaskArchiveResult} of each moved task.
+     */
+    @Query(value = """
+            with archived as (
+                     delete from tasks t
+                     where t.id in (select id from tasks
+                                    where status = 'COMPLETED' and completed_at < :before
+                                    order by completed_at
+                                    limit :batchSize
+                                    for update skip locked)
+                     returning t.id, t.title, t.description, t.status, t.priority, t.author_id, t.executor_id, t.completed_at),
+                 links as (
+                     delete from tasks_comments tc using archived
+                     where tc.task_entity_id = archived.id
+                     returning tc.task_entity_id, tc.comments_id),
+                 comments_moved as (
+                     delete from comments c using links
+                     where c.id = links.comments_id
+                     returning c.id, links.task_entity_id, c.date, c.text, c.author_id),
+                 comments_inserted as (
+                     insert into comments_archive (id, task_id, date, text, author_id)
+                     select id, task_entity_id, date, text, author_id from comments_moved),
+                 tasks_inserted as (
+                     insert into tasks_archive (id, title, description, status, priority, author_id, executor_id, completed_at)
+                     select id, title, description, status, priority, author_id, executor_id, completed_at from archived)
+            select a.id as "id", a.title as "title", a.status as "status", a.priority as "priority",
+                   e.username as "executor", e.email as "executorEmail", u.username as "author"
+            from archived a
+                 left join users e on e.id = a.executor_id
+                 left join users u on u.id = a.author_id
+            """, nativeQuery = true)
+    List<TaskArchiveResult> archiveCompletedTasks(LocalDateTime before, Integer batchSize);
+
+    /**
+     * Finds the archived tasks with the given identifiers, together with their users and comments.
+     *
+     * @param ids the identifiers of the tasks to find.
+     * @return the found tasks, in no particular order.
+     */
+    @EntityGraph(attributePaths = {"author", "executor", "comments", "comments.author"})
+    List<ArchivedTaskEntity> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Finds the last archived task with the given title, together with its users and comments.
+     *
+     * @param title the title of the task.
+     * @return an {@link Optional} containing the task, or an empty {@link Optional}.
+     */
+    @EntityGraph(attributePaths = {"author", "executor", "comments", "comments.author"})
+    Optional<ArchivedTaskEntity> findFirstByTitleOrderByIdDesc(String title);
+}
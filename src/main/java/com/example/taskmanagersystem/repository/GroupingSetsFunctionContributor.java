@@ -0,0 +1,26 @@
+package com.example.taskmanagersystem.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+
+/**
+ * Registers the {@code grouping_sets} function, which groups a query by each of its four arguments separately.
+ * <p>
+ * Used in the {@code group by} clause of Criteria queries, it renders {@code grouping sets} so that one query
+ * returns the counts by each facet instead of by every combination of the facets. Registered through
+ * {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ * </p>
+ */
+public class GroupingSetsFunctionContributor implements FunctionContributor {
+
+    /** The name of the function. */
+    public static final String GROUPING_SETS = "grouping_sets";
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry()
+                .patternDescriptorBuilder(GROUPING_SETS, "grouping sets ((?1), (?2), (?3), (?4))")
+                .setExactArgumentCount(4)
+                .register();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.RoleEntity;
+
+/**
+ * Repository fragment resolving {@link RoleEntity} objects through the Hibernate natural-id cache.
+ */
+public interface RoleNaturalIdRepository {
+
+    /**
+     * Find a role by its name.
+     * <p>
+     * Repeated lookups are served from the second-level cache without touching the database.
+     * </p>
+     *
+     * @param name the name of the role to find.
+     * @return the role entity with the given name, or {@code null} if not found.
+     */
+    RoleEntity findByName(String name);
+}
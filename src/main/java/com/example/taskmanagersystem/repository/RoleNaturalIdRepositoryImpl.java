@@ -0,0 +1,24 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.RoleEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Implementation of {@link RoleNaturalIdRepository} based on Hibernate natural-id loading.
+ */
+public class RoleNaturalIdRepositoryImpl implements RoleNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public RoleEntity findByName(String name) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(RoleEntity.class)
+                .load(name);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+
+/**
+ * A task moved to the archive by {@link ArchivedTaskRepository#archiveCompletedTasks}.
+ */
+public interface TaskArchiveResult {
+
+    /// The identifier of the task.
+    Long getId();
+
+    /// The title of the task.
+    String getTitle();
+
+    /// The status of the task.
+    Status getStatus();
+
+    /// The priority of the task.
+    Priority getPriority();
+
+    /// The username of the executor of the task.
+    String getExecutor();
+
+    /// The email of the executor of the task.
+    String getExecutorEmail();
+
+    /// The username of the author of the task.
+    String getAuthor();
+}
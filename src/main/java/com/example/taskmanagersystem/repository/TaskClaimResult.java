@@ -0,0 +1,13 @@
+package com.example.taskmanagersystem.repository;
+
+/**
+ * Result of {@link TaskRepository#claimNextTask}.
+ */
+public interface TaskClaimResult {
+
+    /// The identifier of the claimed task.
+    Long getId();
+
+    /// The identifier of the executor of the task before the claim, {@code null} if it was unassigned.
+    Long getPreviousExecutorId();
+}
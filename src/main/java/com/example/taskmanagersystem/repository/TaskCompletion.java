@@ -0,0 +1,29 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.Priority;
+
+import java.time.LocalDateTime;
+
+/**
+ * A completion of a task read from its status history by {@link TaskStatusHistoryRepository#findCompletionsAfter}.
+ */
+public interface TaskCompletion {
+
+    /// The identifier of the status change completing the task.
+    Long getId();
+
+    /// The username of the executor who completed the task.
+    String getExecutor();
+
+    /// The priority of the task when it was completed.
+    Priority getPriority();
+
+    /// When the task was created, {@code null} if it was created before the history was kept.
+    LocalDateTime getCreatedAt();
+
+    /// When the task was first set in progress, {@code null} if it never was.
+    LocalDateTime getStartedAt();
+
+    /// When the task was completed.
+    LocalDateTime getCompletedAt();
+}
@@ -0,0 +1,22 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+
+/**
+ * Projection of the number of tasks with one status, priority and executor.
+ */
+public interface TaskCount {
+
+    /// The status of the tasks.
+    Status getStatus();
+
+    /// The priority of the tasks.
+    Priority getPriority();
+
+    /// The username of the executor of the tasks.
+    String getExecutor();
+
+    /// The number of tasks.
+    Long getCount();
+}
@@ -0,0 +1,32 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The number of matching tasks with one status, one priority, one executor or one author.
+ * <p>
+ * Only the facet the tasks were counted by is set; the other facets are {@code null}.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class TaskFacetCount {
+
+    /// The status of the tasks, {@code null} unless counted by status.
+    private final Status status;
+
+    /// The priority of the tasks, {@code null} unless counted by priority.
+    private final Priority priority;
+
+    /// The username of the executor of the tasks, {@code null} unless counted by executor or for tasks without an executor.
+    private final String executor;
+
+    /// The username of the author of the tasks, {@code null} unless counted by author or for tasks without an author.
+    private final String author;
+
+    /// The number of tasks.
+    private final Long count;
+}
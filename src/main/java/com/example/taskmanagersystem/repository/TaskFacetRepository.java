@@ -0,0 +1,21 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.TaskEntity;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Repository fragment counting the {@link TaskEntity} objects matching a {@link Specification} by their facets.
+ */
+public interface TaskFacetRepository {
+
+    /**
+     * Counts the tasks matching the specification by status, by priority, by executor and by author
+     * in one query grouped by grouping sets.
+     *
+     * @param specification the specification the tasks must match.
+     * @return the non-zero counts by each facet; in each count only the facet it was grouped by is set.
+     */
+    List<TaskFacetCount> countFacets(Specification<TaskEntity> specification);
+}
@@ -0,0 +1,40 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.TaskEntity;
+import com.example.taskmanagersystem.model.UserEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Implementation of {@link TaskFacetRepository} based on a JPA Criteria query grouped by grouping sets.
+ */
+public class TaskFacetRepositoryImpl implements TaskFacetRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskFacetCount> countFacets(Specification<TaskEntity> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskFacetCount> query = cb.createQuery(TaskFacetCount.class);
+        Root<TaskEntity> root = query.from(TaskEntity.class);
+        Join<TaskEntity, UserEntity> executor = root.join("executor", JoinType.LEFT);
+        Join<TaskEntity, UserEntity> author = root.join("author", JoinType.LEFT);
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(cb.construct(TaskFacetCount.class, root.get("status"), root.get("priority"),
+                        executor.get("username"), author.get("username"), cb.count(root)))
+                .groupBy(cb.function(GroupingSetsFunctionContributor.GROUPING_SETS, Object.class,
+                        root.get("status"), root.get("priority"), executor.get("username"), author.get("username")));
+        return entityManager.createQuery(query).getResultList();
+    }
+}
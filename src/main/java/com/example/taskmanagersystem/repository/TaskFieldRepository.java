@@ -0,0 +1,29 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.dto.TaskField;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.model.TaskEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository fragment reading only some fields of the {@link TaskEntity} objects matching a {@link Specification}.
+ */
+public interface TaskFieldRepository {
+
+    /**
+     * Reads a page of the tasks matching the specification, selecting only the columns of the requested fields.
+     * <p>
+     * The title is always read; the comments, if requested, are read in one more query for the whole page.
+     * </p>
+     *
+     * @param specification the specification the tasks must match, or {@code null} for all tasks.
+     * @param fields        the fields to read, the others are left {@code null}.
+     * @param pageable      the page to read, ordered by its sort.
+     * @return the tasks of the page.
+     */
+    List<TaskResponseDto> findFields(Specification<TaskEntity> specification, Set<TaskField> fields, Pageable pageable);
+}
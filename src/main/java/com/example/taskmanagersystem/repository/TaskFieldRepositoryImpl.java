@@ -0,0 +1,102 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.dto.CommentResponseDto;
+import com.example.taskmanagersystem.dto.TaskField;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.TaskEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.*;
+
+/**
+ * Implementation of {@link TaskFieldRepository} based on a JPA Criteria tuple query.
+ */
+public class TaskFieldRepositoryImpl implements TaskFieldRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponseDto> findFields(Specification<TaskEntity> specification, Set<TaskField> fields, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TaskEntity> root = query.from(TaskEntity.class);
+
+        List<Selection<?>> selections = new ArrayList<>();
+        selections.add(root.get("id").alias("id"));
+        selections.add(root.get("title").alias(TaskField.TITLE.getProperty()));
+        for (TaskField field : fields) {
+            switch (field) {
+                case DESCRIPTION, STATUS, PRIORITY -> selections.add(root.get(field.getProperty()).alias(field.getProperty()));
+                case AUTHOR_NAME -> selections.add(root.join("author", JoinType.LEFT).get("username").alias(field.getProperty()));
+                case EXECUTOR_NAME -> selections.add(root.join("executor", JoinType.LEFT).get("username").alias(field.getProperty()));
+                default -> { }
+            }
+        }
+        query.multiselect(selections);
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        Map<Long, List<CommentResponseDto>> comments = fields.contains(TaskField.COMMENTS)
+                ? findComments(rows.stream().map(row -> row.get("id", Long.class)).toList())
+                : Map.of();
+        return rows.stream()
+                .map(row -> new TaskResponseDto(
+                        row.get(TaskField.TITLE.getProperty(), String.class),
+                        get(row, fields, TaskField.DESCRIPTION, String.class),
+                        get(row, fields, TaskField.STATUS, Status.class),
+                        get(row, fields, TaskField.PRIORITY, Priority.class),
+                        get(row, fields, TaskField.AUTHOR_NAME, String.class),
+                        get(row, fields, TaskField.EXECUTOR_NAME, String.class),
+                        fields.contains(TaskField.COMMENTS)
+                                ? comments.getOrDefault(row.get("id", Long.class), new ArrayList<>())
+                                : null))
+                .toList();
+    }
+
+    /**
+     * Reads the comments of the tasks, without their entities, in the order they were written.
+     */
+    private Map<Long, List<CommentResponseDto>> findComments(List<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Tuple> rows = entityManager.createQuery("""
+                        select t.id as taskId, a.username as author, c.date as date, c.text as text
+                        from TaskEntity t join t.comments c left join c.author a
+                        where t.id in :ids
+                        order by c.id""", Tuple.class)
+                .setParameter("ids", taskIds)
+                .getResultList();
+        Map<Long, List<CommentResponseDto>> comments = new HashMap<>();
+        for (Tuple row : rows) {
+            comments.computeIfAbsent(row.get("taskId", Long.class), id -> new ArrayList<>())
+                    .add(new CommentResponseDto(row.get("author", String.class), row.get("date", Date.class), row.get("text", String.class)));
+        }
+        return comments;
+    }
+
+    private static <T> T get(Tuple row, Set<TaskField> fields, TaskField field, Class<T> type) {
+        return fields.contains(field) ? row.get(field.getProperty(), type) : null;
+    }
+}
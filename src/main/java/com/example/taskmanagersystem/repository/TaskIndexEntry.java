@@ -0,0 +1,28 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+
+/**
+ * Projection of the fields of a {@link com.example.taskmanagersystem.model.TaskEntity} kept in the bitmap index.
+ */
+public interface TaskIndexEntry {
+
+    /// The unique identifier of the task.
+    Long getId();
+
+    /// The unique title of the task.
+    String getTitle();
+
+    /// The status of the task.
+    Status getStatus();
+
+    /// The priority of the task.
+    Priority getPriority();
+
+    /// The username of the executor of the task.
+    String getExecutor();
+
+    /// The username of the author of the task.
+    String getAuthor();
+}
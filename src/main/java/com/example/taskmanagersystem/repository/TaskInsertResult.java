@@ -0,0 +1,25 @@
+package com.example.taskmanagersystem.repository;
+
+/**
+ * Result of {@link TaskRepository#insertTask}.
+ * <p>
+ * Each identifier is {@code null} if the corresponding row was not found or, for the task, not inserted.
+ * </p>
+ */
+public interface TaskInsertResult {
+
+    /// The identifier of the author, resolved by email.
+    Long getAuthorId();
+
+    /// The username of the author.
+    String getAuthorUsername();
+
+    /// The identifier of the executor, resolved by username.
+    Long getExecutorId();
+
+    /// The email of the executor.
+    String getExecutorEmail();
+
+    /// The identifier of the inserted task.
+    Long getTaskId();
+}
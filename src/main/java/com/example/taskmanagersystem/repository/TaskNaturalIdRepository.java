@@ -0,0 +1,22 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.TaskEntity;
+
+import java.util.Optional;
+
+/**
+ * Repository fragment resolving {@link TaskEntity} objects by their natural id.
+ */
+public interface TaskNaturalIdRepository {
+
+    /**
+     * Finds a task by its title.
+     * <p>
+     * A task already loaded in the current persistence context is returned without touching the database.
+     * </p>
+     *
+     * @param title the title of the task to find.
+     * @return an {@link Optional} containing the task, or an empty {@link Optional}.
+     */
+    Optional<TaskEntity> findByTitle(String title);
+}
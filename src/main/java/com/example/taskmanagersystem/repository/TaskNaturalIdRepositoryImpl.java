@@ -0,0 +1,26 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.TaskEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Implementation of {@link TaskNaturalIdRepository} based on Hibernate natural-id loading.
+ */
+public class TaskNaturalIdRepositoryImpl implements TaskNaturalIdRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<TaskEntity> findByTitle(String title) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(TaskEntity.class)
+                .loadOptional(title);
+    }
+}
@@ -2,34 +2,207 @@ package com.example.taskmanagersystem.repository;
 
 import com.example.taskmanagersystem.model.TaskEntity;
 import com.example.taskmanagersystem.model.UserEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 
 /**
  * Repository interface for performing CRUD operations and queries on {@link TaskEntity} objects.
  */
-public interface TaskRepository extends JpaRepository<TaskEntity, Long>, JpaSpecificationExecutor<TaskEntity> {
+public interface TaskRepository extends JpaRepository<TaskEntity, Long>, JpaSpecificationExecutor<TaskEntity>, TaskFacetRepository, TaskFieldRepository, TaskNaturalIdRepository {
 
     /**
-     * Finds a task by its title.
+     * Checks if a task exists by its title.
+     *
+     * @param title the title of the task to check.
+     * @return {@code true} if a task with the given title exists, otherwise {@code false}.
+     */
+    boolean existsByTitle(String title);
+
+    /**
+     * Finds the titles of the tasks with an identifier greater than the given one, ordered by identifier.
+     *
+     * @param afterId the identifier after which to start.
+     * @param limit   the maximum number of titles to return.
+     * @return the titles of the next tasks.
+     */
+    @Query("select t.id as id, t.title as title from TaskEntity t where t.id > :afterId order by t.id")
+    List<TaskTitle> findTitlesAfter(Long afterId, Limit limit);
+
+    /**
+     * Finds the tasks with the given titles, together with their users and comments.
+     *
+     * @param titles the titles of the tasks to find.
+     * @return the found tasks, in no particular order.
+     */
+    @EntityGraph(attributePaths = {"author", "executor", "comments", "comments.author"})
+    List<TaskEntity> findByTitleIn(Collection<String> titles);
+
+    /**
+     * Finds the indexed fields of the tasks with an identifier greater than the given one, ordered by identifier.
+     *
+     * @param afterId the identifier after which to start.
+     * @param limit   the maximum number of tasks to return.
+     * @return the indexed fields of the next tasks.
+     */
+    @Query("""
+            select t.id as id, t.title as title, t.status as status, t.priority as priority,
+                   e.username as executor, a.username as author
+            from TaskEntity t left join t.executor e left join t.author a
+            where t.id > :afterId
+            order by t.id
+            """)
+    List<TaskIndexEntry> findIndexEntriesAfter(Long afterId, Limit limit);
+
+    /**
+     * Counts the tasks of every combination of status, priority and executor.
+     *
+     * @return the non-zero counts.
+     */
+    @Query("""
+            select t.status as status, t.priority as priority, e.username as executor, count(t) as count
+            from TaskEntity t join t.executor e
+            group by t.status, t.priority, e.username
+            """)
+    List<TaskCount> countByStatusPriorityAndExecutor();
+
+    /**
+     * Inserts a task in a single statement.
+     * <p>
+     * The author and the executor are resolved in the same statement, and the insert is skipped if a task
+     * with the same title already exists, so concurrent creates of one title cannot both succeed.
+     * The creation is recorded in the status history by the same statement.
+     * </p>
+     *
+     * @param title       the title of the task.
+     * @param description the description of the task.
+     * @param status      the status of the task.
+     * @param priority    the priority of the task.
+     * @param authorEmail the email of the task's author.
+     * @param executor    the username of the task's executor.
+     * @param createdAt   the time of the creation, by the application clock like every status change.
+     * @return the {@link TaskInsertResult} telling which of the users were found and whether the task was inserted.
+     */
+    @Query(value = """
+            with author as (select id, username from users where email = :authorEmail),
+                 executor as (select id, email from users where username = :executor),
+                 inserted as (
+                     insert into tasks (title, description, status, priority, author_id, executor_id, completed_at)
+                     select :title, :description, :status, :priority, author.id, executor.id,
+                            case when :status = 'COMPLETED' then cast(:createdAt as timestamp) end
+                     from author, executor
+                     on conflict (title) do nothing
+                     returning id, status, priority, executor_id),
+                 history as (
+                     insert into task_status_history (task_id, to_status, priority, executor_id, changed_at)
+                     select id, status, priority, executor_id, cast(:createdAt as timestamp) from inserted)
+            select (select id from author) as "authorId",
+                   (select username from author) as "authorUsername",
+                   (select id from executor) as "executorId",
+                   (select email from executor) as "executorEmail",
+                   (select id from inserted) as "taskId"
+            """, nativeQuery = true)
+    TaskInsertResult insertTask(String title, String description, String status, String priority, String authorEmail, String executor, LocalDateTime createdAt);
+
+    /**
+     * Claims the next pending task for an executor in a single statement.
+     * <p>
+     * The task with the highest priority, then the oldest, among the pending tasks that are unassigned or assigned
+     * to the executor is locked, set in progress and assigned to the executor. Tasks locked by concurrent claims
+     * are skipped instead of waited for, so concurrent claimers never get the same task.
+     * The ordering matches the {@code tasks_claim_idx} index. The claim is recorded in the status history
+     * by the same statement.
+     * </p>
      *
-     * @param title the title of the task to find.
+     * @param executorId the identifier of the claiming executor.
+     * @param claimedAt  the time of the claim, by the application clock like every status change.
+     * @return the {@link TaskClaimResult} of the claimed task, or {@code null} if there is no task to claim.
+     */
+    @Query(value = """
+            with claimed as (
+                     select id, executor_id from tasks
+                     where status = 'PENDING' and (executor_id is null or executor_id = :executorId)
+                     order by case priority when 'HIGH' then 0 when 'MEDIUM' then 1 else 2 end, id
+                     limit 1
+                     for update skip locked),
+                 updated as (
+                     update tasks t set status = 'IN_PROGRESS', executor_id = :executorId
+                     from claimed
+                     where t.id = claimed.id
+                     returning t.id, t.priority, claimed.executor_id as previous_executor_id),
+                 history as (
+                     insert into task_status_history (task_id, from_status, to_status, priority, executor_id, changed_at)
+                     select id, 'PENDING', 'IN_PROGRESS', priority, :executorId, cast(:claimedAt as timestamp) from updated)
+            select id as "id", previous_executor_id as "previousExecutorId" from updated
+            """, nativeQuery = true)
+    TaskClaimResult claimNextTask(Long executorId, LocalDateTime claimedAt);
+
+    /**
+     * Finds a task by its identifier, together with its users and comments.
+     *
+     * @param id the identifier of the task.
      * @return an {@link Optional} containing the task, or an empty {@link Optional}.
      */
-    Optional<TaskEntity> findByTitle(String title);
+    @EntityGraph(attributePaths = {"author", "executor", "comments", "comments.author"})
+    Optional<TaskEntity> findWithDetailsById(Long id);
 
     /**
-     * Checks if a task exists by its title.
+     * Finds the tasks with the given identifiers, together with their users and comments.
      *
-     * @param title the title of the task to check.
-     * @return {@code true} if a task with the given title exists, otherwise {@code false}.
+     * @param ids the identifiers of the tasks to find.
+     * @return the found tasks, in no particular order.
      */
-    boolean existsByTitle(String title);
+    @EntityGraph(attributePaths = {"author", "executor", "comments", "comments.author"})
+    List<TaskEntity> findWithDetailsByIdIn(Collection<Long> ids);
+
+    /**
+     * Finds the most relevant tasks matching a full-text query.
+     * <p>
+     * Title, description and comments are searched, weighted in that order.
+     * Ties in relevance are ordered by descending id.
+     * </p>
+     *
+     * @param query the query in {@code to_tsquery} syntax.
+     * @param limit the maximum number of tasks to return.
+     * @return a list of {@link TaskSearchHit} ordered from the most relevant.
+     */
+    @Query(value = """
+            select t.id as id, ts_rank(t.search_vector, query) as score
+            from tasks t, to_tsquery('english', :query) query
+            where t.search_vector @@ query
+            order by score desc, t.id desc
+            limit :limit
+            """, nativeQuery = true)
+    List<TaskSearchHit> search(String query, Integer limit);
+
+    /**
+     * Finds the next page of tasks matching a full-text query, after the last task of the previous page.
+     *
+     * @param query      the query in {@code to_tsquery} syntax.
+     * @param afterScore the relevance of the last task of the previous page.
+     * @param afterId    the id of the last task of the previous page.
+     * @param limit      the maximum number of tasks to return.
+     * @return a list of {@link TaskSearchHit} ordered from the most relevant.
+     */
+    @Query(value = """
+            select t.id as id, ts_rank(t.search_vector, query) as score
+            from tasks t, to_tsquery('english', :query) query
+            where t.search_vector @@ query
+              and (ts_rank(t.search_vector, query), t.id) < (:afterScore, :afterId)
+            order by score desc, t.id desc
+            limit :limit
+            """, nativeQuery = true)
+    List<TaskSearchHit> searchAfter(String query, Float afterScore, Long afterId, Integer limit);
 
     /**
      * Finds tasks by their executor.
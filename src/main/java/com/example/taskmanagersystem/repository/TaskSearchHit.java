@@ -0,0 +1,13 @@
+package com.example.taskmanagersystem.repository;
+
+/**
+ * A task matching a full-text search, as returned by {@link TaskRepository#search}.
+ */
+public interface TaskSearchHit {
+
+    /// The identifier of the task.
+    Long getId();
+
+    /// The relevance of the task to the query, higher is more relevant.
+    Float getScore();
+}
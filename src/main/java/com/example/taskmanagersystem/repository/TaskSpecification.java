@@ -1,13 +1,14 @@
 package com.example.taskmanagersystem.repository;
 
 import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.model.ArchivedTaskEntity;
 import com.example.taskmanagersystem.model.TaskEntity;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 
-/// A utility class for building {@link Specification} objects for querying {@link TaskEntity}.
+/// A utility class for building {@link Specification} objects for querying {@link TaskEntity} and {@link ArchivedTaskEntity}.
 @Component
 public class TaskSpecification {
 
@@ -15,13 +16,15 @@ public class TaskSpecification {
      * Builds a {@link Specification} for {@link TaskEntity} based on the provided filter parameters.
      * <p>
      * Each filter will apply a condition only if the corresponding field in {@link FindTasksDto} is not null.
+     * The specification applies as well to {@link ArchivedTaskEntity}, whose attributes have the same names.
      * </p>
      *
      * @param params the filter parameters for searching tasks.
+     * @param <T>    the type of the queried task entity.
      * @return the specification object to use in a query.
      */
-    public Specification<TaskEntity> build(FindTasksDto params) {
-        return withAuthor(params.getAuthor())
+    public <T> Specification<T> build(FindTasksDto params) {
+        return this.<T>withAuthor(params.getAuthor())
                 .and(withExecutor(params.getExecutor()))
                 .and(withNonPriority(params.getNonPriority()))
                 .and(withPriority(params.getPriority()))
@@ -42,7 +45,7 @@ public class TaskSpecification {
      * @param author the username of the task's author.
      * @return the specification to filter by author.
      */
-    private Specification<TaskEntity> withAuthor(String author) {
+    private <T> Specification<T> withAuthor(String author) {
         return (root, query, cb) -> author == null ? cb.conjunction() : cb.equal(root.get("author").get("username"), author);
     }
 
@@ -55,7 +58,7 @@ public class TaskSpecification {
      * @param executor the username of the task's executor.
      * @return the specification to filter by executor.
      */
-    private Specification<TaskEntity> withExecutor(String executor) {
+    private <T> Specification<T> withExecutor(String executor) {
         return (root, query, cb) -> executor == null ? cb.conjunction() : cb.equal(root.get("executor").get("username"), executor);
     }
 
@@ -68,7 +71,7 @@ public class TaskSpecification {
      * @param status the status of the task.
      * @return the specification to filter by status.
      */
-    private Specification<TaskEntity> withStatus(String status) {
+    private <T> Specification<T> withStatus(String status) {
         return (root, query, cb) -> status == null ? cb.conjunction() : cb.equal(root.get("status"), status);
     }
 
@@ -81,7 +84,7 @@ public class TaskSpecification {
      * @param status the status to exclude.
      * @return the specification to exclude tasks with the given status.
      */
-    private Specification<TaskEntity> withNonStatus(String status) {
+    private <T> Specification<T> withNonStatus(String status) {
         return (root, query, cb) -> status == null ? cb.conjunction() : cb.notEqual(root.get("status"), status);
     }
 
@@ -94,7 +97,7 @@ public class TaskSpecification {
      * @param priority the priority of the task.
      * @return the specification to filter by priority.
      */
-    private Specification<TaskEntity> withPriority(String priority) {
+    private <T> Specification<T> withPriority(String priority) {
         return (root, query, cb) -> priority == null ? cb.conjunction() : cb.equal(root.get("priority"), priority);
     }
 
@@ -107,7 +110,7 @@ public class TaskSpecification {
      * @param priority the priority to exclude.
      * @return the specification to exclude tasks with the given priority.
      */
-    private Specification<TaskEntity> withNonPriority(String priority) {
+    private <T> Specification<T> withNonPriority(String priority) {
         return (root, query, cb) -> priority == null ? cb.conjunction() : cb.notEqual(root.get("priority"), priority);
     }
 
@@ -120,7 +123,7 @@ public class TaskSpecification {
      * @param countCommentsLess the upper bound for the number of comments.
      * @return the specification to filter tasks by the number of comments less than the specified value.
      */
-    private Specification<TaskEntity> withCountCommentsLess(Integer countCommentsLess) {
+    private <T> Specification<T> withCountCommentsLess(Integer countCommentsLess) {
         return (root, query, cb) -> countCommentsLess == null ? cb.conjunction() : cb.le(cb.size(root.get("comments")), countCommentsLess);
     }
 
@@ -133,7 +136,7 @@ public class TaskSpecification {
      * @param countCommentsGreater the lower bound for the number of comments.
      * @return the specification to filter tasks by the number of comments greater than the specified value.
      */
-    private Specification<TaskEntity> withCountCommentsGreater(Integer countCommentsGreater) {
+    private <T> Specification<T> withCountCommentsGreater(Integer countCommentsGreater) {
         return (root, query, cb) -> countCommentsGreater == null ? cb.conjunction() : cb.gt(cb.size(root.get("comments")), countCommentsGreater);
     }
 
@@ -146,7 +149,7 @@ public class TaskSpecification {
      * @param countCommentsEqual the exact number of comments to match.
      * @return the specification to filter tasks by the number of comments equal to the specified value.
      */
-    private Specification<TaskEntity> withCountCommentsEqual(Integer countCommentsEqual) {
+    private <T> Specification<T> withCountCommentsEqual(Integer countCommentsEqual) {
         return (root, query, cb) -> countCommentsEqual == null ? cb.conjunction() : cb.equal(cb.size(root.get("comments")), countCommentsEqual);
     }
 
@@ -0,0 +1,28 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.TaskStatusHistoryEntity;
+
+/**
+ * Repository fragment appending the status changes of a transaction to the history in one batch.
+ */
+public interface TaskStatusHistoryBatchRepository {
+
+    /**
+     * Appends a status change to the history.
+     * <p>
+     * The changes appended in a transaction are inserted together in one JDBC batch just before it commits,
+     * and dropped if it rolls back. Without a transaction the change is inserted immediately.
+     * </p>
+     *
+     * @param change the status change, without identifier.
+     */
+    void append(TaskStatusHistoryEntity change);
+
+    /**
+     * Finds when a task was created and first started, including the changes appended in the current transaction.
+     *
+     * @param taskId the identifier of the task.
+     * @return the {@link TaskStatusTimes} of the task.
+     */
+    TaskStatusTimes findTimes(Long taskId);
+}
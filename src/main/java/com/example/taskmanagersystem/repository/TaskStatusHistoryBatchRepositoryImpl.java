@@ -0,0 +1,114 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.TaskStatusHistoryEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of {@link TaskStatusHistoryBatchRepository} buffering the changes of each transaction.
+ * <p>
+ * The buffer is bound to the transaction and flushed with {@link JdbcTemplate#batchUpdate} on the connection
+ * of the transaction, so a bulk change of statuses costs one round trip for its history.
+ * </p>
+ */
+public class TaskStatusHistoryBatchRepositoryImpl implements TaskStatusHistoryBatchRepository {
+
+    private static final String INSERT = """
+            insert into task_status_history (task_id, from_status, to_status, priority, executor_id, changed_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor to inject dependencies.
+     *
+     * @param jdbcTemplate the template inserting the changes
+     */
+    public TaskStatusHistoryBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void append(TaskStatusHistoryEntity change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(change));
+            return;
+        }
+        pending(true).add(change);
+    }
+
+    @Override
+    public TaskStatusTimes findTimes(Long taskId) {
+        TaskStatusTimes stored = jdbcTemplate.queryForObject("""
+                select min(changed_at) as created_at,
+                       min(changed_at) filter (where to_status = 'IN_PROGRESS') as started_at
+                from task_status_history
+                where task_id = ?
+                """, (rs, row) -> new TaskStatusTimes(
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("started_at", LocalDateTime.class)), taskId);
+        List<TaskStatusHistoryEntity> appended = pending(false).stream()
+                .filter(change -> change.getTaskId().equals(taskId))
+                .toList();
+        return new TaskStatusTimes(
+                earliest(Stream.concat(Stream.of(stored.createdAt()), appended.stream()
+                        .map(TaskStatusHistoryEntity::getChangedAt))),
+                earliest(Stream.concat(Stream.of(stored.startedAt()), appended.stream()
+                        .filter(change -> change.getToStatus() == Status.IN_PROGRESS)
+                        .map(TaskStatusHistoryEntity::getChangedAt))));
+    }
+
+
+    /**
+     * Returns the changes appended in the current transaction, binding an empty buffer first if asked.
+     */
+    @SuppressWarnings("unchecked")
+    private List<TaskStatusHistoryEntity> pending(boolean bind) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return List.of();
+        }
+        List<TaskStatusHistoryEntity> changes = (List<TaskStatusHistoryEntity>) TransactionSynchronizationManager.getResource(this);
+        if (changes == null && bind) {
+            List<TaskStatusHistoryEntity> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    insert(buffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(TaskStatusHistoryBatchRepositoryImpl.this);
+                }
+            });
+            changes = buffer;
+        }
+        return changes == null ? List.of() : changes;
+    }
+
+    private void insert(List<TaskStatusHistoryEntity> changes) {
+        jdbcTemplate.batchUpdate(INSERT, changes, changes.size(), (statement, change) -> {
+            statement.setLong(1, change.getTaskId());
+            statement.setString(2, change.getFromStatus() == null ? null : change.getFromStatus().name());
+            statement.setString(3, change.getToStatus().name());
+            statement.setString(4, change.getPriority().name());
+            statement.setObject(5, change.getExecutorId());
+            statement.setTimestamp(6, Timestamp.valueOf(change.getChangedAt()));
+        });
+    }
+
+    private static LocalDateTime earliest(Stream<LocalDateTime> times) {
+        return times.filter(Objects::nonNull).min(LocalDateTime::compareTo).orElse(null);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.TaskStatusHistoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+
+/**
+ * Repository interface for appending to and querying the status history of the tasks, {@link TaskStatusHistoryEntity} objects.
+ */
+public interface TaskStatusHistoryRepository extends JpaRepository<TaskStatusHistoryEntity, Long>, TaskStatusHistoryBatchRepository {
+
+    /**
+     * Finds the completions of tasks recorded after the given one, ordered by identifier, with the times
+     * the tasks were created and first started before each completion. Tasks created completed are left out.
+     *
+     * @param afterId the identifier of the status change after which to start.
+     * @param limit   the maximum number of completions to return.
+     * @return the next completions.
+     */
+    @Query(value = """
+            select c.id as "id", u.username as "executor", c.priority as "priority",
+                   s.created_at as "createdAt", s.started_at as "startedAt", c.changed_at as "completedAt"
+            from task_status_history c
+                 left join users u on u.id = c.executor_id
+                 cross join lateral (
+                     select min(h.changed_at) as created_at,
+                            min(h.changed_at) filter (where h.to_status = 'IN_PROGRESS') as started_at
+                     from task_status_history h
+                     where h.task_id = c.task_id and h.changed_at <= c.changed_at and h.id <> c.id) s
+            where c.to_status = 'COMPLETED' and c.from_status is not null and c.id > :afterId
+            order by c.id
+            limit :limit
+            """, nativeQuery = true)
+    List<TaskCompletion> findCompletionsAfter(Long afterId, Integer limit);
+}
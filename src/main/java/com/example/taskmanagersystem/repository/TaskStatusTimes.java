@@ -0,0 +1,12 @@
+package com.example.taskmanagersystem.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * When a task was created and first started, as recorded in its status history.
+ *
+ * @param createdAt when the task was created, {@code null} if it was created before the history was kept
+ * @param startedAt when the task was first set in progress, {@code null} if it never was
+ */
+public record TaskStatusTimes(LocalDateTime createdAt, LocalDateTime startedAt) {
+}
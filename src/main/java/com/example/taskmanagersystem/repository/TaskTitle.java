@@ -0,0 +1,13 @@
+package com.example.taskmanagersystem.repository;
+
+/**
+ * Projection of the title of a {@link com.example.taskmanagersystem.model.TaskEntity}.
+ */
+public interface TaskTitle {
+
+    /// The unique identifier of the task.
+    Long getId();
+
+    /// The unique title of the task.
+    String getTitle();
+}
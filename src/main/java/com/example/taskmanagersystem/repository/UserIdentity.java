@@ -0,0 +1,16 @@
+package com.example.taskmanagersystem.repository;
+
+/**
+ * Projection of the unique identifiers of a {@link com.example.taskmanagersystem.model.UserEntity}.
+ */
+public interface UserIdentity {
+
+    /// The unique identifier of the user.
+    Long getId();
+
+    /// The unique email address of the user.
+    String getEmail();
+
+    /// The unique username of the user.
+    String getUsername();
+}
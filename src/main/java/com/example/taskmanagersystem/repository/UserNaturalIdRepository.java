@@ -0,0 +1,22 @@
+package com.example.taskmanagersystem.repository;
+
+import com.example.taskmanagersystem.model.UserEntity;
+
+import java.util.Optional;
+
+/**
+ * Repository fragment resolving {@link UserEntity} objects through the Hibernate natural-id cache.
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * Finds a user by their email address.
+     * <p>
+     * Repeated lookups are served from the second-level cache without touching the database.
+     * </p>
+     *
+     * @param email The email address of the user to find.
+     * @return An {@link Optional} containing the {@link UserEntity} if found, otherwise an empty {@link Optional}.
+     */
+    Optional<UserEntity> findByEmail(String email);
+}
@@ -2,33 +2,55 @@ package com.example.taskmanagersystem.repository;
 
 
 import com.example.taskmanagersystem.model.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
 
 /**
  * Repository interface for {@link UserEntity}.
+ * Lookups by email are provided by {@link UserNaturalIdRepository}.
  */
-public interface UserRepository extends JpaRepository<UserEntity, Long> {
+public interface UserRepository extends JpaRepository<UserEntity, Long>, UserNaturalIdRepository {
 
     /**
-     * Finds a user by their email address.
+     * Finds a user by their username.
+     * <p>
+     * The result is kept in the query cache and invalidated whenever the {@code users} table changes.
+     * </p>
      *
-     * @param email The email address of the user to find.
+     * @param username The username of the user to find.
      * @return An {@link Optional} containing the {@link UserEntity} if found, otherwise an empty {@link Optional}.
      */
-    Optional<UserEntity> findByEmail(String email);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    Optional<UserEntity> findByUsername(String username);
 
     /**
-     * Finds a user by their username.
+     * Finds the users holding the given email or the given username in one query.
      *
-     * @param username The username of the user to find.
-     * @return An {@link Optional} containing the {@link UserEntity} if found, otherwise an empty {@link Optional}.
+     * @param email    The email address to look for.
+     * @param username The username to look for.
+     * @return The identities of at most two users holding the email or the username.
      */
-    Optional<UserEntity> findByUsername(String username);
+    List<UserIdentity> findByEmailOrUsername(String email, String username);
+
+    /**
+     * Finds the identities of the users with an identifier greater than the given one, ordered by identifier.
+     *
+     * @param afterId The identifier after which to start.
+     * @param limit   The maximum number of identities to return.
+     * @return The identities of the next users.
+     */
+    @Query("select u.id as id, u.email as email, u.username as username from UserEntity u where u.id > :afterId order by u.id")
+    List<UserIdentity> findIdentitiesAfter(Long afterId, Limit limit);
 
     /**
      * Checks if a user with the specified email exists.
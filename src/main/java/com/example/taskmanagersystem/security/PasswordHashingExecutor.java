@@ -0,0 +1,110 @@
+package com.example.taskmanagersystem.security;
+
+import com.example.taskmanagersystem.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Dedicated, size-limited executor for password hashing.
+ * <p>
+ * BCrypt is CPU-heavy, so hashing runs on a fixed number of threads instead of on every request thread.
+ * Requests waiting for a hashing thread are limited by the queue capacity; when the queue is full
+ * a {@link ServiceOverloadedException} is thrown and the client is asked to retry later.
+ * </p>
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final Long retryAfter;
+    private final Timer queueWaitTimer;
+    private final Timer hashTimer;
+    private final Counter rejectedCounter;
+
+
+    /**
+     * Constructor for initializing the executor.
+     *
+     * @param meterRegistry the registry for the hashing metrics
+     * @param poolSize      the number of hashing threads
+     * @param queueCapacity the maximum number of requests waiting for a hashing thread
+     * @param retryAfter    the number of seconds after which a rejected client may retry
+     */
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${security.hashing.pool-size:2}") Integer poolSize,
+                                   @Value("${security.hashing.queue-capacity:64}") Integer queueCapacity,
+                                   @Value("${security.hashing.retry-after:1}") Long retryAfter) {
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.retryAfter = retryAfter;
+        this.queueWaitTimer = Timer.builder("password.hashing.queue.wait")
+                .description("Time a password hashing request waits for a hashing thread")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("password.hashing.time")
+                .description("Time spent hashing or matching a password")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashing requests waiting for a hashing thread")
+                .register(meterRegistry);
+    }
+
+
+    /**
+     * Runs the hashing task on a hashing thread and waits for its result.
+     *
+     * @param task the hashing task
+     * @param <T>  the type of the result
+     * @return the result of the task
+     * @throws ServiceOverloadedException if the hashing queue is full
+     */
+    public <T> T execute(Supplier<T> task) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+                return hashTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("Password hashing queue is full, rejecting request");
+            throw new ServiceOverloadedException("Too many authentication requests, try again later", retryAfter);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Stops the hashing threads on shutdown.
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
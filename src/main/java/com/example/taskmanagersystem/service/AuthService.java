@@ -1,5 +1,6 @@
 package com.example.taskmanagersystem.service;
 
+import com.example.taskmanagersystem.dto.AvailabilityResponseDto;
 import com.example.taskmanagersystem.dto.LoginDto;
 import com.example.taskmanagersystem.dto.RegisterDto;
 import com.example.taskmanagersystem.exceptions.ErrorInputDataException;
@@ -7,4 +8,5 @@ import com.example.taskmanagersystem.exceptions.ErrorInputDataException;
 public interface AuthService {
     String login(LoginDto loginDto);
     void register(RegisterDto registerDto) throws  ErrorInputDataException;
+    AvailabilityResponseDto checkAvailability(String email, String username);
 }
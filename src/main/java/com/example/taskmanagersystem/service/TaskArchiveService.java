@@ -0,0 +1,20 @@
+package com.example.taskmanagersystem.service;
+
+import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.dto.TaskField;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+public interface TaskArchiveService {
+
+    int archiveCompletedTasks(LocalDateTime before);
+
+    TaskResponseDto showTaskByTitleIncludingArchived(String title);
+
+    List<TaskResponseDto> showTaskByExecutorEmailIncludingArchived(String executor, Integer limit, Integer offset);
+
+    List<TaskResponseDto> showAllTasksBySpecificationIncludingArchived(FindTasksDto findTasksDto, Integer limit, Integer offset, Set<TaskField> fields);
+}
@@ -0,0 +1,9 @@
+package com.example.taskmanagersystem.service;
+
+import com.example.taskmanagersystem.dto.BatchRequestDto;
+import com.example.taskmanagersystem.dto.BatchResponseDto;
+
+public interface TaskBatchService {
+
+    BatchResponseDto executeBatch(BatchRequestDto batch, String email);
+}
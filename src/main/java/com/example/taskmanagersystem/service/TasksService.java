@@ -2,12 +2,21 @@ package com.example.taskmanagersystem.service;
 
 import com.example.taskmanagersystem.dto.CommentCreateDto;
 import com.example.taskmanagersystem.dto.CreateTaskDto;
+import com.example.taskmanagersystem.dto.CycleTimeDto;
+import com.example.taskmanagersystem.dto.FindTasksCountDto;
 import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.dto.FindTasksResponseDto;
+import com.example.taskmanagersystem.dto.TaskField;
+import com.example.taskmanagersystem.dto.TaskLookupDto;
 import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.dto.TaskSearchResponseDto;
+import com.example.taskmanagersystem.dto.TaskStatisticsDto;
 import com.example.taskmanagersystem.model.Priority;
 import com.example.taskmanagersystem.model.Status;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 public interface TasksService {
 
@@ -17,9 +26,18 @@ public interface TasksService {
     void editPriority(String title, Priority newPriority) ;
     void editExecutor(String title, String newExecutor) ;
     void addComment(CommentCreateDto newComment, String email);
+    Optional<TaskResponseDto> claimNextTask(String email);
     TaskResponseDto showTaskByTitle(String title );
-    List<TaskResponseDto> showTaskByExecutorUsername(String executor, Integer limit, Integer offset);
+    List<TaskLookupDto> showTasksByTitles(List<String> titles);
+    List<TaskResponseDto> showTaskByExecutorUsername(String executor, Integer limit, Integer offset, Set<TaskField> fields);
     List<TaskResponseDto> showTaskByExecutorEmail(String executor, Integer limit, Integer offset);
-    List<TaskResponseDto> showAllTasks(Integer limit, Integer offset);
-    List<TaskResponseDto> showAllTasksBySpecification(FindTasksDto findTasksDto, Integer limit, Integer offset);
+    List<TaskResponseDto> showAllTasks(Integer limit, Integer offset, Set<TaskField> fields);
+    List<TaskResponseDto> showAllTasksBySpecification(FindTasksDto findTasksDto, Integer limit, Integer offset, Set<TaskField> fields);
+    FindTasksResponseDto showAllTasksBySpecificationWithFacets(FindTasksDto findTasksDto, Integer limit, Integer offset, Integer facetLimit, Set<TaskField> fields);
+    FindTasksCountDto countTasksBySpecification(FindTasksDto findTasksDto);
+    FindTasksCountDto existsTasksBySpecification(FindTasksDto findTasksDto);
+    TaskStatisticsDto showStatistics();
+    List<CycleTimeDto> showCycleTimes();
+    List<String> suggestTitles(String prefix, Integer limit);
+    TaskSearchResponseDto searchTasks(String query, Integer limit, String after);
 }
@@ -1,5 +1,7 @@
 package com.example.taskmanagersystem.service.impl;
 
+import com.example.taskmanagersystem.cache.UserAvailabilityFilter;
+import com.example.taskmanagersystem.dto.AvailabilityResponseDto;
 import com.example.taskmanagersystem.dto.LoginDto;
 import com.example.taskmanagersystem.dto.RegisterDto;
 import com.example.taskmanagersystem.exceptions.ErrorInputDataException;
@@ -8,9 +10,11 @@ import com.example.taskmanagersystem.jwt.JwtGenerator;
 import com.example.taskmanagersystem.mapper.UserMapper;
 import com.example.taskmanagersystem.model.UserEntity;
 import com.example.taskmanagersystem.repository.RoleRepository;
+import com.example.taskmanagersystem.repository.UserIdentity;
 import com.example.taskmanagersystem.repository.UserRepository;
 import com.example.taskmanagersystem.service.AuthService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -33,6 +37,7 @@ public class AuthServiceImpl implements AuthService {
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
     private final RoleRepository roleRepository;
+    private final UserAvailabilityFilter userAvailabilityFilter;
 
 
     /**
@@ -44,14 +49,16 @@ public class AuthServiceImpl implements AuthService {
      * @param jwtGenerator the JWT generator for generating access tokens
      * @param userMapper the mapper for converting between DTOs and entities
      * @param passwordEncoder the password encoder for hashing passwords
+     * @param userAvailabilityFilter the filter of emails and usernames already taken
      */
-    public AuthServiceImpl(UserRepository userRepository, RoleRepository roleRepository, AuthenticationManager authenticationManager, JwtGenerator jwtGenerator, UserMapper userMapper, PasswordEncoder passwordEncoder) {
+    public AuthServiceImpl(UserRepository userRepository, RoleRepository roleRepository, AuthenticationManager authenticationManager, JwtGenerator jwtGenerator, UserMapper userMapper, PasswordEncoder passwordEncoder, UserAvailabilityFilter userAvailabilityFilter) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
         this.jwtGenerator = jwtGenerator;
         this.userMapper = userMapper;
         this.roleRepository = roleRepository;
+        this.userAvailabilityFilter = userAvailabilityFilter;
     }
 
 
@@ -77,7 +84,9 @@ public class AuthServiceImpl implements AuthService {
     /**
      * Registers a new user with the provided registration details.
      * <p>
-     * This method checks for duplicate email and username to ensure uniqueness. The password is hashed
+     * This method checks for duplicate email and username to ensure uniqueness. The check needs no database
+     * read when the {@link UserAvailabilityFilter} rules both out, and a single query otherwise; the unique
+     * constraints of the {@code users} table remain the final arbiter. The password is hashed
      * using the {@link PasswordEncoder}. The user is assigned the default "USER" role.
      * </p>
      *
@@ -86,14 +95,13 @@ public class AuthServiceImpl implements AuthService {
      */
     @Transactional
     public void register(RegisterDto registerDto) throws ErrorInputDataException {
-        if(userRepository.existsByEmail(registerDto.getEmail())){
-            log.error("Email {} is already in use", registerDto.getEmail());
-            throw new ErrorInputDataException("Email " + registerDto.getEmail() + " is already in use");
+        AvailabilityResponseDto availability = checkAvailability(registerDto.getEmail(), registerDto.getUsername());
+        if (!availability.getEmailAvailable()) {
+            throw emailInUse(registerDto.getEmail());
         }
 
-        if (userRepository.existsByUsername(registerDto.getUsername())) {
-            log.error("Username {} is already in use", registerDto.getEmail());
-            throw new ErrorInputDataException("Username " + registerDto.getEmail() + " is already in use");
+        if (!availability.getUsernameAvailable()) {
+            throw usernameInUse(registerDto.getUsername());
         }
 
         registerDto.setPassword(passwordEncoder.encode(registerDto.getPassword()));
@@ -101,7 +109,52 @@ public class AuthServiceImpl implements AuthService {
         UserEntity user = userMapper.toUserEntity(registerDto);
         user.setRoles(List.of(roleRepository.findByName("USER")));
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (e.getMessage() != null && e.getMessage().contains("users_username_key")) {
+                throw usernameInUse(registerDto.getUsername());
+            }
+            throw emailInUse(registerDto.getEmail());
+        }
+        userAvailabilityFilter.put(registerDto.getEmail(), registerDto.getUsername());
     }
-}
 
+    /**
+     * Checks whether an email and a username are still available for registration.
+     * <p>
+     * Values ruled out by the {@link UserAvailabilityFilter} are reported available without a database read;
+     * the others are checked with a single query.
+     * </p>
+     *
+     * @param email    the email to check, may be {@code null}
+     * @param username the username to check, may be {@code null}
+     * @return a {@link AvailabilityResponseDto} with {@code null} for the values that were not checked
+     */
+    public AvailabilityResponseDto checkAvailability(String email, String username) {
+        boolean checkEmail = email != null && userAvailabilityFilter.mightContainEmail(email);
+        boolean checkUsername = username != null && userAvailabilityFilter.mightContainUsername(username);
+
+        boolean emailTaken = false;
+        boolean usernameTaken = false;
+        if (checkEmail || checkUsername) {
+            for (UserIdentity identity : userRepository.findByEmailOrUsername(email, username)) {
+                emailTaken |= identity.getEmail().equals(email);
+                usernameTaken |= identity.getUsername().equals(username);
+            }
+        }
+
+        return new AvailabilityResponseDto(email == null ? null : !emailTaken, username == null ? null : !usernameTaken);
+    }
+
+
+    private ErrorInputDataException emailInUse(String email) {
+        log.error("Email {} is already in use", email);
+        return new ErrorInputDataException("Email " + email + " is already in use");
+    }
+
+    private ErrorInputDataException usernameInUse(String username) {
+        log.error("Username {} is already in use", username);
+        return new ErrorInputDataException("Username " + username + " is already in use");
+    }
+}
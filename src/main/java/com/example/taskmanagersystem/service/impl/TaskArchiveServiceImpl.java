@@ -0,0 +1,276 @@
+package com.example.taskmanagersystem.service.impl;
+
+import com.example.taskmanagersystem.cache.ExecutorTasksCache;
+import com.example.taskmanagersystem.cache.FindQueryCache;
+import com.example.taskmanagersystem.cache.FindQueryCache.TaskState;
+import com.example.taskmanagersystem.cache.TaskBitmapIndex;
+import com.example.taskmanagersystem.cache.TaskCache;
+import com.example.taskmanagersystem.cache.TaskStatistics;
+import com.example.taskmanagersystem.cache.TaskTitleIndex;
+import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.dto.TaskField;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.exceptions.ErrorInputDataException;
+import com.example.taskmanagersystem.mapper.TaskMapper;
+import com.example.taskmanagersystem.model.ArchivedTaskEntity;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.TaskEntity;
+import com.example.taskmanagersystem.repository.ArchivedTaskRepository;
+import com.example.taskmanagersystem.repository.TaskArchiveResult;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.repository.TaskSpecification;
+import com.example.taskmanagersystem.service.TaskArchiveService;
+import com.example.taskmanagersystem.service.TasksService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementation of the {@link TaskArchiveService} interface.
+ * <p>
+ * Tasks completed for longer than {@code archive.completed-after-days} are moved with their comments
+ * from the {@code tasks} table to the {@code tasks_archive} table by a background job, so that the queries
+ * of the task endpoints work on the tasks still in progress and the recently completed ones. Reads
+ * include the archived tasks only when asked, after the tasks of the {@code tasks} table.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TaskArchiveServiceImpl implements TaskArchiveService {
+
+    private final TasksService tasksService;
+    private final TaskRepository taskRepository;
+    private final ArchivedTaskRepository archivedTaskRepository;
+    private final TaskMapper taskMapper;
+    private final TaskSpecification taskSpecification;
+    private final ExecutorTasksCache executorTasksCache;
+    private final TaskTitleIndex taskTitleIndex;
+    private final TaskStatistics taskStatistics;
+    private final TaskBitmapIndex taskBitmapIndex;
+    private final TaskCache taskCache;
+    private final FindQueryCache findQueryCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int completedAfterDays;
+    private final int batchSize;
+
+
+    /**
+     * Constructor to inject dependencies.
+     *
+     * @param tasksService           service reading the tasks of the {@code tasks} table
+     * @param taskRepository         repository counting the tasks of the {@code tasks} table
+     * @param archivedTaskRepository repository moving and reading the archived tasks
+     * @param taskMapper             mapper for converting the archived tasks to DTOs
+     * @param taskSpecification      utility for building task query specifications
+     * @param executorTasksCache     cache of the task pages shown to each executor
+     * @param taskTitleIndex         in-memory index of the task titles
+     * @param taskStatistics         in-memory counters of the tasks
+     * @param taskBitmapIndex        in-memory bitmap index answering the find filters
+     * @param taskCache              bulk access to the cached tasks
+     * @param findQueryCache         cache of the results of repeated find queries
+     * @param transactionManager     transaction manager of each batch of archived tasks
+     * @param completedAfterDays     the number of days after which completed tasks are archived
+     * @param batchSize              the maximum number of tasks archived in one transaction
+     */
+    public TaskArchiveServiceImpl(TasksService tasksService, TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+                                  TaskMapper taskMapper, TaskSpecification taskSpecification, ExecutorTasksCache executorTasksCache,
+                                  TaskTitleIndex taskTitleIndex, TaskStatistics taskStatistics, TaskBitmapIndex taskBitmapIndex,
+                                  TaskCache taskCache, FindQueryCache findQueryCache, PlatformTransactionManager transactionManager,
+                                  @Value("${archive.completed-after-days:30}") int completedAfterDays,
+                                  @Value("${archive.batch-size:1000}") int batchSize) {
+        this.tasksService = tasksService;
+        this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.taskMapper = taskMapper;
+        this.taskSpecification = taskSpecification;
+        this.executorTasksCache = executorTasksCache;
+        this.taskTitleIndex = taskTitleIndex;
+        this.taskStatistics = taskStatistics;
+        this.taskBitmapIndex = taskBitmapIndex;
+        this.taskCache = taskCache;
+        this.findQueryCache = findQueryCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.completedAfterDays = completedAfterDays;
+        this.batchSize = batchSize;
+    }
+
+
+    /**
+     * Archives the tasks completed for longer than {@code archive.completed-after-days}.
+     */
+    @Scheduled(initialDelayString = "${archive.interval:3600000}", fixedDelayString = "${archive.interval:3600000}")
+    public void archiveCompletedTasks() {
+        archiveCompletedTasks(LocalDateTime.now().minusDays(completedAfterDays));
+    }
+
+    /**
+     * Moves the tasks completed before the given time, with their comments, to the archive.
+     * <p>
+     * Tasks are moved in batches of {@code archive.batch-size}, each in its own transaction, so that locks
+     * are held briefly and an interrupted run keeps the batches already moved. The in-memory indexes, counters
+     * and caches forget each moved task once its batch commits.
+     * </p>
+     *
+     * @param before the time before which the tasks must have been completed
+     * @return the number of archived tasks
+     */
+    @Override
+    public int archiveCompletedTasks(LocalDateTime before) {
+        int archived = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(before));
+            archived += moved;
+        } while (moved == batchSize);
+        if (archived > 0) {
+            log.info("Archived {} tasks completed before '{}'", archived, before);
+        }
+        return archived;
+    }
+
+    /**
+     * Retrieves a task by its title, looking in the archive if no task has the title.
+     * <p>
+     * A new task may reuse the title of archived ones, in which case the new task is returned;
+     * otherwise the last task archived with the title is.
+     * </p>
+     *
+     * @param title the title of the task to retrieve
+     * @return a {@link TaskResponseDto} representing the task details
+     * @throws ErrorInputDataException if the task is not found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TaskResponseDto showTaskByTitleIncludingArchived(String title) {
+        TaskResponseDto task = taskCache.getAllByTitle(List.of(title)).get(title);
+        if (task != null) {
+            return task;
+        }
+        return archivedTaskRepository.findFirstByTitleOrderByIdDesc(title)
+                .map(taskMapper::toArchivedTaskResponseDto)
+                .orElseThrow(() -> new ErrorInputDataException("Task with title '" + title + "' not found"));
+    }
+
+    /**
+     * Retrieves tasks assigned to a specific executor by their email, followed by the archived ones.
+     *
+     * @param executor the email of the executor
+     * @param limit    the number of tasks to return
+     * @param offset   the starting point for the result set
+     * @return a list of {@link TaskResponseDto} representing the tasks
+     * @throws ErrorInputDataException if the executor is not found
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponseDto> showTaskByExecutorEmailIncludingArchived(String executor, Integer limit, Integer offset) {
+        List<TaskResponseDto> tasks = tasksService.showTaskByExecutorEmail(executor, limit, offset);
+        return withArchived(tasks, limit, offset,
+                () -> taskRepository.count(this.<TaskEntity>withExecutorEmail(executor)),
+                withExecutorEmail(executor));
+    }
+
+    /**
+     * Retrieves tasks based on specified criteria with pagination support, followed by the archived ones.
+     * <p>
+     * Criteria no archived task can match, as they are all completed, are not looked up in the archive.
+     * </p>
+     *
+     * @param findTasksDto the DTO containing filter criteria
+     * @param limit        the number of tasks to return
+     * @param offset       the starting point for the result set
+     * @param fields       the fields to read, or {@code null} for all fields
+     * @return a list of {@link TaskResponseDto} representing the filtered tasks
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskResponseDto> showAllTasksBySpecificationIncludingArchived(FindTasksDto findTasksDto, Integer limit, Integer offset, Set<TaskField> fields) {
+        List<TaskResponseDto> tasks = tasksService.showAllTasksBySpecification(findTasksDto, limit, offset, fields);
+        boolean completed = (findTasksDto.getStatus() == null || findTasksDto.getStatus().equals(Status.COMPLETED.name()))
+                && !Status.COMPLETED.name().equals(findTasksDto.getNonStatus());
+        if (!completed) {
+            return tasks;
+        }
+        return withArchived(tasks, limit, offset,
+                () -> tasksService.countTasksBySpecification(findTasksDto).getCount(),
+                taskSpecification.build(findTasksDto));
+    }
+
+
+    /**
+     * Moves one batch of tasks to the archive and forgets them once the transaction commits.
+     *
+     * @param before the time before which the tasks must have been completed
+     * @return the number of moved tasks
+     */
+    private int archiveBatch(LocalDateTime before) {
+        List<TaskArchiveResult> tasks = archivedTaskRepository.archiveCompletedTasks(before, batchSize);
+        Set<TaskState> states = new HashSet<>();
+        Set<String> executors = new HashSet<>();
+        for (TaskArchiveResult task : tasks) {
+            taskTitleIndex.remove(task.getTitle());
+            taskStatistics.decrement(task.getStatus(), task.getPriority(), task.getExecutor());
+            taskBitmapIndex.remove(task.getId());
+            taskCache.evict(task.getTitle());
+            states.add(new TaskState(task.getStatus(), task.getPriority(), task.getExecutor(), task.getAuthor()));
+            if (task.getExecutorEmail() != null) {
+                executors.add(task.getExecutorEmail());
+            }
+        }
+        states.forEach(state -> findQueryCache.evict(state, null));
+        executors.forEach(executorTasksCache::evict);
+        return tasks.size();
+    }
+
+    /**
+     * Completes a page of tasks with the archived tasks following them.
+     * <p>
+     * The archive is only read when the page is not full. The archived tasks are ordered by identifier
+     * and numbered after all the matching tasks of the {@code tasks} table, which are counted only
+     * if the page is empty.
+     * </p>
+     *
+     * @param tasks         the page of tasks of the {@code tasks} table
+     * @param limit         the number of tasks to return
+     * @param offset        the page number
+     * @param count         counts the matching tasks of the {@code tasks} table
+     * @param specification the specification the archived tasks must match
+     * @return the page of tasks
+     */
+    private List<TaskResponseDto> withArchived(List<TaskResponseDto> tasks, Integer limit, Integer offset,
+                                               LongSupplier count, Specification<ArchivedTaskEntity> specification) {
+        if (tasks.size() >= limit) {
+            return tasks;
+        }
+        long start = (long) offset * limit;
+        long hot = tasks.isEmpty() ? count.getAsLong() : start + tasks.size();
+        List<Long> ids = archivedTaskRepository.findIds(specification, Math.max(0, start - hot), limit - tasks.size());
+        if (ids.isEmpty()) {
+            return tasks;
+        }
+
+        List<ArchivedTaskEntity> archived = new ArrayList<>(archivedTaskRepository.findByIdIn(ids));
+        archived.sort(Comparator.comparing(ArchivedTaskEntity::getId));
+        List<TaskResponseDto> page = new ArrayList<>(tasks);
+        archived.forEach(task -> page.add(taskMapper.toArchivedTaskResponseDto(task)));
+        return page;
+    }
+
+    /**
+     * Creates a {@link Specification} that filters tasks by the email of the executor.
+     *
+     * @param email the email of the task's executor.
+     * @return the specification to filter by executor.
+     */
+    private <T> Specification<T> withExecutorEmail(String email) {
+        return (root, query, cb) -> cb.equal(root.get("executor").get("email"), email);
+    }
+}
@@ -0,0 +1,238 @@
+package com.example.taskmanagersystem.service.impl;
+
+import com.example.taskmanagersystem.dto.BatchOperationDto;
+import com.example.taskmanagersystem.dto.BatchOperationResultDto;
+import com.example.taskmanagersystem.dto.BatchOperationType;
+import com.example.taskmanagersystem.dto.BatchRequestDto;
+import com.example.taskmanagersystem.dto.BatchResponseDto;
+import com.example.taskmanagersystem.exceptions.ErrorInputDataException;
+import com.example.taskmanagersystem.exceptions.ErrorPermissionException;
+import com.example.taskmanagersystem.exceptions.UnauthorizedErrorException;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.UserEntity;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.repository.UserRepository;
+import com.example.taskmanagersystem.service.TaskBatchService;
+import com.example.taskmanagersystem.service.TasksService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Implementation of the {@link TaskBatchService} interface.
+ * <p>
+ * The operations of a batch run in order through the {@link TasksService} with one persistence context,
+ * so a task or user loaded by an operation is not loaded again by the next ones. Each operation is flushed
+ * as it completes, so that a database error is reported for the operation causing it.
+ * An atomic batch runs in one transaction, stops at the first failed operation and rolls back all of them.
+ * Otherwise each operation runs in its own transaction, and a failed one is rolled back alone: the JPA
+ * transaction manager does not support savepoints with Hibernate, and a failure inside the service would
+ * mark a shared transaction as rollback-only anyway.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TaskBatchServiceImpl implements TaskBatchService {
+
+    private final TasksService tasksService;
+    private final TaskRepository taskRepository;
+    private final UserRepository userRepository;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TransactionTemplate transactionTemplate;
+
+
+    /**
+     * Constructor to inject dependencies.
+     *
+     * @param tasksService       service running each operation
+     * @param taskRepository     repository flushing the changes of each operation
+     * @param userRepository     repository for checking the roles of the user
+     * @param entityManagerFactory factory of the persistence context shared by the operations
+     * @param transactionManager   transaction manager of the batch or of its operations
+     */
+    public TaskBatchServiceImpl(TasksService tasksService, TaskRepository taskRepository, UserRepository userRepository, EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager) {
+        this.tasksService = tasksService;
+        this.taskRepository = taskRepository;
+        this.userRepository = userRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+
+    /**
+     * Runs the operations of a batch in one transaction.
+     * <p>
+     * Creating, deleting and changing the priority or the executor of a task is allowed to an administrator,
+     * changing the status of a task and commenting it is allowed as by their own endpoints.
+     * </p>
+     *
+     * @param batch the operations and whether they are all-or-nothing
+     * @param email the email of the user running the batch
+     * @return a {@link BatchResponseDto} with the result of each operation
+     * @throws UnauthorizedErrorException if the user is not found
+     */
+    @Override
+    public BatchResponseDto executeBatch(BatchRequestDto batch, String email) {
+        boolean atomic = Boolean.TRUE.equals(batch.getAtomic());
+        List<BatchOperationDto> operations = batch.getOperations();
+        List<BatchOperationResultDto> results = new ArrayList<>(operations.size());
+
+        Boolean committed = inSharedPersistenceContext(() -> {
+            UserEntity user = userRepository.findByEmail(email)
+                    .orElseThrow(() -> new UnauthorizedErrorException("User with email '" + email + "' not found"));
+            boolean admin = user.getRoles().stream()
+                    .anyMatch(role -> role.getName().equals("ADMIN"));
+            if (!atomic) {
+                return executeAll(operations, results, email, admin, false);
+            }
+            return transactionTemplate.execute(status -> {
+                boolean succeeded = executeAll(operations, results, email, admin, true);
+                if (!succeeded) {
+                    status.setRollbackOnly();
+                }
+                return succeeded;
+            });
+        });
+
+        log.info("Batch of {} operations by '{}' {}", operations.size(), email, committed ? "committed" : "rolled back");
+        return new BatchResponseDto(committed, results);
+    }
+
+
+    /**
+     * Runs the operations in order, each in its own transaction unless they share the current one.
+     *
+     * @return {@code false} if an operation failed in a shared transaction, which skips the next ones
+     */
+    private boolean executeAll(List<BatchOperationDto> operations, List<BatchOperationResultDto> results,
+                               String email, boolean admin, boolean shared) {
+        for (int i = 0; i < operations.size(); i++) {
+            BatchOperationDto operation = operations.get(i);
+            try {
+                String message = shared
+                        ? execute(operation, email, admin)
+                        : transactionTemplate.execute(status -> execute(operation, email, admin));
+                results.add(new BatchOperationResultDto(i, operation.getType(), HttpStatus.OK.value(), message));
+            } catch (RuntimeException e) {
+                log.error("Batch operation {} '{}' failed: {}", i, operation.getType(), e.getMessage());
+                results.add(new BatchOperationResultDto(i, operation.getType(), statusOf(e).value(), e.getMessage()));
+                if (shared) {
+                    for (int skipped = i + 1; skipped < operations.size(); skipped++) {
+                        results.add(new BatchOperationResultDto(skipped, operations.get(skipped).getType(), null, "Skipped"));
+                    }
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs the batch with an entity manager bound to the thread, which the transactions of the batch reuse,
+     * unless one is already bound for the current request.
+     */
+    private <T> T inSharedPersistenceContext(Supplier<T> batch) {
+        if (TransactionSynchronizationManager.hasResource(entityManagerFactory)) {
+            return batch.get();
+        }
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            return batch.get();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            EntityManagerFactoryUtils.closeEntityManager(entityManager);
+        }
+    }
+
+    /**
+     * Runs one operation and flushes its changes.
+     *
+     * @return the message of the endpoint of the operation
+     * @throws ErrorPermissionException if the operation is reserved to administrators
+     * @throws ErrorInputDataException  if a parameter of the operation is missing or invalid
+     */
+    private String execute(BatchOperationDto operation, String email, boolean admin) {
+        BatchOperationType type = BatchOperationType.valueOf(operation.getType());
+        if (type.isAdminOnly() && !admin) {
+            throw new ErrorPermissionException("You do not have permission to " + type);
+        }
+
+        String message = switch (type) {
+            case CREATE -> {
+                tasksService.createTask(required(operation.getTask(), "task", type), email);
+                yield "Task created!";
+            }
+            case DELETE -> {
+                tasksService.deleteTask(required(operation.getTitle(), "title", type));
+                yield "Task deleted!";
+            }
+            case EDIT_STATUS -> {
+                tasksService.editStatus(required(operation.getTitle(), "title", type),
+                        constant(Status.class, required(operation.getStatus(), "status", type)), email);
+                yield "Status has been changed!";
+            }
+            case EDIT_PRIORITY -> {
+                tasksService.editPriority(required(operation.getTitle(), "title", type),
+                        constant(Priority.class, required(operation.getPriority(), "priority", type)));
+                yield "Priority has been changed!";
+            }
+            case EDIT_EXECUTOR -> {
+                tasksService.editExecutor(required(operation.getTitle(), "title", type),
+                        required(operation.getExecutor(), "executor", type));
+                yield "Executor has been changed!";
+            }
+            case COMMENT -> {
+                tasksService.addComment(required(operation.getComment(), "comment", type), email);
+                yield "Comment created!";
+            }
+        };
+        taskRepository.flush();
+        return message;
+    }
+
+    private <T> T required(T value, String field, BatchOperationType type) {
+        if (value == null || value instanceof String string && string.isBlank()) {
+            throw new ErrorInputDataException("Operation " + type + " requires '" + field + "'");
+        }
+        return value;
+    }
+
+    private <E extends Enum<E>> E constant(Class<E> enumClass, String name) {
+        try {
+            return Enum.valueOf(enumClass, name);
+        } catch (IllegalArgumentException e) {
+            throw new ErrorInputDataException("'" + name + "' must be any of enum: "
+                    + String.join(", ", Arrays.stream(enumClass.getEnumConstants()).map(Enum::name).toList()));
+        }
+    }
+
+    /**
+     * Maps the failure of an operation to the status of its endpoint, as the {@code CustomExceptionHandler} does.
+     */
+    private HttpStatus statusOf(RuntimeException e) {
+        if (e instanceof ErrorInputDataException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        if (e instanceof ErrorPermissionException) {
+            return HttpStatus.FORBIDDEN;
+        }
+        if (e instanceof UnauthorizedErrorException) {
+            return HttpStatus.UNAUTHORIZED;
+        }
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+}
@@ -1,30 +1,58 @@
 package com.example.taskmanagersystem.service.impl;
 
+import com.example.taskmanagersystem.audit.AuditAction;
+import com.example.taskmanagersystem.audit.AuditLog;
+import com.example.taskmanagersystem.cache.CycleTimeHistograms;
+import com.example.taskmanagersystem.cache.ExecutorTasksCache;
+import com.example.taskmanagersystem.cache.FindQueryCache;
+import com.example.taskmanagersystem.cache.FindQueryCache.TaskState;
+import com.example.taskmanagersystem.cache.TaskBitmapIndex;
+import com.example.taskmanagersystem.cache.TaskCache;
+import com.example.taskmanagersystem.cache.TaskStatistics;
+import com.example.taskmanagersystem.cache.TaskTitleIndex;
 import com.example.taskmanagersystem.dto.CommentCreateDto;
 import com.example.taskmanagersystem.dto.CreateTaskDto;
+import com.example.taskmanagersystem.dto.CycleTimeDto;
+import com.example.taskmanagersystem.dto.FindTasksCountDto;
 import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.dto.FindTasksResponseDto;
+import com.example.taskmanagersystem.dto.TaskFacetsDto;
+import com.example.taskmanagersystem.dto.TaskField;
+import com.example.taskmanagersystem.dto.TaskLookupDto;
 import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.dto.TaskSearchResponseDto;
+import com.example.taskmanagersystem.dto.TaskStatisticsDto;
 import com.example.taskmanagersystem.exceptions.*;
 import com.example.taskmanagersystem.mapper.CommentMapper;
 import com.example.taskmanagersystem.mapper.TaskMapper;
 import com.example.taskmanagersystem.model.*;
 import com.example.taskmanagersystem.repository.CommentRepository;
+import com.example.taskmanagersystem.repository.TaskClaimResult;
+import com.example.taskmanagersystem.repository.TaskFacetCount;
+import com.example.taskmanagersystem.repository.TaskInsertResult;
 import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.repository.TaskSearchHit;
 import com.example.taskmanagersystem.repository.TaskSpecification;
+import com.example.taskmanagersystem.repository.TaskStatusHistoryRepository;
+import com.example.taskmanagersystem.repository.TaskStatusTimes;
 import com.example.taskmanagersystem.repository.UserRepository;
 import com.example.taskmanagersystem.service.TasksService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
 import java.time.LocalDate;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the {@link TasksService} interface.
@@ -40,49 +68,92 @@ public class TasksServiceImpl implements TasksService {
     private final CommentMapper commentMapper;
     private final CommentRepository commentRepository;
     private final TaskSpecification taskSpecification;
+    private final ExecutorTasksCache executorTasksCache;
+    private final TaskTitleIndex taskTitleIndex;
+    private final TaskStatistics taskStatistics;
+    private final TaskBitmapIndex taskBitmapIndex;
+    private final TaskCache taskCache;
+    private final FindQueryCache findQueryCache;
+    private final TaskStatusHistoryRepository taskStatusHistoryRepository;
+    private final CycleTimeHistograms cycleTimeHistograms;
+    private final AuditLog auditLog;
 
 
     /**
      * Constructor to inject dependencies.
      *
-     * @param userRepository     repository for managing {@link UserEntity} data
-     * @param taskRepository     repository for managing {@link TaskEntity} data
-     * @param taskMapper         mapper for converting DTOs to {@link TaskEntity}
-     * @param commentMapper      mapper for converting DTOs to {@link CommentEntity}
-     * @param commentRepository  repository for managing {@link CommentEntity} data
-     * @param taskSpecification  utility for building task query specifications
+     * @param userRepository              repository for managing {@link UserEntity} data
+     * @param taskRepository              repository for managing {@link TaskEntity} data
+     * @param taskMapper                  mapper for converting DTOs to {@link TaskEntity}
+     * @param commentMapper               mapper for converting DTOs to {@link CommentEntity}
+     * @param commentRepository           repository for managing {@link CommentEntity} data
+     * @param taskSpecification           utility for building task query specifications
+     * @param executorTasksCache          cache of the task pages shown to each executor
+     * @param taskTitleIndex              in-memory index of the task titles
+     * @param taskStatistics              in-memory counters of the tasks
+     * @param taskBitmapIndex             in-memory bitmap index answering the find filters
+     * @param taskCache                   bulk access to the cached tasks
+     * @param findQueryCache              cache of the results of repeated find queries
+     * @param taskStatusHistoryRepository repository appending the status changes to the history
+     * @param cycleTimeHistograms         in-memory histograms of the cycle and lead times
+     * @param auditLog                    append-only log of the task mutations
      */
-    public TasksServiceImpl(UserRepository userRepository, TaskRepository taskRepository, TaskMapper taskMapper, CommentMapper commentMapper, CommentRepository commentRepository, TaskSpecification taskSpecification) {
+    public TasksServiceImpl(UserRepository userRepository, TaskRepository taskRepository, TaskMapper taskMapper, CommentMapper commentMapper, CommentRepository commentRepository, TaskSpecification taskSpecification, ExecutorTasksCache executorTasksCache, TaskTitleIndex taskTitleIndex, TaskStatistics taskStatistics, TaskBitmapIndex taskBitmapIndex, TaskCache taskCache, FindQueryCache findQueryCache, TaskStatusHistoryRepository taskStatusHistoryRepository, CycleTimeHistograms cycleTimeHistograms, AuditLog auditLog) {
         this.userRepository = userRepository;
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
         this.commentMapper = commentMapper;
         this.commentRepository = commentRepository;
         this.taskSpecification = taskSpecification;
+        this.executorTasksCache = executorTasksCache;
+        this.taskTitleIndex = taskTitleIndex;
+        this.taskStatistics = taskStatistics;
+        this.taskBitmapIndex = taskBitmapIndex;
+        this.taskCache = taskCache;
+        this.findQueryCache = findQueryCache;
+        this.taskStatusHistoryRepository = taskStatusHistoryRepository;
+        this.cycleTimeHistograms = cycleTimeHistograms;
+        this.auditLog = auditLog;
     }
 
 
     /**
      * Creates a new task.
+     * <p>
+     * The author and the executor are resolved and the task is inserted in a single statement.
+     * </p>
      *
      * @param createTaskDto the DTO containing task details
      * @param email         the email of the user creating the task
-     * @throws ErrorInputDataException if a task with the same title already exists
+     * @throws ErrorInputDataException if a task with the same title already exists or the executor is not found
+     * @throws UnauthorizedErrorException if the author is not found
      */
     @Override
     @Transactional
     public void createTask(CreateTaskDto createTaskDto, String email) {
-        if(taskRepository.existsByTitle(createTaskDto.getTitle())){
+        TaskInsertResult result = taskRepository.insertTask(createTaskDto.getTitle(), createTaskDto.getDescription(),
+                createTaskDto.getStatus(), createTaskDto.getPriority(), email, createTaskDto.getExecutor(), LocalDateTime.now());
+
+        if (result.getAuthorId() == null) {
+            throw new UnauthorizedErrorException("User with email '" + email + "' not found");
+        }
+        if (result.getExecutorId() == null) {
+            throw new ErrorInputDataException("User with username '" + createTaskDto.getExecutor() + "' not found");
+        }
+        if (result.getTaskId() == null) {
             log.error("Task '{}' already exist", createTaskDto.getTitle());
             throw new ErrorInputDataException("Task "+ createTaskDto.getTitle() +" already exist");
         }
 
-
-        TaskEntity task = taskMapper.toTaskEntity(createTaskDto);
-        task.setExecutor(findUserByUsername(createTaskDto.getExecutor()));
-        task.setAuthor(findUserByEmail(email));
-
-        taskRepository.save(task);
+        executorTasksCache.evict(result.getExecutorEmail());
+        taskTitleIndex.add(createTaskDto.getTitle());
+        Status status = Status.valueOf(createTaskDto.getStatus());
+        Priority priority = Priority.valueOf(createTaskDto.getPriority());
+        taskStatistics.increment(status, priority, createTaskDto.getExecutor());
+        taskBitmapIndex.put(result.getTaskId(), createTaskDto.getTitle(), status, priority, createTaskDto.getExecutor(), result.getAuthorUsername());
+        findQueryCache.evict(null, new TaskState(status, priority, createTaskDto.getExecutor(), result.getAuthorUsername()));
+        auditLog.publish(AuditAction.CREATE, email, createTaskDto.getTitle(),
+                status + " " + priority + " " + createTaskDto.getExecutor());
         log.info("Success create Task '{}'", createTaskDto.getTitle() );
     }
 
@@ -98,11 +169,21 @@ public class TasksServiceImpl implements TasksService {
         TaskEntity task = findTaskByTitle(title);
 
         taskRepository.delete(task);
+        executorTasksCache.evict(task.getExecutor());
+        taskTitleIndex.remove(title);
+        taskStatistics.decrement(task);
+        taskBitmapIndex.remove(task.getId());
+        findQueryCache.evict(TaskState.of(task), null);
+        auditLog.publish(AuditAction.DELETE, null, title, null);
         log.info("Success delete Task '{}'", title);
     }
 
     /**
      * Updates the status of a task.
+     * <p>
+     * The time the task is completed is kept, to archive it once it has been completed for long.
+     * A change is appended to the status history, and a completion is recorded in the cycle time histograms.
+     * </p>
      *
      * @param title     the title of the task
      * @param newStatus the new status to set
@@ -111,10 +192,25 @@ public class TasksServiceImpl implements TasksService {
      */
     @Transactional
     @Override
-    @CachePut(value = "tasks", key = "#title")
+    @CacheEvict(value = "tasks", key = "#title")
     public void editStatus(String title, Status newStatus, String email){
         TaskEntity task = getTaskIfUserHasPermission(title, email);
+        TaskState before = TaskState.of(task);
+        if (newStatus != before.status()) {
+            recordStatusChange(task, newStatus);
+        }
+        taskStatistics.decrement(task);
         task.setStatus(newStatus);
+        if (newStatus != Status.COMPLETED) {
+            task.setCompletedAt(null);
+        } else if (task.getCompletedAt() == null) {
+            task.setCompletedAt(LocalDateTime.now());
+        }
+        taskStatistics.increment(task);
+        taskBitmapIndex.put(task);
+        findQueryCache.evict(before, TaskState.of(task));
+        executorTasksCache.evict(task.getExecutor());
+        auditLog.publish(AuditAction.EDIT_STATUS, email, title, before.status() + ">" + newStatus);
         log.info("Task '{}' status updated to '{}' by '{}'", title, newStatus, email);
     }
 
@@ -126,10 +222,17 @@ public class TasksServiceImpl implements TasksService {
      */
     @Transactional
     @Override
-    @CachePut(value = "tasks", key = "#title")
+    @CacheEvict(value = "tasks", key = "#title")
     public void editPriority(String title, Priority newPriority){
         TaskEntity task = findTaskByTitle(title);
+        TaskState before = TaskState.of(task);
+        taskStatistics.decrement(task);
         task.setPriority(newPriority);
+        taskStatistics.increment(task);
+        taskBitmapIndex.put(task);
+        findQueryCache.evict(before, TaskState.of(task));
+        executorTasksCache.evict(task.getExecutor());
+        auditLog.publish(AuditAction.EDIT_PRIORITY, null, title, before.priority() + ">" + newPriority);
         log.info("Task '{}' priority updated to '{}'", title, newPriority);
     }
 
@@ -141,11 +244,19 @@ public class TasksServiceImpl implements TasksService {
      */
     @Transactional
     @Override
-    @CachePut(value = "tasks", key = "#title")
+    @CacheEvict(value = "tasks", key = "#title")
     public void editExecutor(String title, String newExecutor){
         TaskEntity task = findTaskByTitle(title);
         UserEntity user = findUserByUsername(newExecutor);
+        executorTasksCache.evict(task.getExecutor());
+        TaskState before = TaskState.of(task);
+        taskStatistics.decrement(task);
         task.setExecutor(user);
+        taskStatistics.increment(task);
+        taskBitmapIndex.put(task);
+        findQueryCache.evict(before, TaskState.of(task));
+        executorTasksCache.evict(user);
+        auditLog.publish(AuditAction.EDIT_EXECUTOR, null, title, before.executor() + ">" + newExecutor);
         log.info("Task '{}' executor changed to '{}'", title, newExecutor);
     }
 
@@ -158,7 +269,7 @@ public class TasksServiceImpl implements TasksService {
      */
     @Transactional
     @Override
-    @CachePut(value = "tasks", key = "#newComment.taskTitle")
+    @CacheEvict(value = "tasks", key = "#newComment.taskTitle")
     public void addComment(CommentCreateDto newComment, String email) throws ErrorPermissionException{
         TaskEntity task = getTaskIfUserHasPermission(newComment.getTaskTitle(), email);
 
@@ -168,42 +279,109 @@ public class TasksServiceImpl implements TasksService {
         commentRepository.save(comment);
 
         task.getComments().add(comment);
+        executorTasksCache.evict(task.getExecutor());
+        findQueryCache.evictCommentCounts(TaskState.of(task));
+        auditLog.publish(AuditAction.COMMENT, email, newComment.getTaskTitle(), newComment.getText());
 
         log.info("Success create comment to task '{}'", newComment.getTaskTitle() );
     }
 
+    /**
+     * Claims the highest-priority pending task, unassigned or assigned to the user, and sets it in progress.
+     * <p>
+     * The task is selected, locked and updated in a single statement, so concurrent claims get different tasks
+     * without conflicts or retries.
+     * </p>
+     *
+     * @param email the email of the claiming executor
+     * @return an {@link Optional} containing the claimed task, or an empty {@link Optional} if there is none
+     * @throws UnauthorizedErrorException if the user is not found
+     */
+    @Transactional
+    @Override
+    public Optional<TaskResponseDto> claimNextTask(String email) {
+        UserEntity user = findUserByEmail(email);
+        TaskClaimResult claim = taskRepository.claimNextTask(user.getId(), LocalDateTime.now());
+        if (claim == null) {
+            log.info("No task to claim for '{}'", email);
+            return Optional.empty();
+        }
+
+        TaskEntity task = taskRepository.findWithDetailsById(claim.getId()).orElseThrow();
+        TaskState after = TaskState.of(task);
+        TaskState before = new TaskState(Status.PENDING, after.priority(),
+                claim.getPreviousExecutorId() == null ? null : after.executor(), after.author());
+        taskStatistics.decrement(before.status(), before.priority(), before.executor());
+        taskStatistics.increment(task);
+        taskBitmapIndex.put(task);
+        findQueryCache.evict(before, after);
+        executorTasksCache.evict(user);
+        taskCache.evict(task.getTitle());
+        auditLog.publish(AuditAction.CLAIM, email, task.getTitle(), before.status() + ">" + after.status());
+        log.info("Task '{}' claimed by '{}'", task.getTitle(), email);
+        return Optional.of(taskMapper.toTaskResponseDto(task));
+    }
+
     /**
      * Retrieves a task by its title.
+     * <p>
+     * Concurrent cache misses for the same title are coalesced into a single load.
+     * </p>
      *
      * @param title the title of the task to retrieve
      * @return a {@link TaskResponseDto} representing the task details
      * @throws ErrorInputDataException if the task is not found
      */
     @Override
-    @Cacheable(value = "tasks", key = "#title")
+    @Cacheable(value = "tasks", key = "#title", sync = true)
     public TaskResponseDto showTaskByTitle(String title) {
         TaskEntity task = findTaskByTitle(title);
         return taskMapper.toTaskResponseDto(task);
     }
 
+    /**
+     * Retrieves many tasks by their titles.
+     * <p>
+     * The tasks are read from the task cache in bulk; the missing ones are loaded together with their users
+     * and comments, with one query per chunk of titles.
+     * </p>
+     *
+     * @param titles the titles of the tasks to retrieve
+     * @return a {@link TaskLookupDto} for each title, in the order of the titles, marking the tasks not found
+     */
+    @Override
+    public List<TaskLookupDto> showTasksByTitles(List<String> titles) {
+        Map<String, TaskResponseDto> tasks = taskCache.getAllByTitle(titles);
+        return titles.stream()
+                .map(title -> new TaskLookupDto(title, tasks.containsKey(title), tasks.get(title)))
+                .toList();
+    }
+
     /**
      * Retrieves tasks assigned to a specific executor by their username.
      *
      * @param executor the username of the executor
      * @param limit    the number of tasks to return
      * @param offset   the starting point for the result set
+     * @param fields   the fields to read, or {@code null} for all fields
      * @return a list of {@link TaskResponseDto} representing the tasks
      * @throws ErrorInputDataException if the executor is not found
      */
     @Override
-    public List<TaskResponseDto> showTaskByExecutorUsername(String executor, Integer limit, Integer offset) {
+    public List<TaskResponseDto> showTaskByExecutorUsername(String executor, Integer limit, Integer offset, Set<TaskField> fields) {
         UserEntity executorUser = findUserByUsername(executor);
+        if (fields != null) {
+            return taskRepository.findFields((root, query, cb) -> cb.equal(root.get("executor"), executorUser), fields, PageRequest.of(offset, limit));
+        }
         Page<TaskEntity> tasks = taskRepository.findByExecutor(executorUser, PageRequest.of(offset, limit));
         return taskMapper.toTaskResponseDtoList(tasks.getContent());
     }
 
     /**
      * Retrieves tasks assigned to a specific executor by their email.
+     * <p>
+     * Pages are served from the executor's cache entry, which every mutation of the executor's tasks evicts.
+     * </p>
      *
      * @param executor the email of the executor
      * @param limit    the number of tasks to return
@@ -213,37 +391,225 @@ public class TasksServiceImpl implements TasksService {
      */
     @Override
     public List<TaskResponseDto> showTaskByExecutorEmail(String executor, Integer limit, Integer offset) {
-        UserEntity executorUser = findUserByEmail(executor);
-        Page<TaskEntity> tasks = taskRepository.findByExecutor(executorUser, PageRequest.of(offset, limit));
-        return taskMapper.toTaskResponseDtoList(tasks.getContent());
+        return executorTasksCache.get(executor, limit, offset, () -> {
+            UserEntity executorUser = findUserByEmail(executor);
+            Page<TaskEntity> tasks = taskRepository.findByExecutor(executorUser, PageRequest.of(offset, limit));
+            return taskMapper.toTaskResponseDtoList(tasks.getContent());
+        });
     }
 
     /**
      * Retrieves all tasks with pagination support.
+     * <p>
+     * When only some fields are requested, only their columns are read.
+     * </p>
      *
      * @param limit  the number of tasks to return
      * @param offset the starting point for the result set
+     * @param fields the fields to read, or {@code null} for all fields
      * @return a list of {@link TaskResponseDto} representing the tasks
      */
     @Override
-    public List<TaskResponseDto> showAllTasks(Integer limit, Integer offset) {
+    public List<TaskResponseDto> showAllTasks(Integer limit, Integer offset, Set<TaskField> fields) {
+        if (fields != null) {
+            return taskRepository.findFields(null, fields, PageRequest.of(offset, limit));
+        }
         Page<TaskEntity> tasks = taskRepository.findAll(PageRequest.of(offset, limit));
         return taskMapper.toTaskResponseDtoList(tasks.getContent());
     }
 
     /**
      * Retrieves tasks based on specified criteria with pagination support.
+     * <p>
+     * Filters on status, priority, author and executor are answered by the {@link TaskBitmapIndex}, in identifier
+     * order, and the tasks are read through the task cache. Other filters run as an SQL query, also in identifier
+     * order, reading only the columns of the requested fields. The titles found for each filter and page are kept in the {@link FindQueryCache} until a mutation
+     * changes which tasks match.
+     * </p>
      *
      * @param findTasksDto the DTO containing filter criteria
      * @param limit        the number of tasks to return
      * @param offset       the starting point for the result set
+     * @param fields       the fields to read, or {@code null} for all fields
      * @return a list of {@link TaskResponseDto} representing the filtered tasks
      */
     @Override
-    public List<TaskResponseDto> showAllTasksBySpecification(FindTasksDto findTasksDto, Integer limit, Integer offset) {
+    public List<TaskResponseDto> showAllTasksBySpecification(FindTasksDto findTasksDto, Integer limit, Integer offset, Set<TaskField> fields) {
+        return findQueryCache.get(findTasksDto, limit, offset, () -> {
+            Optional<List<String>> titles = taskBitmapIndex.findTitles(findTasksDto, limit, offset);
+            if (titles.isPresent()) {
+                return taskCache.getAll(titles.get());
+            }
+
+            if (fields != null) {
+                return taskRepository.findFields(taskSpecification.build(findTasksDto), fields, PageRequest.of(offset, limit, Sort.by("id")));
+            }
+            Page<TaskEntity> tasks = taskRepository.findAll(taskSpecification.build(findTasksDto), PageRequest.of(offset, limit, Sort.by("id")));
+            return taskMapper.toTaskResponseDtoList(tasks.getContent());
+        });
+    }
 
-        Page<TaskEntity> tasks = taskRepository.findAll(taskSpecification.build(findTasksDto), PageRequest.of(offset, limit));
-        return taskMapper.toTaskResponseDtoList(tasks.getContent());
+    /**
+     * Retrieves tasks based on specified criteria together with the number of all matching tasks by each facet.
+     * <p>
+     * The facets are counted for the same criteria in one query grouped by each facet separately, so the rows
+     * read are the sum of the facet sizes rather than their product. Only the executors and the authors
+     * with the most matching tasks are returned.
+     * </p>
+     *
+     * @param findTasksDto the DTO containing filter criteria
+     * @param limit        the number of tasks to return
+     * @param offset       the starting point for the result set
+     * @param facetLimit   the maximum number of executors and of authors to count
+     * @param fields       the fields of the tasks to read, or {@code null} for all fields
+     * @return a {@link FindTasksResponseDto} with the filtered tasks and the facet counts
+     */
+    @Override
+    public FindTasksResponseDto showAllTasksBySpecificationWithFacets(FindTasksDto findTasksDto, Integer limit, Integer offset, Integer facetLimit, Set<TaskField> fields) {
+        List<TaskResponseDto> tasks = showAllTasksBySpecification(findTasksDto, limit, offset, fields);
+
+        long total = 0;
+        Map<Status, Long> status = new EnumMap<>(Status.class);
+        Map<Priority, Long> priority = new EnumMap<>(Priority.class);
+        Arrays.stream(Status.values()).forEach(value -> status.put(value, 0L));
+        Arrays.stream(Priority.values()).forEach(value -> priority.put(value, 0L));
+        Map<String, Long> executor = new HashMap<>();
+        Map<String, Long> author = new HashMap<>();
+        for (TaskFacetCount count : taskRepository.countFacets(taskSpecification.build(findTasksDto))) {
+            if (count.getStatus() != null) {
+                total += count.getCount();
+                status.put(count.getStatus(), count.getCount());
+            } else if (count.getPriority() != null) {
+                priority.put(count.getPriority(), count.getCount());
+            } else if (count.getExecutor() != null) {
+                executor.put(count.getExecutor(), count.getCount());
+            } else if (count.getAuthor() != null) {
+                author.put(count.getAuthor(), count.getCount());
+            }
+        }
+        return new FindTasksResponseDto(tasks,
+                new TaskFacetsDto(total, status, priority, mostFrequent(executor, facetLimit), mostFrequent(author, facetLimit)));
+    }
+
+    /**
+     * Counts the tasks matching the specified criteria without reading them.
+     * <p>
+     * Filters on status, priority, author and executor are counted by the {@link TaskBitmapIndex},
+     * other filters by a {@code count} query. The count is kept in the {@link FindQueryCache}.
+     * </p>
+     *
+     * @param findTasksDto the DTO containing filter criteria
+     * @return a {@link FindTasksCountDto} with the number of matching tasks
+     */
+    @Override
+    public FindTasksCountDto countTasksBySpecification(FindTasksDto findTasksDto) {
+        Long count = findQueryCache.count(findTasksDto, () -> {
+            OptionalLong indexed = taskBitmapIndex.count(findTasksDto);
+            return indexed.isPresent() ? indexed.getAsLong() : taskRepository.count(taskSpecification.build(findTasksDto));
+        });
+        return new FindTasksCountDto(count, count > 0);
+    }
+
+    /**
+     * Checks whether any task matches the specified criteria without reading the tasks.
+     * <p>
+     * Filters on status, priority, author and executor are checked by the {@link TaskBitmapIndex},
+     * other filters by a query stopping at the first matching row. The answer is kept in the {@link FindQueryCache}.
+     * </p>
+     *
+     * @param findTasksDto the DTO containing filter criteria
+     * @return a {@link FindTasksCountDto} telling whether a task matches
+     */
+    @Override
+    public FindTasksCountDto existsTasksBySpecification(FindTasksDto findTasksDto) {
+        Boolean exists = findQueryCache.exists(findTasksDto, () -> {
+            OptionalLong indexed = taskBitmapIndex.count(findTasksDto);
+            return indexed.isPresent() ? indexed.getAsLong() > 0 : taskRepository.exists(taskSpecification.build(findTasksDto));
+        });
+        return new FindTasksCountDto(null, exists);
+    }
+
+    /**
+     * Retrieves the number of tasks by status, priority and executor.
+     * <p>
+     * The counts are served from the in-memory {@link TaskStatistics} without reading the tasks.
+     * </p>
+     *
+     * @return a {@link TaskStatisticsDto} with the task counts
+     */
+    @Override
+    public TaskStatisticsDto showStatistics() {
+        return taskStatistics.get();
+    }
+
+    /**
+     * Retrieves the percentiles of the cycle and lead times of the completed tasks by executor and priority.
+     * <p>
+     * The percentiles are served from the in-memory {@link CycleTimeHistograms} without reading the history.
+     * </p>
+     *
+     * @return a list of {@link CycleTimeDto}, ordered by executor then priority
+     */
+    @Override
+    public List<CycleTimeDto> showCycleTimes() {
+        return cycleTimeHistograms.get();
+    }
+
+    /**
+     * Suggests the titles of tasks starting with the prefix.
+     * <p>
+     * Titles are served from the in-memory {@link TaskTitleIndex}, matched ignoring case, in alphabetical order.
+     * </p>
+     *
+     * @param prefix the beginning of the title
+     * @param limit  the maximum number of titles to return
+     * @return a list of the matching titles
+     */
+    @Override
+    public List<String> suggestTitles(String prefix, Integer limit) {
+        return taskTitleIndex.suggest(prefix, limit);
+    }
+
+    /**
+     * Searches tasks by the words of their title, description and comments.
+     * <p>
+     * Words are matched after stemming, and a word ending with {@code *} matches every word it prefixes.
+     * Tasks are ordered from the most relevant; the next page starts after the cursor of the previous one.
+     * The found tasks are loaded with their users and comments in a single query.
+     * </p>
+     *
+     * @param query the words to search for
+     * @param limit the number of tasks to return
+     * @param after the cursor returned with the previous page, or {@code null} for the first page
+     * @return a {@link TaskSearchResponseDto} with the found tasks and the cursor of the next page
+     * @throws ErrorInputDataException if the query has no words or the cursor is invalid
+     */
+    @Override
+    public TaskSearchResponseDto searchTasks(String query, Integer limit, String after) {
+        String tsQuery = toTsQuery(query);
+        List<TaskSearchHit> hits;
+        if (after == null) {
+            hits = taskRepository.search(tsQuery, limit);
+        } else {
+            String[] cursor = decodeCursor(after);
+            hits = taskRepository.searchAfter(tsQuery, Float.valueOf(cursor[0]), Long.valueOf(cursor[1]), limit);
+        }
+
+        Map<Long, TaskEntity> tasks = taskRepository.findWithDetailsByIdIn(hits.stream().map(TaskSearchHit::getId).toList()).stream()
+                .collect(Collectors.toMap(TaskEntity::getId, Function.identity()));
+        List<TaskResponseDto> found = hits.stream()
+                .map(hit -> tasks.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .map(taskMapper::toTaskResponseDto)
+                .toList();
+
+        String next = null;
+        if (hits.size() == limit) {
+            TaskSearchHit last = hits.get(hits.size() - 1);
+            next = Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((last.getScore() + ":" + last.getId()).getBytes(StandardCharsets.UTF_8));
+        }
+        return new TaskSearchResponseDto(found, next);
     }
 
 
@@ -271,6 +637,25 @@ public class TasksServiceImpl implements TasksService {
 
 
 
+    /**
+     * Appends a change of the status of a task to the history, recording the cycle and lead times of a completion.
+     *
+     * @param task      the task, still in its previous status
+     * @param newStatus the new status of the task
+     */
+    private void recordStatusChange(TaskEntity task, Status newStatus) {
+        LocalDateTime now = LocalDateTime.now();
+        UserEntity executor = task.getExecutor();
+        if (newStatus == Status.COMPLETED) {
+            TaskStatusTimes times = taskStatusHistoryRepository.findTimes(task.getId());
+            cycleTimeHistograms.recordAfterCommit(executor == null ? null : executor.getUsername(), task.getPriority(),
+                    times.createdAt(), times.startedAt(), now);
+        }
+        taskStatusHistoryRepository.append(new TaskStatusHistoryEntity(null, task.getId(), task.getStatus(), newStatus,
+                task.getPriority(), executor == null ? null : executor.getId(), now));
+    }
+
+
     /**
      * Retrieves a user by their email.
      *
@@ -309,4 +694,58 @@ public class TasksServiceImpl implements TasksService {
         return taskRepository.findByTitle(title)
                 .orElseThrow(() -> new ErrorInputDataException("Task with title '" + title + "' not found"));
     }
+
+
+    /**
+     * Keeps the facet values with the most tasks.
+     *
+     * @param counts the number of tasks of each value
+     * @param limit  the maximum number of values to keep
+     * @return the counts of the kept values, from the most frequent
+     */
+    private Map<String, Long> mostFrequent(Map<String, Long> counts, Integer limit) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, Long::sum, LinkedHashMap::new));
+    }
+
+    /**
+     * Converts search words to a {@code to_tsquery} query matching all of them.
+     *
+     * @param query the words to search for, a trailing {@code *} marking a prefix
+     * @return the query in {@code to_tsquery} syntax
+     * @throws ErrorInputDataException if the query has no words
+     */
+    private String toTsQuery(String query) {
+        StringJoiner tsQuery = new StringJoiner(" & ");
+        for (String word : query.trim().split("\\s+")) {
+            String term = word.replaceAll("[^\\p{L}\\p{N}]", "");
+            if (!term.isEmpty()) {
+                tsQuery.add(word.endsWith("*") ? term + ":*" : term);
+            }
+        }
+        if (tsQuery.length() == 0) {
+            throw new ErrorInputDataException("Search query '" + query + "' contains no words");
+        }
+        return tsQuery.toString();
+    }
+
+    /**
+     * Decodes a search cursor into the score and the id of the last task of a page.
+     *
+     * @param after the cursor
+     * @return the score and the id
+     * @throws ErrorInputDataException if the cursor is invalid
+     */
+    private String[] decodeCursor(String after) {
+        try {
+            String[] cursor = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8).split(":");
+            Float.parseFloat(cursor[0]);
+            Long.parseLong(cursor[1]);
+            return cursor;
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new ErrorInputDataException("Invalid search cursor '" + after + "'");
+        }
+    }
 }
@@ -0,0 +1 @@
+alter table tasks add constraint tasks_title_key unique (title);
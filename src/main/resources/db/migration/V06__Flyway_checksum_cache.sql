@@ -0,0 +1,4 @@
+create table flyway_checksum_cache (
+    checksum varchar(64) not null,
+    primary key (checksum)
+);
@@ -0,0 +1,61 @@
+alter table tasks add column search_vector tsvector;
+
+create index tasks_comments_task_entity_id_idx on tasks_comments (task_entity_id);
+
+-- Title, description and comments of the task, weighted in that order.
+create function task_search_vector(task tasks) returns tsvector as $$
+    select setweight(to_tsvector('english', task.title), 'A')
+        || setweight(to_tsvector('english', task.description), 'B')
+        || setweight(to_tsvector('english', coalesce(
+               (select string_agg(c.text, ' ')
+                from tasks_comments tc join comments c on c.id = tc.comments_id
+                where tc.task_entity_id = task.id), '')), 'C');
+$$ language sql stable;
+
+create function tasks_search_vector_trigger() returns trigger as $$
+begin
+    new.search_vector := task_search_vector(new);
+    return new;
+end
+$$ language plpgsql;
+
+create trigger tasks_search_vector
+    before insert or update of title, description on tasks
+    for each row execute function tasks_search_vector_trigger();
+
+-- Added comments are appended to the vector, once per statement and task.
+create function tasks_comments_added_trigger() returns trigger as $$
+begin
+    update tasks t
+    set search_vector = t.search_vector || added.vector
+    from (select a.task_entity_id, setweight(to_tsvector('english', string_agg(c.text, ' ')), 'C') as vector
+          from added a join comments c on c.id = a.comments_id
+          group by a.task_entity_id) added
+    where t.id = added.task_entity_id;
+    return null;
+end
+$$ language plpgsql;
+
+create trigger tasks_comments_added
+    after insert on tasks_comments
+    referencing new table as added
+    for each statement execute function tasks_comments_added_trigger();
+
+-- Removed comments cannot be subtracted from the vector, so it is rebuilt, once per statement and task.
+create function tasks_comments_removed_trigger() returns trigger as $$
+begin
+    update tasks t
+    set search_vector = task_search_vector(t)
+    where t.id in (select task_entity_id from removed);
+    return null;
+end
+$$ language plpgsql;
+
+create trigger tasks_comments_removed
+    after delete on tasks_comments
+    referencing old table as removed
+    for each statement execute function tasks_comments_removed_trigger();
+
+update tasks t set search_vector = task_search_vector(t);
+
+create index tasks_search_vector_idx on tasks using gin (search_vector);
@@ -0,0 +1,5 @@
+-- Cover the columns of the find filters and of the joins to their users, so that counting
+-- and checking for matching tasks can be answered by index-only scans.
+create index tasks_status_priority_idx on tasks (status, priority) include (executor_id, author_id, id);
+create index tasks_executor_id_idx on tasks (executor_id) include (status, priority, author_id, id);
+create index tasks_author_id_idx on tasks (author_id) include (status, priority, executor_id, id);
@@ -0,0 +1,4 @@
+-- Order the pending tasks as claims take them, by priority then age, so that a claim
+-- reads the first unlocked entries of the index instead of sorting all pending tasks.
+create index tasks_claim_idx on tasks ((case priority when 'HIGH' then 0 when 'MEDIUM' then 1 else 2 end), id)
+    where status = 'PENDING';
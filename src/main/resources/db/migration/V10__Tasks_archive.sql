@@ -0,0 +1,35 @@
+-- When a task was completed, so that tasks completed long ago can be moved out of the hot table.
+alter table tasks add column completed_at timestamp;
+
+update tasks set completed_at = now() where status = 'COMPLETED';
+
+create index tasks_completed_at_idx on tasks (completed_at) where status = 'COMPLETED';
+
+-- Archived tasks and their comments keep their identifiers. Titles are not unique,
+-- as a new task may reuse the title of an archived one.
+create table tasks_archive (
+    id bigint not null,
+    description varchar(255) not null,
+    priority varchar(255) not null check (priority in ('LOW','MEDIUM','HIGH')),
+    status varchar(255) not null check (status in ('PENDING','IN_PROGRESS','COMPLETED')),
+    title varchar(255) not null,
+    author_id bigint,
+    executor_id bigint,
+    completed_at timestamp not null,
+    archived_at timestamp not null default now(),
+    primary key (id)
+);
+
+create index tasks_archive_title_idx on tasks_archive (title);
+create index tasks_archive_executor_id_idx on tasks_archive (executor_id);
+
+create table comments_archive (
+    id bigint not null,
+    task_id bigint not null,
+    date date not null,
+    text varchar(255) not null,
+    author_id bigint,
+    primary key (id)
+);
+
+create index comments_archive_task_id_idx on comments_archive (task_id);
@@ -0,0 +1,15 @@
+-- Append-only log of the status changes of the tasks, kept when tasks are archived or deleted,
+-- from which the cycle and lead times of the completed tasks are measured.
+create table task_status_history (
+    id bigint generated by default as identity,
+    task_id bigint not null,
+    from_status varchar(255) check (from_status in ('PENDING','IN_PROGRESS','COMPLETED')),
+    to_status varchar(255) not null check (to_status in ('PENDING','IN_PROGRESS','COMPLETED')),
+    priority varchar(255) not null check (priority in ('LOW','MEDIUM','HIGH')),
+    executor_id bigint,
+    changed_at timestamp not null default localtimestamp,
+    primary key (id)
+);
+
+create index task_status_history_task_id_idx on task_status_history (task_id, changed_at);
+create index task_status_history_completed_idx on task_status_history (id) where to_status = 'COMPLETED';
@@ -0,0 +1,12 @@
+-- Hibernate updates every column of a task, so the vector is only rebuilt when the title or description changed.
+drop trigger tasks_search_vector on tasks;
+
+create trigger tasks_search_vector_insert
+    before insert on tasks
+    for each row execute function tasks_search_vector_trigger();
+
+create trigger tasks_search_vector_update
+    before update of title, description on tasks
+    for each row
+    when (old.title is distinct from new.title or old.description is distinct from new.description)
+    execute function tasks_search_vector_trigger();
@@ -0,0 +1,186 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.audit.AuditAction;
+import com.example.taskmanagersystem.audit.AuditLog;
+import com.example.taskmanagersystem.audit.AuditLogReader;
+import com.example.taskmanagersystem.audit.AuditRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+public class AuditLogTest {
+
+    private static final int SEGMENT_SIZE = 4096;
+    private static final int MAX_SEGMENTS = 16;
+    private static final int HEADER = 8;
+    private static final int FRAME = 8;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void recordsAreReplayedAcrossSegmentsAndRestartsTest() throws Exception {
+        //given
+        AuditLog auditLog = open();
+        for (int i = 0; i < 200; i++) {
+            auditLog.publishNow(AuditAction.EDIT_STATUS, "User1@gmail.com", "task" + i, "PENDING>IN_PROGRESS");
+        }
+        auditLog.publishNow(AuditAction.DELETE, "User1@gmail.com", "задача", null);
+        auditLog.shutdown();
+
+        //when
+        AuditLog restarted = open();
+        restarted.publishNow(AuditAction.CREATE, "User2@gmail.com", "task after restart", "PENDING LOW User2");
+        restarted.shutdown();
+        List<AuditRecord> records = replay();
+
+        //then
+        Assertions.assertTrue(AuditLogReader.segments(directory).size() > 2);
+        Assertions.assertEquals(202, records.size());
+        for (int i = 0; i < records.size(); i++) {
+            Assertions.assertEquals(i, records.get(i).sequence());
+        }
+        Assertions.assertEquals("task7", records.get(7).title());
+        Assertions.assertEquals("PENDING>IN_PROGRESS", records.get(7).detail());
+        Assertions.assertEquals("задача", records.get(200).title());
+        Assertions.assertNull(records.get(200).detail());
+        Assertions.assertEquals(AuditAction.CREATE, records.get(201).action());
+        Assertions.assertEquals("User2@gmail.com", records.get(201).actor());
+    }
+
+    @Test
+    void corruptedRecordEndsItsSegmentTest() throws Exception {
+        //given
+        AuditLog auditLog = open();
+        for (int i = 0; i < 3; i++) {
+            auditLog.publishNow(AuditAction.COMMENT, "User1@gmail.com", "task1", "comment " + i);
+        }
+        auditLog.shutdown();
+
+        //when
+        corruptSecondRecord(AuditLogReader.segments(directory).get(0));
+        List<AuditRecord> records = replay();
+
+        //then
+        Assertions.assertEquals(List.of("comment 0"), records.stream().map(AuditRecord::detail).toList());
+    }
+
+    @Test
+    void restartsAppendToTheLastSegmentTest() throws Exception {
+        //given
+        int restarts = 5;
+
+        //when
+        for (int i = 0; i < restarts; i++) {
+            AuditLog auditLog = open(2);
+            auditLog.publishNow(AuditAction.CREATE, "User1@gmail.com", "task" + i, "PENDING LOW User1");
+            auditLog.shutdown();
+        }
+        List<AuditRecord> records = replay();
+
+        //then
+        Assertions.assertEquals(1, AuditLogReader.segments(directory).size());
+        Assertions.assertEquals(List.of("task0", "task1", "task2", "task3", "task4"),
+                records.stream().map(AuditRecord::title).toList());
+        for (int i = 0; i < records.size(); i++) {
+            Assertions.assertEquals(i, records.get(i).sequence());
+        }
+    }
+
+    @Test
+    void concurrentWritersReopenTheNewestUnlockedSegmentsTest() throws Exception {
+        //given
+        AuditLog first = open();
+        AuditLog second = open();
+        first.shutdown();
+        second.shutdown();
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            first = open();
+            second = open();
+            first.publishNow(AuditAction.CREATE, "User1@gmail.com", "first" + i, null);
+            second.publishNow(AuditAction.CREATE, "User2@gmail.com", "second" + i, null);
+            first.shutdown();
+            second.shutdown();
+        }
+        List<AuditRecord> records = replay();
+
+        //then
+        Assertions.assertEquals(2, AuditLogReader.segments(directory).size());
+        Assertions.assertEquals(6, records.size());
+    }
+
+    @Test
+    void restartAppendsOverTornTailTest() throws Exception {
+        //given
+        AuditLog auditLog = open();
+        for (int i = 0; i < 3; i++) {
+            auditLog.publishNow(AuditAction.COMMENT, "User1@gmail.com", "task1", "comment " + i);
+        }
+        auditLog.shutdown();
+        corruptSecondRecord(AuditLogReader.segments(directory).get(0));
+
+        //when
+        AuditLog restarted = open();
+        restarted.publishNow(AuditAction.COMMENT, "User2@gmail.com", "task1", "x");
+        restarted.shutdown();
+        List<AuditRecord> records = replay();
+
+        //then
+        Assertions.assertEquals(1, AuditLogReader.segments(directory).size());
+        Assertions.assertEquals(List.of("comment 0", "x"), records.stream().map(AuditRecord::detail).toList());
+        Assertions.assertEquals(1, records.get(1).sequence());
+    }
+
+    @Test
+    void oldestSegmentsAreDeletedBeyondRetentionTest() throws Exception {
+        //given
+        AuditLog auditLog = open(2);
+
+        //when
+        for (int i = 0; i < 500; i++) {
+            auditLog.publishNow(AuditAction.EDIT_PRIORITY, "User1@gmail.com", "task" + i, "LOW>HIGH");
+        }
+        auditLog.shutdown();
+        List<AuditRecord> records = replay();
+
+        //then
+        Assertions.assertEquals(2, AuditLogReader.segments(directory).size());
+        Assertions.assertTrue(records.size() < 500);
+        Assertions.assertEquals(499, records.get(records.size() - 1).sequence());
+        Assertions.assertEquals("task499", records.get(records.size() - 1).title());
+    }
+
+
+    private AuditLog open() {
+        return open(MAX_SEGMENTS);
+    }
+
+    private AuditLog open(int maxSegments) {
+        return new AuditLog(new SimpleMeterRegistry(), directory.toString(), SEGMENT_SIZE, maxSegments, 1024, 1000L);
+    }
+
+    private void corruptSecondRecord(Path segment) throws Exception {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            channel.read(length, HEADER);
+            long second = HEADER + FRAME + length.getInt(0);
+            channel.write(ByteBuffer.wrap(new byte[]{'X'}), second + FRAME + 20);
+        }
+    }
+
+    private List<AuditRecord> replay() throws Exception {
+        List<AuditRecord> records = new ArrayList<>();
+        AuditLogReader.replay(directory, records::add);
+        return records;
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.dto.BatchOperationDto;
+import com.example.taskmanagersystem.dto.BatchRequestDto;
+import com.example.taskmanagersystem.dto.CreateTaskDto;
+import com.example.taskmanagersystem.dto.CycleTimeDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.UserEntity;
+import com.example.taskmanagersystem.repository.UserRepository;
+import com.example.taskmanagersystem.service.impl.TaskBatchServiceImpl;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest
+public class CycleTimeTest {
+
+    private static final String ADMIN = "User1@gmail.com";
+    private static final String CYCLER = "cycler@gmail.com";
+    private static final String PREFIX = "cycle test ";
+    private static final long HOUR = 3_600_000;
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private TaskBatchServiceImpl taskBatchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByEmail(CYCLER).isEmpty()) {
+            userRepository.save(new UserEntity(null, CYCLER, "Cycler", "password", new ArrayList<>()));
+        }
+        deleteTasks();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTasks();
+    }
+
+    @Test
+    void completionIsMeasuredFromHistoryTest() {
+        //given
+        create("high", Priority.HIGH);
+        taskService.editStatus(PREFIX + "high", Status.IN_PROGRESS, ADMIN);
+        jdbcTemplate.update("update task_status_history set changed_at = changed_at - interval '2 hours' where task_id = ? and from_status is null", id("high"));
+        jdbcTemplate.update("update task_status_history set changed_at = changed_at - interval '1 hour' where task_id = ? and to_status = 'IN_PROGRESS'", id("high"));
+
+        //when
+        taskService.editStatus(PREFIX + "high", Status.COMPLETED, ADMIN);
+        taskService.editStatus(PREFIX + "high", Status.COMPLETED, ADMIN);
+
+        //then
+        Assertions.assertEquals(List.of("null>PENDING", "PENDING>IN_PROGRESS", "IN_PROGRESS>COMPLETED"), history("high"));
+        CycleTimeDto cycleTime = cycleTime(Priority.HIGH);
+        Assertions.assertEquals(1, cycleTime.getCycleTime().getCount());
+        Assertions.assertEquals(HOUR, cycleTime.getCycleTime().getP50(), HOUR / 100.0);
+        Assertions.assertEquals(2 * HOUR, cycleTime.getLeadTime().getP99(), HOUR / 100.0);
+    }
+
+    @Test
+    void batchedChangesAreInsertedAtCommitTest() {
+        //given
+        create("low", Priority.LOW);
+        BatchRequestDto batch = new BatchRequestDto();
+        batch.setAtomic(true);
+        batch.setOperations(List.of(editStatus("low", "IN_PROGRESS"), editStatus("low", "COMPLETED")));
+
+        //when
+        long statements = SqlAssertions.countSql(() -> taskBatchService.executeBatch(batch, ADMIN));
+
+        //then
+        Assertions.assertEquals(List.of("null>PENDING", "PENDING>IN_PROGRESS", "IN_PROGRESS>COMPLETED"), history("low"));
+        Assertions.assertEquals(1, cycleTime(Priority.LOW).getCycleTime().getCount());
+        Assertions.assertTrue(statements < 10, statements + " statements");
+    }
+
+
+    private void create(String name, Priority priority) {
+        taskService.createTask(new CreateTaskDto(PREFIX + name, "description", "PENDING", priority.name(), "Cycler"), ADMIN);
+    }
+
+    private BatchOperationDto editStatus(String name, String status) {
+        BatchOperationDto operation = new BatchOperationDto();
+        operation.setType("EDIT_STATUS");
+        operation.setTitle(PREFIX + name);
+        operation.setStatus(status);
+        return operation;
+    }
+
+    private Long id(String name) {
+        return jdbcTemplate.queryForObject("select id from tasks where title = ?", Long.class, PREFIX + name);
+    }
+
+    private List<String> history(String name) {
+        return jdbcTemplate.queryForList(
+                "select coalesce(from_status, 'null') || '>' || to_status from task_status_history where task_id = ? order by changed_at, id",
+                String.class, id(name));
+    }
+
+    private CycleTimeDto cycleTime(Priority priority) {
+        return taskService.showCycleTimes().stream()
+                .filter(cycleTime -> cycleTime.getExecutor().equals("Cycler") && cycleTime.getPriority() == priority)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void deleteTasks() {
+        jdbcTemplate.update("delete from task_status_history where task_id in (select id from tasks where title like ?)", PREFIX + "%");
+        taskService.suggestTitles(PREFIX, 50).forEach(taskService::deleteTask);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.cache.ExecutorTasksCache;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.model.UserEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ExecutorTasksCacheTest {
+
+    private final ExecutorTasksCache executorTasksCache = new ExecutorTasksCache(new ConcurrentMapCacheManager("executorTasks"));
+
+    @Test
+    void evictDropsOnlyPagesOfExecutorTest() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        UserEntity executor = new UserEntity();
+        executor.setEmail("User2@gmail.com");
+        executorTasksCache.get("User2@gmail.com", 20, 0, () -> load(loads));
+        executorTasksCache.get("User2@gmail.com", 20, 1, () -> load(loads));
+        executorTasksCache.get("User3@gmail.com", 20, 0, () -> load(loads));
+
+        //when
+        executorTasksCache.evict(executor);
+        executorTasksCache.get("User2@gmail.com", 20, 0, () -> load(loads));
+        executorTasksCache.get("User2@gmail.com", 20, 1, () -> load(loads));
+        executorTasksCache.get("User3@gmail.com", 20, 0, () -> load(loads));
+
+        //then
+        Assertions.assertEquals(5, loads.get());
+    }
+
+    @Test
+    void repeatedPageIsServedFromCacheTest() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+
+        //when
+        List<TaskResponseDto> first = executorTasksCache.get("User2@gmail.com", 20, 0, () -> load(loads));
+        List<TaskResponseDto> second = executorTasksCache.get("User2@gmail.com", 20, 0, () -> load(loads));
+
+        //then
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    private List<TaskResponseDto> load(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return List.of();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.taskmanagersystem;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.annotation.ScheduledAnnotationBeanPostProcessor;
+import org.springframework.scheduling.config.ScheduledTask;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+@SpringBootTest
+@ActiveProfiles("fast-startup")
+public class FastStartupTest {
+
+    @Autowired
+    private ScheduledAnnotationBeanPostProcessor scheduledAnnotationBeanPostProcessor;
+
+    @Autowired
+    private ConfigurableListableBeanFactory beanFactory;
+
+    @Test
+    void backgroundBeansAreCreatedOnStartupTest() {
+        //given
+        List<String> scheduled = scheduledAnnotationBeanPostProcessor.getScheduledTasks().stream()
+                .map(ScheduledTask::toString)
+                .toList();
+
+        //then
+        Assertions.assertTrue(scheduled.stream().anyMatch(task -> task.endsWith("TaskArchiveServiceImpl.archiveCompletedTasks")), scheduled.toString());
+        Assertions.assertTrue(scheduled.stream().anyMatch(task -> task.endsWith("TaskStatistics.reconcile")), scheduled.toString());
+        Assertions.assertTrue(scheduled.stream().anyMatch(task -> task.endsWith("TaskBitmapIndex.reconcile")), scheduled.toString());
+        for (String bean : List.of("taskArchiveServiceImpl", "taskStatistics", "taskBitmapIndex", "taskTitleIndex",
+                "userAvailabilityFilter", "cycleTimeHistograms", "auditLog")) {
+            Assertions.assertFalse(beanFactory.getBeanDefinition(bean).isLazyInit(), bean);
+            Assertions.assertTrue(beanFactory.containsSingleton(bean), bean);
+        }
+        Assertions.assertTrue(beanFactory.getBeanDefinition("adminTaskController").isLazyInit());
+        Assertions.assertFalse(beanFactory.containsSingleton("adminTaskController"));
+    }
+}
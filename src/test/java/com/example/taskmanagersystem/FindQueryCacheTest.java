@@ -0,0 +1,165 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.cache.FindQueryCache;
+import com.example.taskmanagersystem.cache.FindQueryCache.TaskState;
+import com.example.taskmanagersystem.cache.TaskCache;
+import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.anyList;
+
+public class FindQueryCacheTest {
+
+    private final TaskCache taskCache = Mockito.mock(TaskCache.class);
+    private FindQueryCache findQueryCache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.registerCustomCache("findQueries", Caffeine.newBuilder().build());
+        findQueryCache = new FindQueryCache(cacheManager, taskCache);
+        Mockito.when(taskCache.getAll(anyList())).thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+                .map(title -> new TaskResponseDto(title, null, Status.PENDING, Priority.HIGH, "user2", "user1", List.of()))
+                .toList());
+    }
+
+    @Test
+    void repeatedQueryIsServedFromCacheTest() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        FindTasksDto first = find("PENDING", null, null);
+        first.setNonStatus("COMPLETED");
+        FindTasksDto second = find("PENDING", null, null);
+
+        //when
+        List<TaskResponseDto> loaded = findQueryCache.get(first, 20, 0, () -> load(loads, "task1"));
+        List<TaskResponseDto> cached = findQueryCache.get(second, 20, 0, () -> load(loads, "task1"));
+        findQueryCache.get(second, 20, 1, () -> load(loads));
+
+        //then
+        Assertions.assertEquals(2, loads.get());
+        Assertions.assertEquals(loaded, cached);
+        Mockito.verify(taskCache).getAll(List.of("task1"));
+    }
+
+    @Test
+    void existsIsAnsweredByCachedCountTest() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        FindTasksDto query = find(null, "HIGH", null);
+        query.setCountCommentsGreater(1);
+
+        //when
+        Long count = findQueryCache.count(query, () -> (long) loads.incrementAndGet());
+        Boolean exists = findQueryCache.exists(query, () -> loads.incrementAndGet() > 0);
+        findQueryCache.evictCommentCounts(new TaskState(Status.PENDING, Priority.HIGH, "user2", "user1"));
+        Long recounted = findQueryCache.count(query, () -> (long) loads.incrementAndGet());
+
+        //then
+        Assertions.assertEquals(1L, count);
+        Assertions.assertTrue(exists);
+        Assertions.assertEquals(2L, recounted);
+    }
+
+    @Test
+    void statusChangeEvictsOnlyAffectedStatusFiltersTest() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        List<FindTasksDto> queries = List.of(
+                find("PENDING", null, null),
+                find("COMPLETED", null, null),
+                find("IN_PROGRESS", null, null),
+                find(null, "HIGH", null),
+                find(null, null, "user2"));
+        queries.forEach(query -> findQueryCache.get(query, 20, 0, () -> load(loads)));
+
+        //when
+        findQueryCache.evict(new TaskState(Status.PENDING, Priority.HIGH, "user2", "user1"),
+                new TaskState(Status.COMPLETED, Priority.HIGH, "user2", "user1"));
+        queries.forEach(query -> findQueryCache.get(query, 20, 0, () -> load(loads)));
+
+        //then
+        Assertions.assertEquals(queries.size() + 2, loads.get());
+    }
+
+    @Test
+    void executorChangeEvictsOnlyAffectedExecutorFiltersTest() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        List<FindTasksDto> queries = List.of(
+                find(null, null, "user2"),
+                find(null, null, "user3"),
+                find(null, null, "user1"),
+                find("PENDING", null, null));
+        queries.forEach(query -> findQueryCache.get(query, 20, 0, () -> load(loads)));
+
+        //when
+        findQueryCache.evict(new TaskState(Status.PENDING, Priority.HIGH, "user2", "user1"),
+                new TaskState(Status.PENDING, Priority.HIGH, "user3", "user1"));
+        queries.forEach(query -> findQueryCache.get(query, 20, 0, () -> load(loads)));
+
+        //then
+        Assertions.assertEquals(queries.size() + 2, loads.get());
+    }
+
+    @Test
+    void createdTaskEvictsMatchingFiltersTest() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        List<FindTasksDto> queries = List.of(
+                find(null, null, null),
+                find("PENDING", "HIGH", null),
+                find("PENDING", "LOW", null));
+        queries.forEach(query -> findQueryCache.get(query, 20, 0, () -> load(loads)));
+
+        //when
+        findQueryCache.evict(null, new TaskState(Status.PENDING, Priority.HIGH, "user2", "user1"));
+        queries.forEach(query -> findQueryCache.get(query, 20, 0, () -> load(loads)));
+
+        //then
+        Assertions.assertEquals(queries.size() + 2, loads.get());
+    }
+
+    @Test
+    void resultLoadedDuringEvictionIsNotCachedTest() {
+        //given
+        AtomicInteger loads = new AtomicInteger();
+        FindTasksDto query = find("PENDING", null, null);
+
+        //when
+        findQueryCache.get(query, 20, 0, () -> {
+            findQueryCache.evict(null, new TaskState(Status.COMPLETED, Priority.LOW, "user2", "user1"));
+            return load(loads);
+        });
+        findQueryCache.get(query, 20, 0, () -> load(loads));
+
+        //then
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    private FindTasksDto find(String status, String priority, String executor) {
+        FindTasksDto params = new FindTasksDto();
+        params.setStatus(status);
+        params.setPriority(priority);
+        params.setExecutor(executor);
+        return params;
+    }
+
+    private List<TaskResponseDto> load(AtomicInteger loads, String... titles) {
+        loads.incrementAndGet();
+        return List.of(titles).stream()
+                .map(title -> new TaskResponseDto(title, null, Status.PENDING, Priority.HIGH, "user2", "user1", List.of()))
+                .toList();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.exceptions.ServiceOverloadedException;
+import com.example.taskmanagersystem.security.PasswordHashingExecutor;
+import com.example.taskmanagersystem.security.TunableBCryptPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+public class PasswordHashingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final PasswordHashingExecutor executor = new PasswordHashingExecutor(meterRegistry, 1, 1, 3L);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void saturatedExecutorRejectsTest() throws Exception {
+        //given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> executor.execute(() -> {
+            started.countDown();
+            await(release);
+            return "running";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> executor.execute(() -> "queued"));
+        while (meterRegistry.get("password.hashing.queue.size").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        //when
+        ServiceOverloadedException exception = assertThrowsExactly(ServiceOverloadedException.class,
+                () -> executor.execute(() -> "rejected"));
+        release.countDown();
+
+        //then
+        Assertions.assertEquals(3L, exception.getRetryAfter());
+        Assertions.assertEquals("running", running.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        Assertions.assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+        Assertions.assertEquals(2, meterRegistry.get("password.hashing.time").timer().count());
+        Assertions.assertEquals(2, meterRegistry.get("password.hashing.queue.wait").timer().count());
+    }
+
+    @Test
+    void hashWithOtherCostNeedsUpgradeTest() {
+        //given
+        TunableBCryptPasswordEncoder cheaper = new TunableBCryptPasswordEncoder(4);
+        TunableBCryptPasswordEncoder current = new TunableBCryptPasswordEncoder(10);
+        String storedHash = "$2a$10$BBNH/PNCsroV5ppAY2DJgeayU.jrleS9ERHcyBNcr0pWzHos4ScDW";
+
+        //when
+        boolean upgradeToCheaper = cheaper.upgradeEncoding(storedHash);
+        boolean upgradeToCurrent = current.upgradeEncoding(storedHash);
+
+        //then
+        Assertions.assertTrue(upgradeToCheaper);
+        Assertions.assertFalse(upgradeToCurrent);
+        Assertions.assertTrue(cheaper.matches("USER", storedHash));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.exceptions.ErrorInputDataException;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+public class ServiceMetricsTest {
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void serviceCallsAreTimedAndErrorsCountedTest() {
+        //given
+        double errors = deleteTaskErrors();
+
+        //when
+        taskService.showAllTasks(10, 0, null);
+        Assertions.assertThrows(ErrorInputDataException.class, () -> taskService.deleteTask("missing task"));
+
+        //then
+        Assertions.assertTrue(meterRegistry.get("service.method")
+                .tags("service", "TasksServiceImpl", "method", "showAllTasks", "outcome", "success").timer().count() >= 1);
+        Assertions.assertTrue(meterRegistry.get("service.method")
+                .tags("method", "deleteTask", "outcome", "error").timer().count() >= 1);
+        Assertions.assertEquals(errors + 1, deleteTaskErrors());
+    }
+
+    @Test
+    void cacheStatisticsArePublishedTest() {
+        //when
+        taskService.showTaskByTitle("task1");
+        taskService.showTaskByTitle("task1");
+
+        //then
+        Assertions.assertTrue(meterRegistry.get("cache.gets")
+                .tags("cache", "tasks", "result", "hit").functionCounter().count() >= 1);
+        Assertions.assertNotNull(meterRegistry.get("cache.gets").tags("cache", "executorTasks", "result", "miss").functionCounter());
+    }
+
+    private double deleteTaskErrors() {
+        Counter counter = meterRegistry.find("service.method.errors")
+                .tags("method", "deleteTask", "exception", "ErrorInputDataException").counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.metrics.SqlStatementStats;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * Assertions on the number of SQL statements run by a piece of code.
+ */
+public final class SqlAssertions {
+
+    private SqlAssertions() {
+    }
+
+    /**
+     * Runs the action on the current thread and asserts how many SQL statements it ran.
+     *
+     * @param expected the expected number of statements
+     * @param action   the code to run
+     */
+    public static void assertSqlCount(long expected, Runnable action) {
+        SqlStatementStats.start();
+        try {
+            action.run();
+        } finally {
+            Assertions.assertEquals(expected, SqlStatementStats.stop().getStatements(), "SQL statement count");
+        }
+    }
+
+    /**
+     * Runs the action on the current thread and counts the SQL statements it ran.
+     *
+     * @param action the code to run
+     * @return the number of statements
+     */
+    public static long countSql(Runnable action) {
+        SqlStatementStats.start();
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            SqlStatementStats.stop();
+            throw e;
+        }
+        return SqlStatementStats.stop().getStatements();
+    }
+}
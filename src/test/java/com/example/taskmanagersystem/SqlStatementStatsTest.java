@@ -0,0 +1,63 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.metrics.SqlStatementFilter;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.repository.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static com.example.taskmanagersystem.SqlAssertions.assertSqlCount;
+
+@SpringBootTest
+public class SqlStatementStatsTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void statementsAreCountedTest() {
+        //when //then
+        assertSqlCount(1, () -> taskRepository.existsByTitle("task1"));
+        assertSqlCount(2, () -> {
+            taskRepository.existsByTitle("task1");
+            taskRepository.existsByTitle("task2");
+        });
+    }
+
+    @Test
+    void cachedUserLookupRunsNoSqlTest() {
+        //given
+        userRepository.findByEmail("User2@gmail.com");
+
+        //when //then
+        assertSqlCount(0, () -> userRepository.findByEmail("User2@gmail.com"));
+    }
+
+    @Test
+    void filterReturnsCountsInHeadersTest() throws Exception {
+        //given
+        SqlStatementFilter filter = new SqlStatementFilter(true, 20L, 500L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/task/show/myTasks");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        //when
+        filter.doFilter(request, response, (req, res) -> {
+            taskRepository.existsByTitle("task1");
+            taskRepository.existsByTitle("task2");
+            taskRepository.existsByTitle("task3");
+            res.getWriter().write("body");
+        });
+
+        //then
+        Assertions.assertEquals("3", response.getHeader("X-Sql-Count"));
+        Assertions.assertNotNull(response.getHeader("X-Sql-Time"));
+        Assertions.assertEquals("body", response.getContentAsString());
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.dto.CommentCreateDto;
+import com.example.taskmanagersystem.dto.CreateTaskDto;
+import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.UserEntity;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.repository.UserRepository;
+import com.example.taskmanagersystem.service.impl.TaskArchiveServiceImpl;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@SpringBootTest
+public class TaskArchiveTest {
+
+    private static final String ADMIN = "User1@gmail.com";
+    private static final String ARCHIVER = "archiver@gmail.com";
+    private static final String PREFIX = "archive test ";
+    private static final LocalDateTime LONG_AGO = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    @Autowired
+    private TaskArchiveServiceImpl taskArchiveService;
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByEmail(ARCHIVER).isEmpty()) {
+            userRepository.save(new UserEntity(null, ARCHIVER, "Archiver", "password", new ArrayList<>()));
+        }
+        deleteTasks();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTasks();
+    }
+
+    @Test
+    void completedTaskIsMovedWithCommentsTest() {
+        //given
+        create("done", "COMPLETED");
+        create("pending", "PENDING");
+        taskService.addComment(new CommentCreateDto(PREFIX + "done", "archived comment"), ADMIN);
+        completeLongAgo("done");
+        taskService.showTasksByTitles(List.of(PREFIX + "done"));
+
+        //when
+        int archived = taskArchiveService.archiveCompletedTasks(LONG_AGO.plusDays(1));
+
+        //then
+        Assertions.assertEquals(1, archived);
+        Assertions.assertFalse(taskRepository.existsByTitle(PREFIX + "done"));
+        Assertions.assertTrue(taskRepository.existsByTitle(PREFIX + "pending"));
+        Assertions.assertFalse(taskService.showTasksByTitles(List.of(PREFIX + "done")).get(0).getFound());
+        Assertions.assertEquals(List.of(PREFIX + "pending"), taskService.suggestTitles(PREFIX, 10));
+        TaskResponseDto task = taskArchiveService.showTaskByTitleIncludingArchived(PREFIX + "done");
+        Assertions.assertEquals(Status.COMPLETED, task.getStatus());
+        Assertions.assertEquals("Archiver", task.getExecutorName());
+        Assertions.assertEquals(List.of("archived comment"), task.getComments().stream().map(comment -> comment.getText()).toList());
+    }
+
+    @Test
+    void recentlyCompletedTaskIsNotMovedTest() {
+        //given
+        create("done", "COMPLETED");
+        taskService.editStatus(PREFIX + "done", Status.PENDING, ADMIN);
+        taskService.editStatus(PREFIX + "done", Status.COMPLETED, ADMIN);
+
+        //when
+        int archived = taskArchiveService.archiveCompletedTasks(LocalDateTime.now().minusDays(1));
+
+        //then
+        Assertions.assertEquals(0, archived);
+        Assertions.assertTrue(taskRepository.existsByTitle(PREFIX + "done"));
+    }
+
+    @Test
+    void archivedTasksFollowHotTasksOnlyWhenIncludedTest() {
+        //given
+        create("hot 1", "PENDING");
+        create("hot 2", "IN_PROGRESS");
+        create("done", "COMPLETED");
+        completeLongAgo("done");
+        taskArchiveService.archiveCompletedTasks(LONG_AGO.plusDays(1));
+        FindTasksDto find = new FindTasksDto();
+        find.setExecutor("Archiver");
+
+        //when
+        List<TaskResponseDto> firstPage = taskArchiveService.showTaskByExecutorEmailIncludingArchived(ARCHIVER, 2, 0);
+        List<TaskResponseDto> secondPage = taskArchiveService.showTaskByExecutorEmailIncludingArchived(ARCHIVER, 2, 1);
+        List<TaskResponseDto> hotSecondPage = taskService.showTaskByExecutorEmail(ARCHIVER, 2, 1);
+        List<TaskResponseDto> found = taskArchiveService.showAllTasksBySpecificationIncludingArchived(find, 20, 0, null);
+        find.setNonStatus("COMPLETED");
+        List<TaskResponseDto> notCompleted = taskArchiveService.showAllTasksBySpecificationIncludingArchived(find, 20, 0, null);
+
+        //then
+        Assertions.assertEquals(List.of(PREFIX + "hot 1", PREFIX + "hot 2"), titles(firstPage));
+        Assertions.assertEquals(List.of(PREFIX + "done"), titles(secondPage));
+        Assertions.assertTrue(hotSecondPage.isEmpty());
+        Assertions.assertEquals(List.of(PREFIX + "hot 1", PREFIX + "hot 2", PREFIX + "done"), titles(found));
+        Assertions.assertEquals(List.of(PREFIX + "hot 1", PREFIX + "hot 2"), titles(notCompleted));
+    }
+
+
+    private void create(String name, String status) {
+        taskService.createTask(new CreateTaskDto(PREFIX + name, "description", status, "MEDIUM", "Archiver"), ADMIN);
+    }
+
+    private void completeLongAgo(String name) {
+        jdbcTemplate.update("update tasks set completed_at = ? where title = ?", LONG_AGO, PREFIX + name);
+    }
+
+    private List<String> titles(List<TaskResponseDto> tasks) {
+        return tasks.stream().map(TaskResponseDto::getTitle).toList();
+    }
+
+    private void deleteTasks() {
+        taskService.suggestTitles(PREFIX, 50).forEach(taskService::deleteTask);
+        jdbcTemplate.update("delete from comments_archive where task_id in (select id from tasks_archive where title like ?)", PREFIX + "%");
+        jdbcTemplate.update("delete from tasks_archive where title like ?", PREFIX + "%");
+    }
+}
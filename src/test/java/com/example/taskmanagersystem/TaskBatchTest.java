@@ -0,0 +1,159 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.dto.BatchOperationDto;
+import com.example.taskmanagersystem.dto.BatchOperationResultDto;
+import com.example.taskmanagersystem.dto.BatchRequestDto;
+import com.example.taskmanagersystem.dto.BatchResponseDto;
+import com.example.taskmanagersystem.dto.CommentCreateDto;
+import com.example.taskmanagersystem.dto.CreateTaskDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.TaskEntity;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.service.impl.TaskBatchServiceImpl;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+@SpringBootTest
+public class TaskBatchTest {
+
+    private static final String ADMIN = "User1@gmail.com";
+    private static final String TITLE = "batch task";
+
+    @Autowired
+    private TaskBatchServiceImpl taskBatchService;
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (taskRepository.existsByTitle(TITLE)) {
+            taskService.deleteTask(TITLE);
+        }
+    }
+
+    @Test
+    void atomicBatchIsRolledBackOnFailureTest() {
+        //given
+        BatchRequestDto batch = batch(true,
+                create(),
+                edit(TITLE, "EDIT_PRIORITY", operation -> operation.setPriority("HIGH")),
+                edit(TITLE, "EDIT_EXECUTOR", operation -> operation.setExecutor("User3")),
+                edit("missing", "EDIT_STATUS", operation -> operation.setStatus("COMPLETED")),
+                comment(TITLE));
+
+        //when
+        BatchResponseDto response = taskBatchService.executeBatch(batch, ADMIN);
+
+        //then
+        Assertions.assertFalse(response.getCommitted());
+        Assertions.assertEquals(Arrays.asList(200, 200, 200, 400, null), statuses(response));
+        Assertions.assertFalse(taskRepository.existsByTitle(TITLE));
+    }
+
+    @Test
+    void failedOperationIsRolledBackAloneTest() {
+        //given
+        BatchRequestDto batch = batch(false,
+                create(),
+                edit(TITLE, "EDIT_PRIORITY", operation -> operation.setPriority("LOW")),
+                edit(TITLE, "EDIT_EXECUTOR", operation -> operation.setExecutor("missing")),
+                edit(TITLE, "EDIT_STATUS", operation -> operation.setStatus("UNKNOWN")),
+                edit(TITLE, "EDIT_STATUS", operation -> operation.setStatus("COMPLETED")));
+
+        //when
+        BatchResponseDto response = taskBatchService.executeBatch(batch, ADMIN);
+
+        //then
+        Assertions.assertTrue(response.getCommitted());
+        Assertions.assertEquals(List.of(200, 200, 400, 400, 200), statuses(response));
+        TaskEntity task = taskRepository.findByTitle(TITLE).orElseThrow();
+        Assertions.assertEquals(Status.COMPLETED, task.getStatus());
+        Assertions.assertEquals(Priority.LOW, task.getPriority());
+        Assertions.assertEquals("User2", task.getExecutor().getUsername());
+    }
+
+    @Test
+    void adminOperationsAreForbiddenToUsersTest() {
+        //given
+        BatchRequestDto batch = batch(false,
+                edit("task1", "DELETE", operation -> { }),
+                edit("task1", "EDIT_PRIORITY", operation -> operation.setPriority("HIGH")));
+
+        //when
+        BatchResponseDto response = taskBatchService.executeBatch(batch, "User3@gmail.com");
+
+        //then
+        Assertions.assertEquals(List.of(403, 403), statuses(response));
+        Assertions.assertTrue(taskRepository.existsByTitle("task1"));
+    }
+
+    @Test
+    void batchLoadsTaskOnceTest() {
+        //given
+        Priority priority = taskRepository.findByTitle("task4").orElseThrow().getPriority();
+        Priority other = priority == Priority.HIGH ? Priority.LOW : Priority.HIGH;
+        AtomicReference<BatchResponseDto> response = new AtomicReference<>();
+        long separately = SqlAssertions.countSql(() -> {
+            taskService.editPriority("task4", other);
+            taskService.editPriority("task4", priority);
+        });
+
+        //when
+        long batched = SqlAssertions.countSql(() -> response.set(taskBatchService.executeBatch(batch(true,
+                edit("task4", "EDIT_PRIORITY", operation -> operation.setPriority(other.name())),
+                edit("task4", "EDIT_PRIORITY", operation -> operation.setPriority(priority.name()))), ADMIN)));
+
+        //then
+        Assertions.assertTrue(response.get().getCommitted());
+        Assertions.assertTrue(batched < separately, batched + " statements in a batch, " + separately + " separately");
+        Assertions.assertEquals(priority, taskRepository.findByTitle("task4").orElseThrow().getPriority());
+    }
+
+
+    private BatchRequestDto batch(boolean atomic, BatchOperationDto... operations) {
+        BatchRequestDto batch = new BatchRequestDto();
+        batch.setAtomic(atomic);
+        batch.setOperations(List.of(operations));
+        return batch;
+    }
+
+    private BatchOperationDto create() {
+        BatchOperationDto operation = new BatchOperationDto();
+        operation.setType("CREATE");
+        operation.setTask(new CreateTaskDto(TITLE, "description", "PENDING", "MEDIUM", "User2"));
+        return operation;
+    }
+
+    private BatchOperationDto comment(String title) {
+        BatchOperationDto operation = new BatchOperationDto();
+        operation.setType("COMMENT");
+        operation.setComment(new CommentCreateDto(title, "text"));
+        return operation;
+    }
+
+    private BatchOperationDto edit(String title, String type, Consumer<BatchOperationDto> parameters) {
+        BatchOperationDto operation = new BatchOperationDto();
+        operation.setType(type);
+        operation.setTitle(title);
+        parameters.accept(operation);
+        return operation;
+    }
+
+    private List<Integer> statuses(BatchResponseDto response) {
+        return response.getResults().stream().map(BatchOperationResultDto::getStatus).toList();
+    }
+}
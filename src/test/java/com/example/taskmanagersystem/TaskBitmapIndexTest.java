@@ -0,0 +1,208 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.cache.TaskBitmapIndex;
+import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.repository.TaskIndexEntry;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskBitmapIndexTest {
+
+    private static final String[] USERS = {"User1", "User2", "User3", "User4"};
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Test
+    void findMatchesFiltersLikeSqlTest() {
+        //given
+        Random random = new Random(42);
+        Map<Long, Task> tasks = new TreeMap<>();
+        for (long id = 1; id <= 20000; id++) {
+            if (random.nextInt(10) > 0) {
+                tasks.put(id, randomTask(random, id));
+            }
+        }
+        TaskBitmapIndex index = warmIndex(tasks.values());
+        for (int i = 0; i < 2000; i++) {
+            long id = 1 + random.nextInt(20500);
+            if (random.nextInt(4) == 0) {
+                tasks.remove(id);
+                index.remove(id);
+            } else {
+                Task task = randomTask(random, id);
+                tasks.put(id, task);
+                index.put(id, task.title, task.status, task.priority, task.executor, task.author);
+            }
+        }
+
+        for (int i = 0; i < 200; i++) {
+            //when
+            FindTasksDto params = randomParams(random);
+            int offset = random.nextInt(3);
+            List<String> found = index.findTitles(params, 50, offset).orElseThrow();
+            long count = index.count(params).orElseThrow();
+
+            //then
+            List<String> expected = tasks.values().stream().filter(matches(params))
+                    .skip(offset * 50L).limit(50).map(task -> task.title).toList();
+            Assertions.assertEquals(expected, found, params.toString());
+            Assertions.assertEquals(tasks.values().stream().filter(matches(params)).count(), count, params.toString());
+        }
+    }
+
+    @Test
+    void findFallsBackToSqlTest() {
+        //given
+        TaskBitmapIndex disabled = new TaskBitmapIndex(taskRepository, false);
+        TaskBitmapIndex index = warmIndex(List.of(new Task(1, Status.PENDING, Priority.LOW, "User1", "User2")));
+        FindTasksDto byComments = new FindTasksDto();
+        byComments.setCountCommentsEqual(0);
+        FindTasksDto byUnknownStatus = new FindTasksDto();
+        byUnknownStatus.setStatus("DONE");
+        FindTasksDto byUnknownExecutor = new FindTasksDto();
+        byUnknownExecutor.setExecutor("nobody");
+
+        //when //then
+        disabled.warmUp();
+        Assertions.assertEquals(Optional.empty(), disabled.findTitles(new FindTasksDto(), 10, 0));
+        Assertions.assertEquals(Optional.empty(), index.findTitles(byComments, 10, 0));
+        Assertions.assertEquals(OptionalLong.empty(), index.count(byComments));
+        Assertions.assertEquals(Optional.empty(), index.findTitles(byUnknownStatus, 10, 0));
+        Assertions.assertEquals(Optional.of(List.of()), index.findTitles(byUnknownExecutor, 10, 0));
+        Assertions.assertEquals(Optional.of(List.of("task 1")), index.findTitles(new FindTasksDto(), 10, 0));
+        Assertions.assertEquals(Optional.of(List.of()), index.findTitles(new FindTasksDto(), 10, 1));
+    }
+
+    @Test
+    void reconcileCorrectsChangesAppliedOutOfOrderTest() {
+        //given
+        Task pending = new Task(1, Status.PENDING, Priority.LOW, "User1", "User2");
+        Task other = new Task(2, Status.PENDING, Priority.LOW, "User1", "User2");
+        TaskBitmapIndex index = warmIndex(List.of(pending, other));
+        Task statusEdited = new Task(1, Status.IN_PROGRESS, Priority.LOW, "User1", "User2");
+        Task priorityEdited = new Task(1, Status.IN_PROGRESS, Priority.HIGH, "User1", "User2");
+        index.put(priorityEdited.id, priorityEdited.title, priorityEdited.status, priorityEdited.priority, priorityEdited.executor, priorityEdited.author);
+        index.put(statusEdited.id, statusEdited.title, statusEdited.status, statusEdited.priority, statusEdited.executor, statusEdited.author);
+        index.remove(other.id);
+        index.put(other.id, other.title, other.status, other.priority, other.executor, other.author);
+        FindTasksDto byHighPriority = new FindTasksDto();
+        byHighPriority.setPriority(Priority.HIGH.name());
+        Assertions.assertEquals(Optional.of(List.of()), index.findTitles(byHighPriority, 10, 0));
+        when(taskRepository.findIndexEntriesAfter(anyLong(), any(Limit.class))).thenReturn(List.of(entry(priorityEdited)));
+
+        //when
+        index.reconcile();
+
+        //then
+        Assertions.assertEquals(Optional.of(List.of("task 1")), index.findTitles(byHighPriority, 10, 0));
+        Assertions.assertEquals(Optional.of(List.of("task 1")), index.findTitles(new FindTasksDto(), 10, 0));
+    }
+
+    @Test
+    void reconcileKeepsChangesAppliedWhileReadingTest() {
+        //given
+        Task pending = new Task(1, Status.PENDING, Priority.LOW, "User1", "User2");
+        TaskBitmapIndex index = warmIndex(List.of(pending));
+        Task completed = new Task(1, Status.COMPLETED, Priority.LOW, "User1", "User2");
+        when(taskRepository.findIndexEntriesAfter(anyLong(), any(Limit.class))).thenAnswer(invocation -> {
+            index.put(completed.id, completed.title, completed.status, completed.priority, completed.executor, completed.author);
+            return List.of(entry(pending));
+        });
+
+        //when
+        index.reconcile();
+
+        //then
+        FindTasksDto byCompleted = new FindTasksDto();
+        byCompleted.setStatus(Status.COMPLETED.name());
+        Assertions.assertEquals(Optional.of(List.of("task 1")), index.findTitles(byCompleted, 10, 0));
+    }
+
+    private TaskBitmapIndex warmIndex(Collection<Task> tasks) {
+        List<TaskIndexEntry> entries = tasks.stream().map(this::entry).toList();
+        when(taskRepository.findIndexEntriesAfter(anyLong(), any(Limit.class))).thenReturn(entries);
+        TaskBitmapIndex index = new TaskBitmapIndex(taskRepository, true);
+        index.warmUp();
+        return index;
+    }
+
+    private Task randomTask(Random random, long id) {
+        return new Task(id, Status.values()[random.nextInt(3)], Priority.values()[random.nextInt(3)],
+                USERS[random.nextInt(USERS.length)], USERS[random.nextInt(USERS.length)]);
+    }
+
+    private FindTasksDto randomParams(Random random) {
+        FindTasksDto params = new FindTasksDto();
+        switch (random.nextInt(4)) {
+            case 1 -> params.setStatus(Status.values()[random.nextInt(3)].name());
+            case 2 -> params.setNonStatus(Status.values()[random.nextInt(3)].name());
+            default -> { }
+        }
+        switch (random.nextInt(4)) {
+            case 1 -> params.setPriority(Priority.values()[random.nextInt(3)].name());
+            case 2 -> params.setNonPriority(Priority.values()[random.nextInt(3)].name());
+            default -> { }
+        }
+        if (random.nextBoolean()) {
+            params.setExecutor(USERS[random.nextInt(USERS.length)]);
+        }
+        if (random.nextBoolean()) {
+            params.setAuthor(USERS[random.nextInt(USERS.length)]);
+        }
+        return params;
+    }
+
+    private Predicate<Task> matches(FindTasksDto params) {
+        return task -> (params.getStatus() == null || task.status.name().equals(params.getStatus()))
+                && (params.getNonStatus() == null || !task.status.name().equals(params.getNonStatus()))
+                && (params.getPriority() == null || task.priority.name().equals(params.getPriority()))
+                && (params.getNonPriority() == null || !task.priority.name().equals(params.getNonPriority()))
+                && (params.getExecutor() == null || task.executor.equals(params.getExecutor()))
+                && (params.getAuthor() == null || task.author.equals(params.getAuthor()));
+    }
+
+    private TaskIndexEntry entry(Task task) {
+        return new TaskIndexEntry() {
+            public Long getId() { return task.id; }
+            public String getTitle() { return task.title; }
+            public Status getStatus() { return task.status; }
+            public Priority getPriority() { return task.priority; }
+            public String getExecutor() { return task.executor; }
+            public String getAuthor() { return task.author; }
+        };
+    }
+
+    private static final class Task {
+        private final long id;
+        private final String title;
+        private final Status status;
+        private final Priority priority;
+        private final String executor;
+        private final String author;
+
+        private Task(long id, Status status, Priority priority, String executor, String author) {
+            this.id = id;
+            this.title = "task " + id;
+            this.status = status;
+            this.priority = priority;
+            this.executor = executor;
+            this.author = author;
+        }
+    }
+}
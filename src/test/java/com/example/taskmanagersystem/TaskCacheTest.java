@@ -0,0 +1,172 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.audit.AuditLog;
+import com.example.taskmanagersystem.cache.CycleTimeHistograms;
+import com.example.taskmanagersystem.cache.ExecutorTasksCache;
+import com.example.taskmanagersystem.cache.FindQueryCache;
+import com.example.taskmanagersystem.cache.TaskBitmapIndex;
+import com.example.taskmanagersystem.cache.TaskCache;
+import com.example.taskmanagersystem.cache.TaskStatistics;
+import com.example.taskmanagersystem.cache.TaskTitleIndex;
+import com.example.taskmanagersystem.cache.TaskCacheLoader;
+import com.example.taskmanagersystem.config.CacheConfig;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.mapper.CommentMapper;
+import com.example.taskmanagersystem.mapper.TaskMapper;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.TaskEntity;
+import com.example.taskmanagersystem.repository.CommentRepository;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.repository.TaskSpecification;
+import com.example.taskmanagersystem.repository.TaskStatusHistoryRepository;
+import com.example.taskmanagersystem.repository.UserRepository;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig(TaskCacheTest.Config.class)
+@TestPropertySource(properties = "cache.tasks.refresh-after-write=2000")
+public class TaskCacheTest {
+
+    @Configuration
+    @EnableCaching(proxyTargetClass = true)
+    @Import({CacheConfig.class, TaskCacheLoader.class, ExecutorTasksCache.class, TasksServiceImpl.class})
+    static class Config {
+    }
+
+    @MockBean
+    private TaskRepository taskRepository;
+
+    @MockBean
+    private UserRepository userRepository;
+
+    @MockBean
+    private TaskMapper taskMapper;
+
+    @MockBean
+    private CommentMapper commentMapper;
+
+    @MockBean
+    private CommentRepository commentRepository;
+
+    @MockBean
+    private TaskSpecification taskSpecification;
+
+    @MockBean
+    private TaskTitleIndex taskTitleIndex;
+
+    @MockBean
+    private TaskStatistics taskStatistics;
+
+    @MockBean
+    private TaskBitmapIndex taskBitmapIndex;
+
+    @MockBean
+    private TaskCache taskCache;
+
+    @MockBean
+    private FindQueryCache findQueryCache;
+
+    @MockBean
+    private TaskStatusHistoryRepository taskStatusHistoryRepository;
+
+    @MockBean
+    private CycleTimeHistograms cycleTimeHistograms;
+
+    @MockBean
+    private AuditLog auditLog;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final AtomicInteger version = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("tasks").clear();
+        when(taskRepository.findByTitle(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            TaskEntity task = new TaskEntity();
+            task.setTitle(invocation.getArgument(0));
+            task.setDescription("version" + version.get());
+            return Optional.of(task);
+        });
+        when(taskMapper.toTaskResponseDto(any())).thenAnswer(invocation -> {
+            TaskEntity task = invocation.getArgument(0);
+            return new TaskResponseDto(task.getTitle(), task.getDescription(), Status.PENDING, Priority.LOW, "author", "executor", List.of());
+        });
+    }
+
+    @Test
+    void concurrentMissesLoadOncePerKeyTest() throws Exception {
+        //given
+        List<String> titles = List.of("task1", "task2", "task3", "task4", "task5");
+        int readers = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(readers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<TaskResponseDto>> results = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < readers; i++) {
+            String title = titles.get(i % titles.size());
+            results.add(executor.submit(() -> {
+                start.await();
+                return taskService.showTaskByTitle(title);
+            }));
+        }
+        start.countDown();
+        for (int i = 0; i < readers; i++) {
+            Assertions.assertEquals(titles.get(i % titles.size()), results.get(i).get(10, TimeUnit.SECONDS).getTitle());
+        }
+        executor.shutdown();
+
+        //then
+        for (String title : titles) {
+            verify(taskRepository, times(1)).findByTitle(title);
+        }
+    }
+
+    @Test
+    void staleEntryIsServedWhileRefreshingTest() throws Exception {
+        //given
+        Assertions.assertEquals("version0", taskService.showTaskByTitle("task1").getDescription());
+        version.incrementAndGet();
+        Thread.sleep(2100);
+
+        //when
+        TaskResponseDto stale = taskService.showTaskByTitle("task1");
+
+        //then
+        Assertions.assertEquals("version0", stale.getDescription());
+        verify(taskRepository, timeout(5000).times(2)).findByTitle("task1");
+        Thread.sleep(300);
+        Assertions.assertEquals("version1", taskService.showTaskByTitle("task1").getDescription());
+    }
+}
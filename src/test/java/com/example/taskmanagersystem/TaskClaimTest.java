@@ -0,0 +1,113 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.dto.CreateTaskDto;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.UserEntity;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.repository.UserRepository;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+@SpringBootTest
+public class TaskClaimTest {
+
+    private static final String ADMIN = "User1@gmail.com";
+    private static final String CLAIMER = "claimer@gmail.com";
+    private static final String PREFIX = "claim test ";
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        if (userRepository.findByEmail(CLAIMER).isEmpty()) {
+            userRepository.save(new UserEntity(null, CLAIMER, "Claimer", "password", new ArrayList<>()));
+        }
+        deleteTasks();
+    }
+
+    @AfterEach
+    void tearDown() {
+        deleteTasks();
+    }
+
+    @Test
+    void claimTakesHighestPriorityPendingTaskTest() {
+        //given
+        create("low", "PENDING", "LOW");
+        create("high", "PENDING", "HIGH");
+        create("completed", "COMPLETED", "HIGH");
+        create("medium", "PENDING", "MEDIUM");
+        taskService.showTasksByTitles(List.of(PREFIX + "low"));
+
+        //when
+        List<Optional<TaskResponseDto>> claimed = IntStream.range(0, 4)
+                .mapToObj(i -> taskService.claimNextTask(CLAIMER))
+                .toList();
+
+        //then
+        Assertions.assertEquals(List.of(PREFIX + "high", PREFIX + "medium", PREFIX + "low"),
+                claimed.stream().flatMap(Optional::stream).map(TaskResponseDto::getTitle).toList());
+        Assertions.assertTrue(claimed.get(3).isEmpty());
+        Assertions.assertEquals(Status.IN_PROGRESS, claimed.get(0).orElseThrow().getStatus());
+        Assertions.assertEquals(Status.IN_PROGRESS, taskRepository.findByTitle(PREFIX + "low").orElseThrow().getStatus());
+        Assertions.assertEquals(Status.IN_PROGRESS, taskService.showTasksByTitles(List.of(PREFIX + "low")).get(0).getTask().getStatus());
+    }
+
+    @Test
+    void concurrentClaimsGetDistinctTasksTest() throws Exception {
+        //given
+        int tasks = 10;
+        for (int i = 0; i < tasks; i++) {
+            create(String.valueOf(i), "PENDING", i % 2 == 0 ? "HIGH" : "LOW");
+        }
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Optional<TaskResponseDto>>> claims = new ArrayList<>();
+        for (int i = 0; i < tasks + 6; i++) {
+            claims.add(executor.submit(() -> taskService.claimNextTask(CLAIMER)));
+        }
+        List<String> claimed = new ArrayList<>();
+        for (Future<Optional<TaskResponseDto>> claim : claims) {
+            claim.get().ifPresent(task -> claimed.add(task.getTitle()));
+        }
+        executor.shutdown();
+
+        //then
+        Set<String> distinct = new HashSet<>(claimed);
+        Assertions.assertEquals(tasks, claimed.size());
+        Assertions.assertEquals(tasks, distinct.size());
+    }
+
+
+    private void create(String name, String status, String priority) {
+        taskService.createTask(new CreateTaskDto(PREFIX + name, "description", status, priority, "Claimer"), ADMIN);
+    }
+
+    private void deleteTasks() {
+        taskService.suggestTitles(PREFIX, 50).forEach(taskService::deleteTask);
+    }
+}
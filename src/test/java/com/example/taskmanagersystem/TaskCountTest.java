@@ -0,0 +1,76 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.dto.CreateTaskDto;
+import com.example.taskmanagersystem.dto.FindTasksCountDto;
+import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.repository.TaskSpecification;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+public class TaskCountTest {
+
+    private static final String ADMIN = "User1@gmail.com";
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSpecification taskSpecification;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("findQueries").clear();
+    }
+
+    @Test
+    void countMatchesFoundTasksTest() {
+        //given
+        taskService.createTask(new CreateTaskDto("count 1", "d", "PENDING", "HIGH", "User2"), ADMIN);
+        taskService.createTask(new CreateTaskDto("count 2", "d", "COMPLETED", "HIGH", "User2"), ADMIN);
+        FindTasksDto findTasksDto = new FindTasksDto();
+        findTasksDto.setExecutor("User2");
+        findTasksDto.setCountCommentsLess(100);
+        FindTasksDto nothing = new FindTasksDto();
+        nothing.setExecutor("User2");
+        nothing.setCountCommentsGreater(100);
+
+        //when
+        FindTasksCountDto count = taskService.countTasksBySpecification(findTasksDto);
+        FindTasksCountDto exists = taskService.existsTasksBySpecification(findTasksDto);
+        FindTasksCountDto none = taskService.existsTasksBySpecification(nothing);
+
+        //then
+        Assertions.assertEquals(taskRepository.findAll(taskSpecification.build(findTasksDto)).size(), count.getCount());
+        Assertions.assertTrue(count.getExists());
+        Assertions.assertNull(exists.getCount());
+        Assertions.assertTrue(exists.getExists());
+        Assertions.assertFalse(none.getExists());
+    }
+
+    @Test
+    void countIsCachedTest() {
+        //given
+        FindTasksDto findTasksDto = new FindTasksDto();
+        findTasksDto.setCountCommentsEqual(0);
+
+        //when //then
+        SqlAssertions.assertSqlCount(1, () -> taskService.countTasksBySpecification(findTasksDto));
+        SqlAssertions.assertSqlCount(0, () -> taskService.countTasksBySpecification(findTasksDto));
+        SqlAssertions.assertSqlCount(0, () -> taskService.existsTasksBySpecification(findTasksDto));
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.dto.CreateTaskDto;
+import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.dto.FindTasksResponseDto;
+import com.example.taskmanagersystem.dto.TaskFacetsDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.TaskEntity;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.repository.TaskSpecification;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@SpringBootTest
+@Transactional
+public class TaskFacetsTest {
+
+    private static final String ADMIN = "User1@gmail.com";
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSpecification taskSpecification;
+
+    @Test
+    void facetsCountAllMatchingTasksTest() {
+        //given
+        taskService.createTask(new CreateTaskDto("facet 1", "d", "PENDING", "HIGH", "User2"), ADMIN);
+        taskService.createTask(new CreateTaskDto("facet 2", "d", "COMPLETED", "HIGH", "User3"), ADMIN);
+        taskService.createTask(new CreateTaskDto("facet 3", "d", "IN_PROGRESS", "HIGH", "User3"), ADMIN);
+        taskService.createTask(new CreateTaskDto("facet 4", "d", "IN_PROGRESS", "LOW", "User3"), ADMIN);
+        FindTasksDto findTasksDto = new FindTasksDto();
+        findTasksDto.setNonPriority("LOW");
+        List<TaskEntity> all = taskRepository.findAll(taskSpecification.build(findTasksDto));
+
+        //when
+        FindTasksResponseDto result = taskService.showAllTasksBySpecificationWithFacets(findTasksDto, 2, 0, 1, null);
+
+        //then
+        TaskFacetsDto facets = result.getFacets();
+        Assertions.assertEquals(2, result.getTasks().size());
+        Assertions.assertEquals(all.size(), facets.getTotal());
+        Assertions.assertEquals(counts(all, TaskEntity::getStatus), withoutZeros(facets.getStatus()));
+        Assertions.assertEquals(counts(all, TaskEntity::getPriority), withoutZeros(facets.getPriority()));
+        Assertions.assertEquals(0L, facets.getPriority().get(Priority.LOW));
+        Assertions.assertEquals(List.of(Status.values()), List.copyOf(facets.getStatus().keySet()));
+        Map<String, Long> executors = counts(all, task -> task.getExecutor().getUsername());
+        String topExecutor = executors.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .findFirst().orElseThrow().getKey();
+        Assertions.assertEquals(Map.of(topExecutor, executors.get(topExecutor)), facets.getExecutor());
+        Assertions.assertEquals(Map.of("User1", counts(all, task -> task.getAuthor().getUsername()).get("User1")), facets.getAuthor());
+    }
+
+    @Test
+    void facetsAreCountedInOneQueryTest() {
+        //given
+        FindTasksDto findTasksDto = new FindTasksDto();
+        findTasksDto.setExecutor("User3");
+        findTasksDto.setCountCommentsLess(5);
+
+        //when //then
+        SqlAssertions.assertSqlCount(1, () -> taskRepository.countFacets(taskSpecification.build(findTasksDto)));
+    }
+
+    private <K> Map<K, Long> counts(List<TaskEntity> tasks, Function<TaskEntity, K> facet) {
+        return tasks.stream().collect(Collectors.groupingBy(facet, Collectors.counting()));
+    }
+
+    private <K> Map<K, Long> withoutZeros(Map<K, Long> counts) {
+        return counts.entrySet().stream().filter(count -> count.getValue() > 0)
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+}
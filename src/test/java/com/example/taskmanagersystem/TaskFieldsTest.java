@@ -0,0 +1,109 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.dto.FindTasksDto;
+import com.example.taskmanagersystem.dto.TaskField;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.exceptions.ErrorInputDataException;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.TaskEntity;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+@SpringBootTest
+@Transactional
+public class TaskFieldsTest {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void projectionReadsOnlyRequestedFieldsTest() {
+        //given
+        Specification<TaskEntity> task1 = (root, query, cb) -> cb.equal(root.get("title"), "task1");
+        AtomicReference<List<TaskResponseDto>> found = new AtomicReference<>();
+
+        //when
+        SqlAssertions.assertSqlCount(1, () -> found.set(taskRepository.findFields(task1,
+                EnumSet.of(TaskField.STATUS, TaskField.EXECUTOR_NAME), PageRequest.of(0, 10))));
+
+        //then
+        TaskResponseDto task = found.get().get(0);
+        Assertions.assertEquals("task1", task.getTitle());
+        Assertions.assertEquals(Status.PENDING, task.getStatus());
+        Assertions.assertEquals("User2", task.getExecutorName());
+        Assertions.assertNull(task.getDescription());
+        Assertions.assertNull(task.getPriority());
+        Assertions.assertNull(task.getAuthorName());
+        Assertions.assertNull(task.getComments());
+    }
+
+    @Test
+    void projectionReadsCommentsOfPageInOneQueryTest() {
+        //given
+        AtomicReference<List<TaskResponseDto>> found = new AtomicReference<>();
+        TaskResponseDto task1 = taskService.showTaskByTitle("task1");
+
+        //when
+        SqlAssertions.assertSqlCount(2, () -> found.set(taskRepository.findFields(null,
+                EnumSet.of(TaskField.COMMENTS), PageRequest.of(0, 100))));
+
+        //then
+        TaskResponseDto task = found.get().stream().filter(dto -> dto.getTitle().equals("task1")).findFirst().orElseThrow();
+        Assertions.assertEquals(task1.getComments(), task.getComments());
+    }
+
+    @Test
+    void sqlFindPagesInIdentifierOrderTest() {
+        //given
+        FindTasksDto find = new FindTasksDto();
+        find.setCountCommentsLess(1000);
+        List<String> expected = jdbcTemplate.queryForList("select title from tasks order by id limit 2 offset 2", String.class);
+
+        //when
+        List<TaskResponseDto> tasks = taskService.showAllTasksBySpecification(find, 2, 1, null);
+        find.setCountCommentsLess(999);
+        List<TaskResponseDto> fields = taskService.showAllTasksBySpecification(find, 2, 1, EnumSet.of(TaskField.STATUS));
+
+        //then
+        Assertions.assertEquals(expected, tasks.stream().map(TaskResponseDto::getTitle).toList());
+        Assertions.assertEquals(expected, fields.stream().map(TaskResponseDto::getTitle).toList());
+    }
+
+    @Test
+    void fieldsAreParsedAndSerializedTest() throws Exception {
+        //given
+        TaskResponseDto task = new TaskResponseDto("task", "d", Status.PENDING, null, "User1", null, List.of());
+
+        //when
+        Map<?, ?> json = objectMapper.readValue(objectMapper.writeValueAsString(task), Map.class);
+
+        //then
+        Assertions.assertEquals(7, json.size());
+        Assertions.assertEquals(EnumSet.of(TaskField.TITLE, TaskField.EXECUTOR_NAME), TaskField.parse("title, executorName"));
+        Assertions.assertNull(TaskField.parse(null));
+        Assertions.assertThrows(ErrorInputDataException.class, () -> TaskField.parse("title,secret"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.dto.TaskLookupDto;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+@SpringBootTest
+public class TaskLookupTest {
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("tasks").clear();
+    }
+
+    @Test
+    void lookupKeepsRequestOrderAndMarksMissingTasksTest() {
+        //given
+        List<String> titles = List.of("task3", "missing", "task1", "task3");
+        AtomicReference<List<TaskLookupDto>> found = new AtomicReference<>();
+
+        //when
+        SqlAssertions.assertSqlCount(1, () -> found.set(taskService.showTasksByTitles(titles)));
+
+        //then
+        Assertions.assertEquals(titles, found.get().stream().map(TaskLookupDto::getTitle).toList());
+        Assertions.assertEquals(List.of(true, false, true, true), found.get().stream().map(TaskLookupDto::getFound).toList());
+        Assertions.assertNull(found.get().get(1).getTask());
+        Assertions.assertEquals("task1", found.get().get(2).getTask().getTitle());
+        Assertions.assertEquals(3, found.get().get(2).getTask().getComments().size());
+    }
+
+    @Test
+    void lookupLoadsOnlyCacheMissesTest() {
+        //given
+        taskService.showTasksByTitles(List.of("task1", "task2"));
+
+        //when //then
+        SqlAssertions.assertSqlCount(0, () -> taskService.showTasksByTitles(List.of("task2", "task1")));
+        SqlAssertions.assertSqlCount(1, () -> taskService.showTasksByTitles(List.of("task1", "task4")));
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.dto.CommentCreateDto;
+import com.example.taskmanagersystem.dto.CreateTaskDto;
+import com.example.taskmanagersystem.dto.TaskResponseDto;
+import com.example.taskmanagersystem.dto.TaskSearchResponseDto;
+import com.example.taskmanagersystem.exceptions.ErrorInputDataException;
+import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@SpringBootTest
+@Transactional
+public class TaskSearchTest {
+
+    private static final String ADMIN = "User1@gmail.com";
+
+    @Autowired
+    private TasksServiceImpl taskService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    void searchRanksTitleMatchesFirstTest() {
+        //given
+        taskService.createTask(new CreateTaskDto("search platypus", "feed the animals", "PENDING", "LOW", "User2"), ADMIN);
+        taskService.createTask(new CreateTaskDto("search feeding", "feed the platypus", "PENDING", "LOW", "User2"), ADMIN);
+
+        //when
+        TaskSearchResponseDto result = taskService.searchTasks("platypus", 10, null);
+
+        //then
+        Assertions.assertEquals(List.of("search platypus", "search feeding"), titles(result));
+        Assertions.assertNull(result.getNext());
+    }
+
+    @Test
+    void searchMatchesPrefixesAndCommentsTest() {
+        //given
+        taskService.createTask(new CreateTaskDto("search zebrafish", "migration of fish", "PENDING", "LOW", "User2"), ADMIN);
+        taskService.createTask(new CreateTaskDto("search other", "unrelated", "PENDING", "LOW", "User2"), ADMIN);
+        taskService.addComment(new CommentCreateDto("search other", "the quokka escaped"), ADMIN);
+
+        //when //then
+        Assertions.assertEquals(List.of("search zebrafish"), titles(taskService.searchTasks("zebra*", 10, null)));
+        Assertions.assertEquals(List.of(), titles(taskService.searchTasks("zebra", 10, null)));
+        Assertions.assertEquals(List.of("search other"), titles(taskService.searchTasks("quokka", 10, null)));
+        Assertions.assertEquals(List.of(), titles(taskService.searchTasks("quokka zebrafish", 10, null)));
+    }
+
+    @Test
+    void searchPagesWithCursorTest() {
+        //given
+        for (int i = 1; i <= 3; i++) {
+            taskService.createTask(new CreateTaskDto("search page" + i, "wombat burrow", "PENDING", "LOW", "User2"), ADMIN);
+        }
+
+        //when
+        TaskSearchResponseDto first = taskService.searchTasks("wombat", 2, null);
+        TaskSearchResponseDto second = taskService.searchTasks("wombat", 2, first.getNext());
+
+        //then
+        Assertions.assertEquals(List.of("search page3", "search page2"), titles(first));
+        Assertions.assertEquals(List.of("search page1"), titles(second));
+        Assertions.assertNull(second.getNext());
+        Assertions.assertThrows(ErrorInputDataException.class, () -> taskService.searchTasks("wombat", 2, "invalid"));
+        Assertions.assertThrows(ErrorInputDataException.class, () -> taskService.searchTasks("*", 2, null));
+    }
+
+    @Test
+    void searchLoadsFoundTasksInOneQueryTest() {
+        //given
+        for (String executor : List.of("User1", "User2", "User3")) {
+            taskService.createTask(new CreateTaskDto("search " + executor, "capybara pool", "PENDING", "LOW", executor), ADMIN);
+            taskService.addComment(new CommentCreateDto("search " + executor, "capybara"), ADMIN);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        //when //then
+        SqlAssertions.assertSqlCount(2, () -> Assertions.assertEquals(3, taskService.searchTasks("capybara", 10, null).getTasks().size()));
+    }
+
+    @Test
+    void searchVectorIsRebuiltOnlyWhenTextChangesTest() {
+        //given
+        taskService.createTask(new CreateTaskDto("search status", "axolotl tank", "PENDING", "LOW", "User2"), ADMIN);
+        jdbcTemplate.update("update tasks set search_vector = null where title = 'search status'");
+
+        //when
+        jdbcTemplate.update("update tasks set status = 'IN_PROGRESS', title = title, description = description where title = 'search status'");
+        Boolean unchanged = jdbcTemplate.queryForObject("select search_vector is null from tasks where title = 'search status'", Boolean.class);
+        jdbcTemplate.update("update tasks set description = 'axolotl aquarium' where title = 'search status'");
+
+        //then
+        Assertions.assertTrue(unchanged);
+        Assertions.assertEquals(List.of("search status"), titles(taskService.searchTasks("aquarium", 10, null)));
+    }
+
+    private List<String> titles(TaskSearchResponseDto result) {
+        return result.getTasks().stream().map(TaskResponseDto::getTitle).toList();
+    }
+}
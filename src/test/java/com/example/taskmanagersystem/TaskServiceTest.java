@@ -1,5 +1,13 @@
 package com.example.taskmanagersystem;
 
+import com.example.taskmanagersystem.audit.AuditLog;
+import com.example.taskmanagersystem.cache.CycleTimeHistograms;
+import com.example.taskmanagersystem.cache.ExecutorTasksCache;
+import com.example.taskmanagersystem.cache.FindQueryCache;
+import com.example.taskmanagersystem.cache.TaskBitmapIndex;
+import com.example.taskmanagersystem.cache.TaskCache;
+import com.example.taskmanagersystem.cache.TaskStatistics;
+import com.example.taskmanagersystem.cache.TaskTitleIndex;
 import com.example.taskmanagersystem.dto.CommentCreateDto;
 import com.example.taskmanagersystem.dto.CreateTaskDto;
 import com.example.taskmanagersystem.dto.FindTasksDto;
@@ -10,8 +18,10 @@ import com.example.taskmanagersystem.mapper.CommentMapper;
 import com.example.taskmanagersystem.mapper.TaskMapper;
 import com.example.taskmanagersystem.model.*;
 import com.example.taskmanagersystem.repository.CommentRepository;
+import com.example.taskmanagersystem.repository.TaskInsertResult;
 import com.example.taskmanagersystem.repository.TaskRepository;
 import com.example.taskmanagersystem.repository.TaskSpecification;
+import com.example.taskmanagersystem.repository.TaskStatusHistoryRepository;
 import com.example.taskmanagersystem.repository.UserRepository;
 import com.example.taskmanagersystem.service.impl.TasksServiceImpl;
 import org.junit.jupiter.api.Assertions;
@@ -31,6 +41,7 @@ import java.sql.Date;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
@@ -56,6 +67,33 @@ public class TaskServiceTest {
     @Mock
     private TaskSpecification taskSpecification;
 
+    @Mock
+    private ExecutorTasksCache executorTasksCache;
+
+    @Mock
+    private TaskTitleIndex taskTitleIndex;
+
+    @Mock
+    private TaskStatistics taskStatistics;
+
+    @Mock
+    private TaskBitmapIndex taskBitmapIndex;
+
+    @Mock
+    private TaskCache taskCache;
+
+    @Mock
+    private FindQueryCache findQueryCache;
+
+    @Mock
+    private TaskStatusHistoryRepository taskStatusHistoryRepository;
+
+    @Mock
+    private CycleTimeHistograms cycleTimeHistograms;
+
+    @Mock
+    private AuditLog auditLog;
+
     @InjectMocks
     private TasksServiceImpl taskService;
 
@@ -64,24 +102,57 @@ public class TaskServiceTest {
         //given
         CreateTaskDto createTaskDto = new CreateTaskDto("title", "disc", "PENDING", "LOW", "username");
         CreateTaskDto createTaskDto2 = new CreateTaskDto("true", "disc", "PENDING", "LOW", "username");
-        UserEntity userEntity = new UserEntity();
-        when(taskRepository.existsByTitle(createTaskDto.getTitle())).thenReturn(false);
-        when(taskRepository.existsByTitle("true")).thenReturn(true);
-        when(userRepository.findByUsername("username")).thenReturn(Optional.of(userEntity));
-        when(userRepository.findByEmail("user")).thenReturn(Optional.of(userEntity));
-        when(taskMapper.toTaskEntity(createTaskDto)).thenReturn(new TaskEntity());
+        CreateTaskDto createTaskDto3 = new CreateTaskDto("title3", "disc", "PENDING", "LOW", "unknown");
+        when(taskRepository.insertTask(eq("title"), eq("disc"), eq("PENDING"), eq("LOW"), eq("user"), eq("username"), any()))
+                .thenReturn(insertResult(1L, 2L, "executor", 3L));
+        when(taskRepository.insertTask(eq("true"), eq("disc"), eq("PENDING"), eq("LOW"), eq("user"), eq("username"), any()))
+                .thenReturn(insertResult(1L, 2L, "executor", null));
+        when(taskRepository.insertTask(eq("title3"), eq("disc"), eq("PENDING"), eq("LOW"), eq("user"), eq("unknown"), any()))
+                .thenReturn(insertResult(1L, null, null, null));
 
 
         //when
         taskService.createTask(createTaskDto,"user");
         Throwable exception = assertThrowsExactly(ErrorInputDataException.class,
                 ()->{taskService.createTask(createTaskDto2, "user");} );
+        Throwable exception2 = assertThrowsExactly(ErrorInputDataException.class,
+                ()->{taskService.createTask(createTaskDto3, "user");} );
 
         //then
-        verify(userRepository, times(1)).findByEmail("user");
-        verify(userRepository, times(1)).findByUsername("username");
-        verify(taskRepository, times(1)).existsByTitle("title");
-        assertEquals(ErrorInputDataException.class, exception.getClass());
+        verify(taskRepository, times(3)).insertTask(anyString(), anyString(), anyString(), anyString(), anyString(), anyString(), any());
+        verify(taskRepository, never()).save(any());
+        verify(executorTasksCache, times(1)).evict("executor");
+        assertEquals("Task true already exist", exception.getMessage());
+        assertEquals("User with username 'unknown' not found", exception2.getMessage());
+    }
+
+    private TaskInsertResult insertResult(Long authorId, Long executorId, String executorEmail, Long taskId) {
+        return new TaskInsertResult() {
+            @Override
+            public Long getAuthorId() {
+                return authorId;
+            }
+
+            @Override
+            public String getAuthorUsername() {
+                return "user";
+            }
+
+            @Override
+            public Long getExecutorId() {
+                return executorId;
+            }
+
+            @Override
+            public String getExecutorEmail() {
+                return executorEmail;
+            }
+
+            @Override
+            public Long getTaskId() {
+                return taskId;
+            }
+        };
     }
 
     @Test
@@ -150,7 +221,10 @@ public class TaskServiceTest {
     void editExecutorTest(){
         UserEntity userEntity = new UserEntity();
         userEntity.setEmail("username");
+        UserEntity oldExecutor = new UserEntity();
+        oldExecutor.setEmail("oldExecutor");
         TaskEntity task = new TaskEntity();
+        task.setExecutor(oldExecutor);
         when(taskRepository.findByTitle("title")).thenReturn(Optional.of(task));
         when(userRepository.findByUsername("username")).thenReturn(Optional.of(userEntity));
 
@@ -162,6 +236,8 @@ public class TaskServiceTest {
         //then
         verify(taskRepository, times(1)).findByTitle("title");
         verify(userRepository, times(1)).findByUsername("username");
+        verify(executorTasksCache, times(1)).evict(oldExecutor);
+        verify(executorTasksCache, times(1)).evict(userEntity);
     }
 
     @Test
@@ -235,7 +311,7 @@ public class TaskServiceTest {
         when(taskMapper.toTaskResponseDtoList(taskEntities.getContent())).thenReturn(List.of(new TaskResponseDto("title", "disc", Status.PENDING, Priority.HIGH, "username", "username", List.of())));
 
         //when
-        List<TaskResponseDto> taskResponseDto = taskService.showTaskByExecutorUsername("username", 20, 0);
+        List<TaskResponseDto> taskResponseDto = taskService.showTaskByExecutorUsername("username", 20, 0, null);
 
         //then
         Assertions.assertEquals("title", taskResponseDto.get(0).getTitle());
@@ -262,6 +338,7 @@ public class TaskServiceTest {
         when(taskRepository.findByExecutor(userEntity, PageRequest.of(0, 20))).thenReturn(taskEntities);
         when(userRepository.findByEmail("username")).thenReturn(Optional.of(userEntity));
         when(taskMapper.toTaskResponseDtoList(taskEntities.getContent())).thenReturn(List.of(new TaskResponseDto("title", "disc", Status.PENDING, Priority.HIGH, "username", "username", List.of())));
+        when(executorTasksCache.get(eq("username"), eq(20), eq(0), any())).thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(3)).get());
 
         //when
         List<TaskResponseDto> taskResponseDto = taskService.showTaskByExecutorEmail("username", 20, 0);
@@ -292,7 +369,7 @@ public class TaskServiceTest {
         when(taskMapper.toTaskResponseDtoList(taskEntities.getContent())).thenReturn(List.of(new TaskResponseDto("title", "disc", Status.PENDING, Priority.HIGH, "username", "username", List.of())));
 
         //when
-        List<TaskResponseDto> taskResponseDto = taskService.showAllTasks( 20, 0);
+        List<TaskResponseDto> taskResponseDto = taskService.showAllTasks( 20, 0, null);
 
         //then
         Assertions.assertEquals("title", taskResponseDto.get(0).getTitle());
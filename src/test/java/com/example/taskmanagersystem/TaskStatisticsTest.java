@@ -0,0 +1,85 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.cache.TaskStatistics;
+import com.example.taskmanagersystem.dto.TaskStatisticsDto;
+import com.example.taskmanagersystem.model.Priority;
+import com.example.taskmanagersystem.model.Status;
+import com.example.taskmanagersystem.model.TaskEntity;
+import com.example.taskmanagersystem.model.UserEntity;
+import com.example.taskmanagersystem.repository.TaskCount;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskStatisticsTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Test
+    void countersFollowMutationsTest() {
+        //given
+        TaskStatistics statistics = new TaskStatistics(taskRepository);
+        when(taskRepository.countByStatusPriorityAndExecutor()).thenReturn(List.of(
+                count(Status.PENDING, Priority.LOW, "User2", 3),
+                count(Status.COMPLETED, Priority.HIGH, "User3", 2)));
+        statistics.reconcile();
+        UserEntity user2 = new UserEntity();
+        user2.setUsername("User2");
+        TaskEntity task = new TaskEntity();
+        task.setStatus(Status.PENDING);
+        task.setPriority(Priority.LOW);
+        task.setExecutor(user2);
+
+        //when
+        statistics.increment(Status.IN_PROGRESS, Priority.MEDIUM, "User3");
+        statistics.decrement(task);
+        task.setStatus(Status.COMPLETED);
+        statistics.increment(task);
+        TaskStatisticsDto result = statistics.get();
+
+        //then
+        Assertions.assertEquals(6, result.getTotal());
+        Assertions.assertEquals(Map.of(Status.PENDING, 2L, Status.IN_PROGRESS, 1L, Status.COMPLETED, 3L), result.getByStatus());
+        Assertions.assertEquals(Map.of(Priority.LOW, 3L, Priority.MEDIUM, 1L, Priority.HIGH, 2L), result.getByPriority());
+        Assertions.assertEquals(Map.of(
+                "User2", Map.of(Status.PENDING, 2L, Status.IN_PROGRESS, 0L, Status.COMPLETED, 1L),
+                "User3", Map.of(Status.PENDING, 0L, Status.IN_PROGRESS, 1L, Status.COMPLETED, 2L)), result.getByExecutor());
+    }
+
+    @Test
+    void reconcileCorrectsDriftTest() {
+        //given
+        TaskStatistics statistics = new TaskStatistics(taskRepository);
+        when(taskRepository.countByStatusPriorityAndExecutor())
+                .thenReturn(List.of(count(Status.PENDING, Priority.LOW, "User2", 3)))
+                .thenReturn(List.of(count(Status.PENDING, Priority.LOW, "User2", 1)));
+        statistics.reconcile();
+        statistics.increment(Status.PENDING, Priority.HIGH, "User2");
+
+        //when
+        statistics.reconcile();
+
+        //then
+        Assertions.assertEquals(1, statistics.get().getTotal());
+        Assertions.assertEquals(Map.of(Priority.LOW, 1L, Priority.MEDIUM, 0L, Priority.HIGH, 0L), statistics.get().getByPriority());
+    }
+
+    private TaskCount count(Status status, Priority priority, String executor, long count) {
+        return new TaskCount() {
+            public Status getStatus() { return status; }
+            public Priority getPriority() { return priority; }
+            public String getExecutor() { return executor; }
+            public Long getCount() { return count; }
+        };
+    }
+}
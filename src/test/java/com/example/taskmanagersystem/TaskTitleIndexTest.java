@@ -0,0 +1,86 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.cache.TaskTitleIndex;
+import com.example.taskmanagersystem.repository.TaskRepository;
+import com.example.taskmanagersystem.repository.TaskTitle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class TaskTitleIndexTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Test
+    void suggestMatchesPrefixIgnoringCaseTest() {
+        //given
+        TaskTitleIndex index = new TaskTitleIndex(taskRepository, 4096);
+        when(taskRepository.findTitlesAfter(eq(0L), any(Limit.class)))
+                .thenReturn(titles(1, "Fix login", "fix logout", "Deploy", "FIX LOGGING", "fixture"));
+
+        //when
+        List<String> beforeWarmUp = index.suggest("fix", 10);
+        index.warmUp();
+
+        //then
+        Assertions.assertEquals(List.of(), beforeWarmUp);
+        Assertions.assertEquals(List.of("FIX LOGGING", "Fix login", "fix logout", "fixture"), index.suggest("FIX", 10));
+        Assertions.assertEquals(List.of("FIX LOGGING", "Fix login"), index.suggest("fix log", 2));
+        Assertions.assertEquals(List.of("Deploy"), index.suggest("d", 10));
+        Assertions.assertEquals(List.of(), index.suggest("z", 10));
+    }
+
+    @Test
+    void suggestReflectsChangesBeforeAndAfterCompactionTest() {
+        //given
+        TaskTitleIndex index = new TaskTitleIndex(taskRepository, 3);
+        List<TaskTitle> firstBatch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            firstBatch.add(titles(i + 1, String.format("task %04d", i * 2)).get(0));
+        }
+        when(taskRepository.findTitlesAfter(eq(0L), any(Limit.class))).thenReturn(firstBatch);
+        when(taskRepository.findTitlesAfter(eq(1000L), any(Limit.class))).thenReturn(titles(1001, "other"));
+        index.warmUp();
+
+        //when
+        index.add("task 0001");
+        index.remove("task 0002");
+        index.add("task 0002");
+        index.remove("task 0004");
+        List<String> beforeCompaction = index.suggest("task 000", 10);
+        index.add("task 0003");
+        index.remove("other");
+        index.add("task 0005");
+
+        //then
+        Assertions.assertEquals(List.of("task 0000", "task 0001", "task 0002", "task 0006", "task 0008"), beforeCompaction);
+        Assertions.assertEquals(List.of("task 0000", "task 0001", "task 0002", "task 0003", "task 0005", "task 0006", "task 0008"),
+                index.suggest("task 000", 10));
+        Assertions.assertEquals(List.of("task 1998"), index.suggest("task 1998", 10));
+        Assertions.assertEquals(List.of(), index.suggest("other", 10));
+    }
+
+    private List<TaskTitle> titles(long firstId, String... titles) {
+        List<TaskTitle> result = new ArrayList<>();
+        for (String title : titles) {
+            long id = firstId + result.size();
+            result.add(new TaskTitle() {
+                public Long getId() { return id; }
+                public String getTitle() { return title; }
+            });
+        }
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.cache.UserAvailabilityFilter;
+import com.example.taskmanagersystem.repository.UserIdentity;
+import com.example.taskmanagersystem.repository.UserRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UserAvailabilityFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Test
+    void warmFilterHasNoFalseNegativesTest() {
+        //given
+        UserAvailabilityFilter filter = new UserAvailabilityFilter(userRepository, 10_000L, 0.01);
+        List<UserIdentity> firstBatch = identities(1, 1000);
+        List<UserIdentity> secondBatch = identities(1001, 1500);
+        when(userRepository.findIdentitiesAfter(eq(0L), any(Limit.class))).thenReturn(firstBatch);
+        when(userRepository.findIdentitiesAfter(eq(1000L), any(Limit.class))).thenReturn(secondBatch);
+
+        //when
+        boolean beforeWarmUp = filter.mightContainEmail("User9999@gmail.com");
+        filter.warmUp();
+        filter.put("new@gmail.com", "new");
+
+        //then
+        Assertions.assertTrue(beforeWarmUp);
+        for (long id = 1; id <= 1500; id++) {
+            Assertions.assertTrue(filter.mightContainEmail("User" + id + "@gmail.com"));
+            Assertions.assertTrue(filter.mightContainUsername("User" + id));
+        }
+        Assertions.assertTrue(filter.mightContainEmail("new@gmail.com"));
+        Assertions.assertTrue(filter.mightContainUsername("new"));
+        Assertions.assertFalse(filter.mightContainUsername("new@gmail.com"));
+        int falsePositives = 0;
+        for (long id = 2000; id < 12000; id++) {
+            if (filter.mightContainEmail("User" + id + "@gmail.com")) {
+                falsePositives++;
+            }
+        }
+        Assertions.assertTrue(falsePositives < 200, "false positives: " + falsePositives);
+    }
+
+    private List<UserIdentity> identities(long from, long to) {
+        List<UserIdentity> identities = new ArrayList<>();
+        for (long id = from; id <= to; id++) {
+            long userId = id;
+            identities.add(new UserIdentity() {
+                public Long getId() { return userId; }
+                public String getEmail() { return "User" + userId + "@gmail.com"; }
+                public String getUsername() { return "User" + userId; }
+            });
+        }
+        return identities;
+    }
+}
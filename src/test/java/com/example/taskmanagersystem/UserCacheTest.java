@@ -0,0 +1,77 @@
+package com.example.taskmanagersystem;
+
+import com.example.taskmanagersystem.model.RoleEntity;
+import com.example.taskmanagersystem.model.UserEntity;
+import com.example.taskmanagersystem.repository.RoleRepository;
+import com.example.taskmanagersystem.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+public class UserCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void findByEmailRepeatIssuesNoSqlTest() {
+        //given
+        userRepository.findByEmail("User1@gmail.com");
+        statistics.clear();
+
+        //when
+        UserEntity user = userRepository.findByEmail("User1@gmail.com").orElseThrow();
+
+        //then
+        Assertions.assertEquals("User1", user.getUsername());
+        Assertions.assertEquals("ADMIN", user.getRoles().get(0).getName());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByUsernameRepeatIssuesNoSqlTest() {
+        //given
+        userRepository.findByUsername("User2");
+        statistics.clear();
+
+        //when
+        UserEntity user = userRepository.findByUsername("User2").orElseThrow();
+
+        //then
+        Assertions.assertEquals("User2@gmail.com", user.getEmail());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findRoleByNameRepeatIssuesNoSqlTest() {
+        //given
+        roleRepository.findByName("USER");
+        statistics.clear();
+
+        //when
+        RoleEntity role = roleRepository.findByName("USER");
+
+        //then
+        Assertions.assertEquals("USER", role.getName());
+        Assertions.assertEquals(0, statistics.getPrepareStatementCount());
+    }
+}